@@ -127,6 +127,11 @@ public class ProviderMetadataRegistryDelegate implements MetadataRegistry, Provi
         return metadataRegistry.getAllNamespaces(itemname);
     }
 
+    @Override
+    public Collection<Metadata> getItemMetadata(String itemname) {
+        return metadataRegistry.getItemMetadata(itemname);
+    }
+
     @Override
     public void removeItemMetadata(String itemname) {
         if (scriptedProvider.getAll().stream().anyMatch(MetadataPredicates.ofItem(itemname))) {
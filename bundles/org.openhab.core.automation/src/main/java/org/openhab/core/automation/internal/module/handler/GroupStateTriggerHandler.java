@@ -23,6 +23,7 @@ import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
 import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
@@ -96,6 +97,15 @@ public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implement
         return types;
     }
 
+    /**
+     * There is no event filter: the topics of the member events do not contain the group and the members can change at
+     * any time, so this subscriber cannot be indexed by a topic prefix and receives every item state event.
+     */
+    @Override
+    public @Nullable EventFilter getEventFilter() {
+        return null;
+    }
+
     @Override
     public void receive(Event event) {
         if (event instanceof ItemAddedEvent addedEvent) {
@@ -28,7 +28,6 @@ import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.Metadata;
 import org.openhab.core.items.MetadataKey;
-import org.openhab.core.items.MetadataPredicates;
 import org.openhab.core.items.MetadataRegistry;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -122,7 +121,7 @@ public class MetadataConsoleCommandExtension extends AbstractConsoleCommandExten
             metadataRegistry.stream().filter(m -> isInternal(m, internal)).map(Metadata::toString)
                     .forEach(console::println);
         } else if (namespace == null) {
-            metadataRegistry.stream().filter(MetadataPredicates.ofItem(itemName)).filter(m -> isInternal(m, internal))
+            metadataRegistry.getItemMetadata(itemName).stream().filter(m -> isInternal(m, internal))
                     .map(Metadata::toString).forEach(console::println);
         } else {
             MetadataKey key = new MetadataKey(namespace, itemName);
@@ -181,7 +180,7 @@ public class MetadataConsoleCommandExtension extends AbstractConsoleCommandExten
             console.println("Warning: Item " + itemName + " does not exist, removing metadata anyway.");
         }
         if (namespace == null) {
-            metadataRegistry.stream().filter(MetadataPredicates.ofItem(itemName)).map(Metadata::getUID)
+            metadataRegistry.getItemMetadata(itemName).stream().map(Metadata::getUID)
                     .forEach(key -> removeMetadata(console, key));
         } else {
             MetadataKey key = new MetadataKey(namespace, itemName);
@@ -17,14 +17,17 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.automation.RuleRegistry;
+import org.openhab.core.events.EventDispatchStatistics;
 import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.monitor.internal.metrics.BundleStateMetric;
+import org.openhab.core.io.monitor.internal.metrics.EventBusMetric;
 import org.openhab.core.io.monitor.internal.metrics.EventCountMetric;
 import org.openhab.core.io.monitor.internal.metrics.JVMMetric;
 import org.openhab.core.io.monitor.internal.metrics.OpenhabCoreMeterBinder;
 import org.openhab.core.io.monitor.internal.metrics.RuleMetric;
 import org.openhab.core.io.monitor.internal.metrics.ThingStateMetric;
 import org.openhab.core.io.monitor.internal.metrics.ThreadPoolMetric;
+import org.openhab.core.io.monitor.internal.metrics.UnitCacheMetric;
 import org.openhab.core.service.ReadyMarker;
 import org.openhab.core.service.ReadyMarkerFilter;
 import org.openhab.core.service.ReadyService;
@@ -59,14 +62,17 @@ public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, Me
     private final ReadyService readyService;
     private final ThingRegistry thingRegistry;
     private final RuleRegistry ruleRegistry;
+    private final EventDispatchStatistics eventDispatchStatistics;
 
     @Activate
     public DefaultMetricsRegistration(BundleContext bundleContext, final @Reference ReadyService readyService,
-            final @Reference ThingRegistry thingRegistry, final @Reference RuleRegistry ruleRegistry) {
+            final @Reference ThingRegistry thingRegistry, final @Reference RuleRegistry ruleRegistry,
+            final @Reference EventDispatchStatistics eventDispatchStatistics) {
         this.bundleContext = bundleContext;
         this.readyService = readyService;
         this.thingRegistry = thingRegistry;
         this.ruleRegistry = ruleRegistry;
+        this.eventDispatchStatistics = eventDispatchStatistics;
     }
 
     @Activate
@@ -91,6 +97,8 @@ public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, Me
         meters.add(new ThingStateMetric(bundleContext, thingRegistry, tags));
         meters.add(new EventCountMetric(bundleContext, tags));
         meters.add(new RuleMetric(bundleContext, tags, ruleRegistry));
+        meters.add(new EventBusMetric(bundleContext, eventDispatchStatistics, tags));
+        meters.add(new UnitCacheMetric(tags));
 
         meters.forEach(m -> m.bindTo(registry));
     }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventDispatchListener;
+import org.openhab.core.events.EventDispatchStatistics;
+import org.openhab.core.events.EventSubscriber;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link EventBusMetric} class implements a set of metrics for the event bus: the number of received events and
+ * the time to re-create them per event type, the delivery time per subscriber class, the size of the dispatching
+ * queues and the statistics of the ingest queue.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EventBusMetric implements OpenhabCoreMeterBinder, EventDispatchListener {
+
+    public static final String EVENTS_RECEIVED_METRIC_NAME = "openhab.eventbus.events.received";
+    public static final String EVENT_CREATION_METRIC_NAME = "openhab.eventbus.event.creation";
+    public static final String EVENT_DELIVERY_METRIC_NAME = "openhab.eventbus.event.delivery";
+    public static final String QUEUE_SIZE_METRIC_NAME = "openhab.eventbus.queue.size";
+    public static final String INGEST_QUEUE_SIZE_METRIC_NAME = "openhab.eventbus.ingest.queue.size";
+    public static final String INGEST_QUEUE_CAPACITY_METRIC_NAME = "openhab.eventbus.ingest.queue.capacity";
+    public static final String INGEST_DROPPED_METRIC_NAME = "openhab.eventbus.ingest.dropped";
+    public static final String INGEST_REJECTED_METRIC_NAME = "openhab.eventbus.ingest.rejected";
+    public static final String INGEST_BATCHES_METRIC_NAME = "openhab.eventbus.ingest.batches";
+    public static final String INGEST_LATENCY_METRIC_NAME = "openhab.eventbus.ingest.latency";
+
+    private static final Tag CORE_EVENTBUS_METRIC_TAG = Tag.of("metric", "openhab.core.metric.eventbus");
+    private static final String EVENT_TYPE_TAG_NAME = "type";
+    private static final String SUBSCRIBER_TAG_NAME = "subscriber";
+    private static final String QUEUE_TAG_NAME = "queue";
+
+    private final Logger logger = LoggerFactory.getLogger(EventBusMetric.class);
+    private final Set<Tag> tags = new HashSet<>();
+    private final BundleContext bundleContext;
+    private final EventDispatchStatistics eventDispatchStatistics;
+    private @Nullable MeterRegistry meterRegistry;
+    private @Nullable ServiceRegistration<?> eventDispatchListenerRegistration;
+
+    // the meters are looked up for every event, so they are cached instead of being looked up in the registry
+    private final Map<String, Counter> receivedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> creationTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> deliveryTimers = new ConcurrentHashMap<>();
+
+    public EventBusMetric(BundleContext bundleContext, EventDispatchStatistics eventDispatchStatistics,
+            Collection<Tag> tags) {
+        this.tags.addAll(tags);
+        this.tags.add(CORE_EVENTBUS_METRIC_TAG);
+        this.bundleContext = bundleContext;
+        this.eventDispatchStatistics = eventDispatchStatistics;
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("EventBusMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(INGEST_QUEUE_SIZE_METRIC_NAME, eventDispatchStatistics,
+                EventDispatchStatistics::getIngestQueueSize).tags(tags).register(meterRegistry);
+        Gauge.builder(INGEST_QUEUE_CAPACITY_METRIC_NAME, eventDispatchStatistics,
+                EventDispatchStatistics::getIngestQueueCapacity).tags(tags).register(meterRegistry);
+        FunctionCounter.builder(INGEST_DROPPED_METRIC_NAME, eventDispatchStatistics,
+                EventDispatchStatistics::getDroppedEvents).tags(tags).register(meterRegistry);
+        FunctionCounter.builder(INGEST_REJECTED_METRIC_NAME, eventDispatchStatistics,
+                EventDispatchStatistics::getRejectedEvents).tags(tags).register(meterRegistry);
+        // the average batch size is the rate of the latency count (drained events) divided by the rate of this counter
+        FunctionCounter.builder(INGEST_BATCHES_METRIC_NAME, eventDispatchStatistics,
+                EventDispatchStatistics::getDrainedBatches).tags(tags).register(meterRegistry);
+        FunctionTimer.builder(INGEST_LATENCY_METRIC_NAME, eventDispatchStatistics,
+                EventDispatchStatistics::getDrainedEvents, EventDispatchStatistics::getTotalIngestLatencyNanos,
+                TimeUnit.NANOSECONDS).tags(tags).register(meterRegistry);
+        eventDispatchStatistics.getQueueSizes().keySet().forEach(this::executorCreated);
+
+        this.eventDispatchListenerRegistration = bundleContext.registerService(EventDispatchListener.class.getName(),
+                this, null);
+    }
+
+    @Override
+    public void unbind() {
+        ServiceRegistration<?> eventDispatchListenerRegistration = this.eventDispatchListenerRegistration;
+        if (eventDispatchListenerRegistration != null) {
+            eventDispatchListenerRegistration.unregister();
+            this.eventDispatchListenerRegistration = null;
+        }
+
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        this.meterRegistry = null;
+        receivedCounters.clear();
+        creationTimers.clear();
+        deliveryTimers.clear();
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_EVENTBUS_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+    }
+
+    @Override
+    public void eventReceived(String eventType) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry != null) {
+            receivedCounters.computeIfAbsent(eventType,
+                    type -> meterRegistry.counter(EVENTS_RECEIVED_METRIC_NAME, withTag(EVENT_TYPE_TAG_NAME, type)))
+                    .increment();
+        }
+    }
+
+    @Override
+    public void eventCreated(String eventType, long durationNanos) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry != null) {
+            creationTimers.computeIfAbsent(eventType,
+                    type -> meterRegistry.timer(EVENT_CREATION_METRIC_NAME, withTag(EVENT_TYPE_TAG_NAME, type)))
+                    .record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void eventDelivered(EventSubscriber eventSubscriber, Event event, long durationNanos) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry != null) {
+            // tagged by class: one timer per subscriber instance (e.g. per rule trigger) would not scale
+            deliveryTimers.computeIfAbsent(eventSubscriber.getClass().getName(),
+                    subscriber -> Timer.builder(EVENT_DELIVERY_METRIC_NAME)
+                            .tags(withTag(SUBSCRIBER_TAG_NAME, subscriber)).publishPercentileHistogram()
+                            .register(meterRegistry))
+                    .record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void executorCreated(String executorName) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry != null) {
+            Gauge.builder(QUEUE_SIZE_METRIC_NAME, eventDispatchStatistics,
+                    statistics -> statistics.getQueueSizes().getOrDefault(executorName, 0))
+                    .tags(withTag(QUEUE_TAG_NAME, executorName)).register(meterRegistry);
+        }
+    }
+
+    private Set<Tag> withTag(String key, String value) {
+        Set<Tag> tagsWithValue = new HashSet<>(tags);
+        tagsWithValue.add(Tag.of(key, value));
+        return tagsWithValue;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.util.UnitCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+/**
+ * The {@link UnitCacheMetric} class implements metrics for the {@link UnitCache}: the hits and misses of the unit
+ * converters and of the parsed unit symbols, and the number of cached entries.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class UnitCacheMetric implements OpenhabCoreMeterBinder {
+
+    public static final String CACHE_HITS_METRIC_NAME = "openhab.unit.cache.hits";
+    public static final String CACHE_MISSES_METRIC_NAME = "openhab.unit.cache.misses";
+    public static final String CACHE_SIZE_METRIC_NAME = "openhab.unit.cache.size";
+
+    private static final Tag CORE_UNIT_CACHE_METRIC_TAG = Tag.of("metric", "openhab.core.metric.unitcache");
+    private static final String CACHE_TAG_NAME = "cache";
+
+    private final Logger logger = LoggerFactory.getLogger(UnitCacheMetric.class);
+    private final Set<Tag> tags = new HashSet<>();
+    private @Nullable MeterRegistry meterRegistry;
+
+    public UnitCacheMetric(Collection<Tag> tags) {
+        this.tags.addAll(tags);
+        this.tags.add(CORE_UNIT_CACHE_METRIC_TAG);
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("UnitCacheMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+
+        registerCounter(meterRegistry, CACHE_HITS_METRIC_NAME, "converter", cache -> UnitCache.getConverterHits());
+        registerCounter(meterRegistry, CACHE_MISSES_METRIC_NAME, "converter", cache -> UnitCache.getConverterMisses());
+        registerCounter(meterRegistry, CACHE_HITS_METRIC_NAME, "unit", cache -> UnitCache.getUnitHits());
+        registerCounter(meterRegistry, CACHE_MISSES_METRIC_NAME, "unit", cache -> UnitCache.getUnitMisses());
+        Gauge.builder(CACHE_SIZE_METRIC_NAME, UnitCache.class, cache -> UnitCache.size()).tags(tags)
+                .register(meterRegistry);
+    }
+
+    private void registerCounter(MeterRegistry meterRegistry, String name, String cacheName,
+            ToDoubleFunction<Class<UnitCache>> function) {
+        Set<Tag> tagsWithCache = new HashSet<>(tags);
+        tagsWithCache.add(Tag.of(CACHE_TAG_NAME, cacheName));
+        FunctionCounter.builder(name, UnitCache.class, function).tags(tagsWithCache).register(meterRegistry);
+    }
+
+    @Override
+    public void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_UNIT_CACHE_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        this.meterRegistry = null;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.events.EventDispatchStatistics;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.types.OnOffType;
+import org.osgi.framework.BundleContext;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for EventBusMetric class
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class EventBusMetricTest {
+
+    @Test
+    public void testQueueSizeGaugesForExistingAndNewExecutors() {
+        EventDispatchStatistics statistics = mock(EventDispatchStatistics.class);
+        when(statistics.getQueueSizes()).thenReturn(Map.of("eventexecutor-0", 3));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EventBusMetric eventBusMetric = new EventBusMetric(mock(BundleContext.class), statistics, Set.of());
+
+        eventBusMetric.bindTo(meterRegistry);
+        assertEquals(3, meterRegistry.get(EventBusMetric.QUEUE_SIZE_METRIC_NAME).tag("queue", "eventexecutor-0")
+                .gauge().value());
+
+        eventBusMetric.executorCreated("eventexecutor-1");
+        when(statistics.getQueueSizes()).thenReturn(Map.of("eventexecutor-0", 3, "eventexecutor-1", 7));
+        assertEquals(7, meterRegistry.get(EventBusMetric.QUEUE_SIZE_METRIC_NAME).tag("queue", "eventexecutor-1")
+                .gauge().value());
+    }
+
+    @Test
+    public void testEventMeters() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EventBusMetric eventBusMetric = new EventBusMetric(mock(BundleContext.class),
+                mock(EventDispatchStatistics.class), Set.of());
+        eventBusMetric.bindTo(meterRegistry);
+
+        eventBusMetric.eventReceived(ItemStateEvent.TYPE);
+        eventBusMetric.eventReceived(ItemStateEvent.TYPE);
+        eventBusMetric.eventCreated(ItemStateEvent.TYPE, 1000);
+        EventSubscriber subscriber = mock(EventSubscriber.class);
+        eventBusMetric.eventDelivered(subscriber, ItemEventFactory.createStateEvent("Item", OnOffType.ON),
+                TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertEquals(2, meterRegistry.get(EventBusMetric.EVENTS_RECEIVED_METRIC_NAME)
+                .tag("type", ItemStateEvent.TYPE).counter().count());
+        assertEquals(1, meterRegistry.get(EventBusMetric.EVENT_CREATION_METRIC_NAME).tag("type", ItemStateEvent.TYPE)
+                .timer().count());
+        Timer deliveryTimer = meterRegistry.get(EventBusMetric.EVENT_DELIVERY_METRIC_NAME)
+                .tag("subscriber", subscriber.getClass().getName()).timer();
+        assertEquals(1, deliveryTimer.count());
+        assertEquals(5, deliveryTimer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    public void testUnbindRemovesMeters() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EventBusMetric eventBusMetric = new EventBusMetric(mock(BundleContext.class),
+                mock(EventDispatchStatistics.class), Set.of());
+        eventBusMetric.bindTo(meterRegistry);
+        eventBusMetric.eventReceived(ItemStateEvent.TYPE);
+
+        eventBusMetric.unbind();
+        eventBusMetric.eventReceived(ItemStateEvent.TYPE);
+
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    public void testMetersAreCreatedAgainInANewRegistry() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EventBusMetric eventBusMetric = new EventBusMetric(mock(BundleContext.class),
+                mock(EventDispatchStatistics.class), Set.of());
+        eventBusMetric.bindTo(meterRegistry);
+        eventBusMetric.eventReceived(ItemStateEvent.TYPE);
+
+        SimpleMeterRegistry newMeterRegistry = new SimpleMeterRegistry();
+        eventBusMetric.bindTo(newMeterRegistry);
+        eventBusMetric.eventReceived(ItemStateEvent.TYPE);
+
+        assertTrue(meterRegistry.getMeters().isEmpty());
+        assertEquals(1, newMeterRegistry.get(EventBusMetric.EVENTS_RECEIVED_METRIC_NAME)
+                .tag("type", ItemStateEvent.TYPE).counter().count());
+    }
+}
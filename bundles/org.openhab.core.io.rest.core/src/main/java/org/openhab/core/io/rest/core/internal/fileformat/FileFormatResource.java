@@ -611,9 +611,7 @@ public class FileFormatResource implements RESTResource {
         Collection<Metadata> metadata = new ArrayList<>();
         for (Item item : items) {
             String itemName = item.getName();
-            metadataRegistry.getAll().stream().filter(md -> md.getUID().getItemName().equals(itemName)).forEach(md -> {
-                metadata.add(md);
-            });
+            metadata.addAll(metadataRegistry.getItemMetadata(itemName));
             itemChannelLinkRegistry.getLinks(itemName).forEach(link -> {
                 MetadataKey key = new MetadataKey("channel", itemName);
                 Metadata md = new Metadata(key, link.getLinkedUID().getAsString(),
@@ -1075,15 +1075,16 @@ public class ItemResource implements RESTResource {
 
     private void addMetadata(EnrichedItemDTO dto, Set<String> namespaces, @Nullable Predicate<Metadata> filter) {
         Map<String, Object> metadata = new HashMap<>();
-        for (String namespace : namespaces) {
-            MetadataKey key = new MetadataKey(namespace, dto.name);
-            Metadata md = metadataRegistry.get(key);
-            if (md != null && (filter == null || filter.test(md))) {
-                MetadataDTO mdDto = new MetadataDTO();
-                mdDto.value = md.getValue();
-                mdDto.config = md.getConfiguration().isEmpty() ? null : md.getConfiguration();
-                mdDto.editable = isEditable(key);
-                metadata.put(namespace, mdDto);
+        if (!namespaces.isEmpty()) {
+            for (Metadata md : metadataRegistry.getItemMetadata(dto.name)) {
+                String namespace = md.getUID().getNamespace();
+                if (namespaces.contains(namespace) && (filter == null || filter.test(md))) {
+                    MetadataDTO mdDto = new MetadataDTO();
+                    mdDto.value = md.getValue();
+                    mdDto.config = md.getConfiguration().isEmpty() ? null : md.getConfiguration();
+                    mdDto.editable = isEditable(md.getUID());
+                    metadata.put(namespace, mdDto);
+                }
             }
         }
         if (dto instanceof EnrichedGroupItemDTO tO) {
@@ -421,16 +421,23 @@ public class GenericItemProvider extends AbstractProvider<Item>
                     Map<String, Item> newItems = toItemMap(getItemsFromModel(modelName));
                     itemsMap.put(modelName, newItems.values());
                     if (!isIsolatedModel(modelName)) {
+                        List<Item> addedItems = new ArrayList<>();
+                        List<Item> changedOldItems = new ArrayList<>();
+                        List<Item> changedItems = new ArrayList<>();
                         for (Item newItem : newItems.values()) {
                             Item oldItem = oldItems.get(newItem.getName());
                             if (oldItem != null) {
                                 if (hasItemChanged(oldItem, newItem)) {
-                                    notifyListenersAboutUpdatedElement(oldItem, newItem);
+                                    changedOldItems.add(oldItem);
+                                    changedItems.add(newItem);
                                 }
                             } else {
-                                notifyListenersAboutAddedElement(newItem);
+                                addedItems.add(newItem);
                             }
                         }
+                        // notify about all items of the model at once, so that they are registered in one pass
+                        notifyListenersAboutAddedElements(addedItems);
+                        notifyListenersAboutUpdatedElements(changedOldItems, changedItems);
                     }
                     processBindingConfigsFromModel(modelName, type);
                     for (Item oldItem : oldItems.values()) {
@@ -115,12 +115,13 @@ public class YamlItemProvider extends AbstractProvider<Item> implements ItemProv
                 .requireNonNull(itemsMap.computeIfAbsent(modelName, k -> new ArrayList<>()));
         modelItems.addAll(added.keySet());
 
+        if (!isIsolatedModel(modelName)) {
+            // notify about all items of the model at once, so that they are registered in one pass
+            notifyListenersAboutAddedElements(added.keySet());
+        }
         added.forEach((item, itemDTO) -> {
             String name = item.getName();
             logger.debug("model {} added item {}", modelName, name);
-            if (!isIsolatedModel(modelName)) {
-                notifyListenersAboutAddedElement(item);
-            }
             processChannelLinks(modelName, name, itemDTO);
             processMetadata(modelName, name, itemDTO);
         });
@@ -138,22 +139,31 @@ public class YamlItemProvider extends AbstractProvider<Item> implements ItemProv
 
         Collection<Item> modelItems = Objects
                 .requireNonNull(itemsMap.computeIfAbsent(modelName, k -> new ArrayList<>()));
+        List<Item> addedItems = new ArrayList<>();
+        List<Item> oldItems = new ArrayList<>();
+        List<Item> updatedItems = new ArrayList<>();
         updated.forEach((item, itemDTO) -> {
             String name = item.getName();
             modelItems.stream().filter(i -> i.getName().equals(name)).findFirst().ifPresentOrElse(oldItem -> {
                 modelItems.remove(oldItem);
                 modelItems.add(item);
                 logger.debug("model {} updated item {}", modelName, name);
-                if (!isIsolatedModel(modelName)) {
-                    notifyListenersAboutUpdatedElement(oldItem, item);
-                }
+                oldItems.add(oldItem);
+                updatedItems.add(item);
             }, () -> {
                 modelItems.add(item);
                 logger.debug("model {} added item {}", modelName, name);
-                if (!isIsolatedModel(modelName)) {
-                    notifyListenersAboutAddedElement(item);
-                }
+                addedItems.add(item);
             });
+        });
+
+        if (!isIsolatedModel(modelName)) {
+            // notify about all items of the model at once, so that they are registered in one pass
+            notifyListenersAboutAddedElements(addedItems);
+            notifyListenersAboutUpdatedElements(oldItems, updatedItems);
+        }
+        updated.forEach((item, itemDTO) -> {
+            String name = item.getName();
             processChannelLinks(modelName, name, itemDTO);
             processMetadata(modelName, name, itemDTO);
         });
@@ -298,8 +298,19 @@ public class PersistenceManagerImpl implements ItemRegistryChangeListener, State
 
     @Override
     public void allItemsChanged(Collection<String> oldItemNames) {
-        addPersistenceListeners(oldItemNames);
-        addToPersistenceServiceContainer(oldItemNames);
+        Collection<Item> items = itemRegistry.getItems();
+        Set<String> itemNames = new HashSet<>();
+        for (Item item : items) {
+            itemNames.add(item.getName());
+            addItemToPersistenceListeners(item);
+            addItemToPersistenceServiceContainer(item);
+        }
+        // release the jobs of items that no longer exist
+        for (String oldItemName : oldItemNames) {
+            if (!itemNames.contains(oldItemName)) {
+                persistenceServiceContainers.values().forEach(container -> container.removeItem(oldItemName));
+            }
+        }
     }
 
     public void addPersistenceListeners(Collection<String> oldItemNames) {
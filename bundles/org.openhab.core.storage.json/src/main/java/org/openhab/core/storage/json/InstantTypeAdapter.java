@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.openhab.core.storage.json.internal;
+package org.openhab.core.storage.json;
 
 import java.lang.reflect.Type;
 import java.time.Instant;
@@ -12,15 +12,20 @@
  */
 package org.openhab.core.storage.json.internal;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,8 +44,9 @@ import org.openhab.core.config.core.OrderingMapSerializer;
 import org.openhab.core.config.core.OrderingSetSerializer;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.storage.Storage;
-import org.openhab.core.storage.json.internal.migration.TypeMigrationException;
-import org.openhab.core.storage.json.internal.migration.TypeMigrator;
+import org.openhab.core.storage.json.InstantTypeAdapter;
+import org.openhab.core.storage.json.migration.TypeMigrationException;
+import org.openhab.core.storage.json.migration.TypeMigrator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,7 +54,12 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * The JsonStorage is concrete implementation of the {@link Storage} interface.
@@ -57,6 +68,18 @@ import com.google.gson.JsonSyntaxException;
  * deferred write mechanism of WRITE_DELAY milliseconds is used to improve
  * performance. The service keeps backups in a /backup folder, and maintains a
  * maximum of MAX_FILES at any time
+ * <p>
+ * Optionally, decoded values are kept in a cache of a limited number of entries, so that reading the same entries over
+ * and over does not deserialize them every time. Cached values are shared with all callers, which must not modify
+ * them.
+ * <p>
+ * In journal mode, a flush only appends the changed entries to a journal file next to the database file, one JSON
+ * record per line. The database file and its backup are only written when the journal grows beyond its maximum size
+ * or when the storage is compacted explicitly. On startup, the journal is replayed on top of the database file. The
+ * format of the database file is the same in both modes.
+ * <p>
+ * The database file is read and written as a stream. The entries are kept as compact JSON strings and are only
+ * deserialized when they are requested.
  *
  * @author Chris Jackson - Initial contribution
  * @author Stefan Triller - Removed dependency to internal GSon packages
@@ -79,6 +102,8 @@ public class JsonStorage<T> implements Storage<T> {
     static final String VALUE = "value";
     private static final String BACKUP_EXTENSION = "backup";
     private static final String SEPARATOR = "--";
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String KEY = "key";
 
     private final ScheduledExecutorService scheduledExecutorService;
     private @Nullable ScheduledFuture<?> commitScheduledFuture;
@@ -89,6 +114,12 @@ public class JsonStorage<T> implements Storage<T> {
     private final @Nullable ClassLoader classLoader;
     private final Map<String, StorageEntry> map = new ConcurrentHashMap<>();
     private final Map<String, TypeMigrator> typeMigrators;
+    private final Map<String, Class<?>> loadedClasses = new ConcurrentHashMap<>();
+    private final @Nullable Map<String, CachedValue<T>> cache;
+    private final File journalFile;
+    private final long maxJournalSize;
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+    private long journalSize;
 
     private final transient Gson internalMapper;
     private final transient Gson entityMapper;
@@ -97,18 +128,43 @@ public class JsonStorage<T> implements Storage<T> {
 
     public JsonStorage(File file, @Nullable ClassLoader classLoader, int maxBackupFiles, int writeDelay,
             int maxDeferredPeriod, List<TypeMigrator> typeMigrators) {
+        this(file, classLoader, maxBackupFiles, writeDelay, maxDeferredPeriod, typeMigrators, 0);
+    }
+
+    public JsonStorage(File file, @Nullable ClassLoader classLoader, int maxBackupFiles, int writeDelay,
+            int maxDeferredPeriod, List<TypeMigrator> typeMigrators, int cacheSize) {
+        this(file, classLoader, maxBackupFiles, writeDelay, maxDeferredPeriod, typeMigrators, cacheSize, 0);
+    }
+
+    /**
+     * Creates a storage that keeps up to {@code cacheSize} decoded values and optionally writes its changes to a
+     * journal.
+     *
+     * @param cacheSize the maximum number of cached values, 0 disables the cache
+     * @param maxJournalSize the size in bytes the journal may reach before the database file is rewritten, 0 disables
+     *            the journal
+     */
+    public JsonStorage(File file, @Nullable ClassLoader classLoader, int maxBackupFiles, int writeDelay,
+            int maxDeferredPeriod, List<TypeMigrator> typeMigrators, int cacheSize, long maxJournalSize) {
         this.file = file;
         this.classLoader = classLoader;
         this.maxBackupFiles = maxBackupFiles;
         this.writeDelay = writeDelay;
         this.maxDeferredPeriod = maxDeferredPeriod;
         this.typeMigrators = typeMigrators.stream().collect(Collectors.toMap(TypeMigrator::getOldType, e -> e));
+        this.journalFile = new File(file.getPath() + JOURNAL_EXTENSION);
+        this.maxJournalSize = maxJournalSize;
+        this.cache = cacheSize > 0 ? new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, CachedValue<T>> eldest) {
+                return size() > cacheSize;
+            }
+        } : null;
 
+        // the outer map is read and written as a stream, so only the formatting of the internal mapper is used
         this.internalMapper = new GsonBuilder() //
-                .setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT) //
-                .registerTypeHierarchyAdapter(Map.class, new OrderingMapSerializer())//
-                .registerTypeHierarchyAdapter(Set.class, new OrderingSetSerializer())//
-                .registerTypeHierarchyAdapter(Map.class, new StorageEntryMapDeserializer()) //
                 .setPrettyPrinting() //
                 .create();
         this.entityMapper = new GsonBuilder() //
@@ -117,7 +173,6 @@ public class JsonStorage<T> implements Storage<T> {
                 .registerTypeHierarchyAdapter(Set.class, new OrderingSetSerializer())//
                 .registerTypeAdapter(Configuration.class, new ConfigurationDeserializer()) //
                 .registerTypeAdapter(Instant.class, new InstantTypeAdapter()) //
-                .setPrettyPrinting() //
                 .create();
 
         scheduledExecutorService = ThreadPoolManager.getScheduledPool("JsonStorage");
@@ -155,6 +210,15 @@ public class JsonStorage<T> implements Storage<T> {
             map.putAll(inputMap);
             logger.debug("Opened Json storage file at '{}'.", file.getAbsolutePath());
         }
+
+        if (journalFile.exists()) {
+            boolean complete = replayJournal();
+            journalSize = journalFile.length();
+            // a disabled or damaged journal is not continued, its records are moved to the database file
+            if (maxJournalSize <= 0 || !complete) {
+                writeDatabase();
+            }
+        }
     }
 
     @Override
@@ -163,22 +227,32 @@ public class JsonStorage<T> implements Storage<T> {
             return remove(key);
         }
 
-        StorageEntry val = new StorageEntry(value.getClass().getName(), entityMapper.toJsonTree(value));
+        StorageEntry val = new StorageEntry(value.getClass().getName(), entityMapper.toJson(value));
         StorageEntry previousValue = map.put(key, val);
+        CachedValue<T> cachedValue = invalidate(key);
+        pendingKeys.add(key);
         deferredCommit();
         if (previousValue == null) {
             return null;
         }
+        if (cachedValue != null && cachedValue.entry() == previousValue) {
+            return cachedValue.value();
+        }
         return deserialize(previousValue, null);
     }
 
     @Override
     public @Nullable T remove(String key) {
         StorageEntry removedElement = map.remove(key);
+        CachedValue<T> cachedValue = invalidate(key);
+        pendingKeys.add(key);
         deferredCommit();
         if (removedElement == null) {
             return null;
         }
+        if (cachedValue != null && cachedValue.entry() == removedElement) {
+            return cachedValue.value();
+        }
         return deserialize(removedElement, null);
     }
 
@@ -193,7 +267,37 @@ public class JsonStorage<T> implements Storage<T> {
         if (value == null) {
             return null;
         }
-        return deserialize(value, key);
+
+        Map<String, CachedValue<T>> cache = this.cache;
+        if (cache == null) {
+            return deserialize(value, key);
+        }
+        CachedValue<T> cachedValue;
+        synchronized (cache) {
+            cachedValue = cache.get(key);
+        }
+        // the entries are compared by identity, a value decoded from a replaced entry is never returned
+        if (cachedValue != null && cachedValue.entry() == value) {
+            return cachedValue.value();
+        }
+
+        T decodedValue = deserialize(value, key);
+        if (decodedValue != null) {
+            synchronized (cache) {
+                cache.put(key, new CachedValue<>(value, decodedValue));
+            }
+        }
+        return decodedValue;
+    }
+
+    private @Nullable CachedValue<T> invalidate(String key) {
+        Map<String, CachedValue<T>> cache = this.cache;
+        if (cache == null) {
+            return null;
+        }
+        synchronized (cache) {
+            return cache.remove(key);
+        }
     }
 
     @Override
@@ -231,25 +335,29 @@ public class JsonStorage<T> implements Storage<T> {
 
         try {
             String entityClassName = entry.getEntityClassName();
-            JsonElement entityValue = (JsonElement) entry.getValue();
+            String entityValue = (String) entry.getValue();
 
             TypeMigrator migrator = typeMigrators.get(entityClassName);
             if (migrator != null) {
                 entityClassName = migrator.getNewType();
-                entityValue = migrator.migrate(entityValue);
+                entityValue = migrator.migrate(JsonParser.parseString(entityValue)).toString();
                 if (key != null) {
                     map.put(key, new StorageEntry(entityClassName, entityValue));
+                    pendingKeys.add(key);
                     deferredCommit();
                 }
             }
 
             // load required class within the given bundle context
-            Class<T> loadedValueType;
+            Class<T> loadedValueType = (Class<T>) loadedClasses.get(entityClassName);
 
-            if (classLoader != null) {
-                loadedValueType = (Class<T>) classLoader.loadClass(entityClassName);
-            } else {
-                loadedValueType = (Class<T>) Class.forName(entityClassName);
+            if (loadedValueType == null) {
+                if (classLoader != null) {
+                    loadedValueType = (Class<T>) classLoader.loadClass(entityClassName);
+                } else {
+                    loadedValueType = (Class<T>) Class.forName(entityClassName);
+                }
+                loadedClasses.put(entityClassName, loadedValueType);
             }
 
             T value = entityMapper.fromJson(entityValue, loadedValueType);
@@ -265,30 +373,120 @@ public class JsonStorage<T> implements Storage<T> {
         }
     }
 
-    @SuppressWarnings({ "unchecked", "null" })
     private @Nullable Map<String, StorageEntry> readDatabase(File inputFile) {
         if (inputFile.length() == 0) {
             logger.warn("Json storage file at '{}' is empty - ignoring corrupt file.", inputFile.getAbsolutePath());
             return null;
         }
 
-        try {
+        try (JsonReader reader = internalMapper.newJsonReader(new BufferedReader(new FileReader(inputFile)))) {
             final Map<String, StorageEntry> inputMap = new ConcurrentHashMap<>();
 
-            FileReader reader = new FileReader(inputFile);
-            Map<String, StorageEntry> loadedMap = internalMapper.fromJson(reader, map.getClass());
-
-            if (loadedMap != null && !loadedMap.isEmpty()) {
-                inputMap.putAll(loadedMap);
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String key = reader.nextName();
+                inputMap.put(key, readEntry(reader));
             }
+            reader.endObject();
 
             return inputMap;
-        } catch (JsonSyntaxException | JsonIOException | FileNotFoundException e) {
+        } catch (IOException | IllegalStateException | JsonParseException e) {
             logger.error("Error reading JsonDB from {}. Cause {}.", inputFile.getPath(), e.getMessage());
             return null;
         }
     }
 
+    private StorageEntry readEntry(JsonReader reader) throws IOException {
+        String entityClassName = null;
+        String entityValue = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (CLASS.equals(name)) {
+                entityClassName = reader.nextString();
+            } else if (VALUE.equals(name)) {
+                entityValue = RawJson.read(reader);
+            } else {
+                throw new JsonSyntaxException("Unexpected property '" + name + "' at " + reader.getPath());
+            }
+        }
+        reader.endObject();
+
+        if (entityClassName == null || entityValue == null) {
+            throw new JsonSyntaxException("Incomplete entry at " + reader.getPath());
+        }
+        return new StorageEntry(entityClassName, entityValue);
+    }
+
+    /**
+     * Applies the records of the journal to the entries read from the database file.
+     * <p>
+     * Each line of the journal holds one record. A record with a {@link #CLASS} replaces the entry of its
+     * {@link #KEY}, a record without removes it. Reading stops at the first line that cannot be parsed, as that is
+     * a record that was only partially written.
+     *
+     * @return {@code true} if all records could be read
+     */
+    private boolean replayJournal() {
+        int records = 0;
+        boolean complete = true;
+        try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonObject entry = parseJournalRecord(line);
+                if (entry == null) {
+                    logger.warn("Ignoring incomplete record {} of Json storage journal at '{}'.", records + 1,
+                            journalFile.getAbsolutePath());
+                    complete = false;
+                    break;
+                }
+                String key = entry.get(KEY).getAsString();
+                JsonElement entityClassName = entry.get(CLASS);
+                if (entityClassName != null) {
+                    map.put(key, new StorageEntry(entityClassName.getAsString(), entry.get(VALUE).toString()));
+                } else {
+                    map.remove(key);
+                }
+                records++;
+            }
+            // appending to a record without line break would damage the next one
+            complete = complete && endsWithLineBreak();
+            logger.debug("Replayed {} records of Json storage journal at '{}'.", records,
+                    journalFile.getAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Error reading JsonDB journal from {}. Cause {}.", journalFile.getPath(), e.getMessage());
+            return false;
+        }
+        return complete;
+    }
+
+    private boolean endsWithLineBreak() throws IOException {
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "r")) {
+            long length = journal.length();
+            if (length == 0) {
+                return true;
+            }
+            journal.seek(length - 1);
+            return journal.read() == '\n';
+        }
+    }
+
+    private @Nullable JsonObject parseJournalRecord(String line) {
+        try {
+            JsonElement element = JsonParser.parseString(line);
+            if (element.isJsonObject() && element.getAsJsonObject().has(KEY)) {
+                return element.getAsJsonObject();
+            }
+        } catch (JsonParseException e) {
+            // handled by the caller
+        }
+        return null;
+    }
+
     private @Nullable File getBackupFile(int age) {
         List<Long> fileTimes = calculateFileTimes();
         if (fileTimes.size() < age) {
@@ -339,6 +537,8 @@ public class JsonStorage<T> implements Storage<T> {
      * window for there to be no file if the system crashes during the write
      * process), or to copy the file when writing the backup copy (which would
      * require a read and write, and is thus slower).
+     * <p>
+     * In journal mode, only the changed entries are appended to the journal, unless it has reached its maximum size.
      */
     public synchronized void flush() {
         // Stop any existing scheduled commit
@@ -349,26 +549,132 @@ public class JsonStorage<T> implements Storage<T> {
         }
 
         if (dirty) {
-            String json = internalMapper.toJson(map);
+            if (maxJournalSize > 0 && journalSize < maxJournalSize) {
+                writeJournal();
+            } else {
+                writeDatabase();
+            }
+        }
+    }
+
+    /**
+     * Writes all entries to the database file and its backup and empties the journal.
+     */
+    public synchronized void compact() {
+        ScheduledFuture<?> commitScheduledFuture = this.commitScheduledFuture;
+        if (commitScheduledFuture != null) {
+            commitScheduledFuture.cancel(false);
+            this.commitScheduledFuture = null;
+        }
+
+        if (dirty || journalSize > 0) {
+            writeDatabase();
+        }
+    }
 
-            synchronized (map) {
-                try {
-                    // Write the database file
-                    writeDatabaseFile(file, json);
+    private void writeDatabase() {
+        // changes after this point are either part of the written map or flushed again later
+        List<String> keys = new ArrayList<>(pendingKeys);
+        pendingKeys.removeAll(keys);
 
-                    // And also write the backup
-                    writeDatabaseFile(new File(file.getParent() + File.separator + BACKUP_EXTENSION,
-                            System.currentTimeMillis() + SEPARATOR + file.getName()), json);
+        synchronized (map) {
+            boolean written = false;
+            try {
+                String json = toJson();
 
-                    cleanupBackups();
+                // Write the database file
+                writeDatabaseFile(file, json);
+                written = true;
 
-                    dirty = false;
-                } catch (IOException e) {
-                    logger.error("{}", e.getMessage());
+                // all records of the journal are contained in the database file now
+                if (journalFile.exists() && !journalFile.delete()) {
+                    logger.warn("Failed to delete Json storage journal at '{}'.", journalFile.getAbsolutePath());
                 }
-                deferredSince = 0;
+                journalSize = 0;
+
+                // And also write the backup
+                writeDatabaseFile(new File(file.getParent() + File.separator + BACKUP_EXTENSION,
+                        System.currentTimeMillis() + SEPARATOR + file.getName()), json);
+
+                cleanupBackups();
+
+                dirty = false;
+            } catch (IOException e) {
+                if (!written) {
+                    // the changes are neither in the database file nor in the journal yet
+                    pendingKeys.addAll(keys);
+                }
+                logger.error("{}", e.getMessage());
+            }
+            deferredSince = 0;
+        }
+    }
+
+    /**
+     * Serializes all entries ordered by their keys, with the formatting of the internal mapper.
+     */
+    private String toJson() throws IOException {
+        StringWriter json = new StringWriter();
+        JsonWriter writer = internalMapper.newJsonWriter(json);
+        writer.beginObject();
+        for (String key : map.keySet().stream().sorted().toList()) {
+            StorageEntry entry = map.get(key);
+            if (entry != null) {
+                writer.name(key);
+                writeEntry(writer, entry);
+            }
+        }
+        writer.endObject();
+        writer.flush();
+        return json.toString();
+    }
+
+    private void writeEntry(JsonWriter writer, StorageEntry entry) throws IOException {
+        writer.beginObject();
+        writer.name(CLASS).value(entry.getEntityClassName());
+        writer.name(VALUE);
+        RawJson.write(writer, (String) entry.getValue());
+        writer.endObject();
+    }
+
+    private void writeJournal() {
+        List<String> keys = new ArrayList<>(pendingKeys);
+        StringWriter records = new StringWriter();
+        try {
+            for (String key : keys) {
+                // remove the key before reading the entry, so a concurrent change is written by the next flush
+                pendingKeys.remove(key);
+                JsonWriter writer = new JsonWriter(records);
+                writer.beginObject();
+                writer.name(KEY).value(key);
+                StorageEntry entry = map.get(key);
+                if (entry != null) {
+                    writer.name(CLASS).value(entry.getEntityClassName());
+                    writer.name(VALUE);
+                    RawJson.write(writer, (String) entry.getValue());
+                }
+                writer.endObject();
+                writer.flush();
+                records.write('\n');
             }
+        } catch (IOException e) {
+            // only possible for a damaged entry
+            pendingKeys.addAll(keys);
+            logger.error("Error writing JsonDB journal to {}. Cause {}.", journalFile.getPath(), e.getMessage());
+            return;
         }
+
+        byte[] data = records.toString().getBytes(StandardCharsets.UTF_8);
+        try (FileOutputStream outputStream = new FileOutputStream(journalFile, true)) {
+            outputStream.write(data);
+            outputStream.flush();
+            journalSize += data.length;
+            dirty = false;
+        } catch (IOException e) {
+            pendingKeys.addAll(keys);
+            logger.error("Error writing JsonDB journal to {}. Cause {}.", journalFile.getPath(), e.getMessage());
+        }
+        deferredSince = 0;
     }
 
     private void cleanupBackups() {
@@ -409,4 +715,7 @@ public class JsonStorage<T> implements Storage<T> {
         // Schedule the commit
         this.commitScheduledFuture = scheduledExecutorService.schedule(this::flush, writeDelay, TimeUnit.MILLISECONDS);
     }
+
+    private record CachedValue<T>(StorageEntry entry, T value) {
+    }
 }
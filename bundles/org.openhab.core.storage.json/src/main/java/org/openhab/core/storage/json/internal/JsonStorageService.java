@@ -16,7 +16,6 @@ import java.io.File;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -25,10 +24,7 @@ import org.openhab.core.OpenHAB;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.storage.Storage;
 import org.openhab.core.storage.StorageService;
-import org.openhab.core.storage.json.internal.migration.BridgeImplTypeMigrator;
-import org.openhab.core.storage.json.internal.migration.PersistedTransformationTypeMigrator;
-import org.openhab.core.storage.json.internal.migration.ThingImplTypeMigrator;
-import org.openhab.core.storage.json.internal.migration.TypeMigrator;
+import org.openhab.core.storage.json.migration.TypeMigrators;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -51,14 +47,6 @@ public class JsonStorageService implements StorageService {
 
     private static final int MAX_FILENAME_LENGTH = 127;
 
-    /**
-     * Contains a map of needed migrations, key is the storage name
-     */
-    private static final Map<String, List<TypeMigrator>> MIGRATORS = Map.of( //
-            "org.openhab.core.thing.Thing", List.of(new BridgeImplTypeMigrator(), new ThingImplTypeMigrator()), //
-            "org.openhab.core.transform.TransformationConfiguration",
-            List.of(new PersistedTransformationTypeMigrator()));
-
     private final Logger logger = LoggerFactory.getLogger(JsonStorageService.class);
 
     /** the folder name to store database ({@code jsondb} by default) */
@@ -68,10 +56,14 @@ public class JsonStorageService implements StorageService {
     private static final String CFG_MAX_BACKUP_FILES = "backup_files";
     private static final String CFG_WRITE_DELAY = "write_delay";
     private static final String CFG_MAX_DEFER_DELAY = "max_defer_delay";
+    private static final String CFG_CACHE_SIZE = "cache_size";
+    private static final String CFG_JOURNAL_SIZE = "journal_size";
 
     private int maxBackupFiles = 5;
     private int writeDelay = 500;
     private int maxDeferredPeriod = 60000;
+    private int cacheSize = 0;
+    private int journalSize = 0;
 
     private final Map<String, JsonStorage<Object>> storageList = new HashMap<>();
 
@@ -118,13 +110,32 @@ public class JsonStorageService implements StorageService {
         } catch (NumberFormatException nfe) {
             logger.error("Value {} for {} is invalid. Using {}.", value, CFG_MAX_DEFER_DELAY, maxDeferredPeriod);
         }
+
+        value = properties.get(CFG_CACHE_SIZE);
+        try {
+            if (value != null) {
+                cacheSize = Integer.parseInt((String) value);
+            }
+        } catch (NumberFormatException nfe) {
+            logger.error("Value {} for {} is invalid. Using {}.", value, CFG_CACHE_SIZE, cacheSize);
+        }
+
+        value = properties.get(CFG_JOURNAL_SIZE);
+        try {
+            if (value != null) {
+                journalSize = Integer.parseInt((String) value);
+            }
+        } catch (NumberFormatException nfe) {
+            logger.error("Value {} for {} is invalid. Using {}.", value, CFG_JOURNAL_SIZE, journalSize);
+        }
     }
 
     @Deactivate
     protected void deactivate() {
         // Since we're using a delayed commit, we need to write out any data
+        // and we start with an empty journal next time
         for (JsonStorage<Object> storage : storageList.values()) {
-            storage.flush();
+            storage.compact();
         }
         logger.debug("Json Storage Service: Deactivated.");
     }
@@ -145,7 +156,7 @@ public class JsonStorageService implements StorageService {
         }
 
         JsonStorage<T> newStorage = new JsonStorage<>(file, classLoader, maxBackupFiles, writeDelay, maxDeferredPeriod,
-                MIGRATORS.getOrDefault(name, List.of()));
+                TypeMigrators.getTypeMigrators(name), cacheSize, journalSize * 1024L);
         storageList.put(name, (JsonStorage<Object>) newStorage);
 
         return newStorage;
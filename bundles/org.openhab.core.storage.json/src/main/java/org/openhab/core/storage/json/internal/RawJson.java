@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.storage.json.internal;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * The {@link RawJson} copies JSON values token by token between a {@link JsonReader} and a {@link JsonWriter}.
+ *
+ * This allows the {@link JsonStorage} to keep its entries as compact JSON strings instead of JSON trees, while the
+ * database file is still written with the formatting of the writer. Numbers are copied with their original text.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class RawJson {
+
+    private RawJson() {
+        // prevent instantiation
+    }
+
+    /**
+     * Reads the next value from the reader.
+     *
+     * @param reader the reader positioned at the value
+     * @return the value as compact JSON
+     * @throws IOException if the value is not valid JSON
+     */
+    static String read(JsonReader reader) throws IOException {
+        StringWriter value = new StringWriter();
+        copy(reader, new JsonWriter(value));
+        return value.toString();
+    }
+
+    /**
+     * Writes the given value to the writer.
+     *
+     * @param writer the writer
+     * @param value a JSON value as returned by {@link #read(JsonReader)}
+     * @throws IOException if writing fails or the value is not valid JSON
+     */
+    static void write(JsonWriter writer, String value) throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(value))) {
+            copy(reader, writer);
+        }
+    }
+
+    private static void copy(JsonReader reader, JsonWriter writer) throws IOException {
+        int depth = 0;
+        do {
+            switch (reader.peek()) {
+                case BEGIN_ARRAY -> {
+                    reader.beginArray();
+                    writer.beginArray();
+                    depth++;
+                }
+                case END_ARRAY -> {
+                    reader.endArray();
+                    writer.endArray();
+                    depth--;
+                }
+                case BEGIN_OBJECT -> {
+                    reader.beginObject();
+                    writer.beginObject();
+                    depth++;
+                }
+                case END_OBJECT -> {
+                    reader.endObject();
+                    writer.endObject();
+                    depth--;
+                }
+                case NAME -> writer.name(reader.nextName());
+                case STRING -> writer.value(reader.nextString());
+                case NUMBER -> writer.jsonValue(reader.nextString());
+                case BOOLEAN -> writer.value(reader.nextBoolean());
+                case NULL -> {
+                    reader.nextNull();
+                    writer.nullValue();
+                }
+                case END_DOCUMENT -> throw new EOFException("End of input while reading a JSON value");
+            }
+        } while (depth > 0);
+    }
+}
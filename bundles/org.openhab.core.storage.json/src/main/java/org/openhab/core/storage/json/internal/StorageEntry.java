@@ -37,6 +37,11 @@ public class StorageEntry {
         return entityClassName;
     }
 
+    /**
+     * Returns the value of the entity. The {@link JsonStorage} keeps it as compact JSON string.
+     *
+     * @return the value
+     */
     public Object getValue() {
         return value;
     }
@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.openhab.core.storage.json.internal.migration;
+package org.openhab.core.storage.json.migration;
 
 import java.io.Serial;
 
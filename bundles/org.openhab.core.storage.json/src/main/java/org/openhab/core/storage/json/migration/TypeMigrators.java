@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.storage.json.migration;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link TypeMigrators} provides the {@link TypeMigrator}s that are needed for the entries of a storage, so that
+ * every storage implementation reading JsonDB data applies the same migrations.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public final class TypeMigrators {
+
+    /**
+     * Contains a map of needed migrations, key is the storage name
+     */
+    private static final Map<String, List<TypeMigrator>> MIGRATORS = Map.of( //
+            "org.openhab.core.thing.Thing", List.of(new BridgeImplTypeMigrator(), new ThingImplTypeMigrator()), //
+            "org.openhab.core.transform.TransformationConfiguration",
+            List.of(new PersistedTransformationTypeMigrator()));
+
+    private TypeMigrators() {
+        // prevent instantiation
+    }
+
+    /**
+     * Get the migrations needed for the entries of a storage.
+     *
+     * @param storageName the name of the storage
+     * @return the type migrators, empty if no migration is needed
+     */
+    public static List<TypeMigrator> getTypeMigrators(String storageName) {
+        return MIGRATORS.getOrDefault(storageName, List.of());
+    }
+}
@@ -22,6 +22,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -223,6 +224,136 @@ public class JsonStorageTest extends JavaTest {
                         .keySet().toArray());
     }
 
+    @Test
+    public void testCacheReturnsTheDecodedValueUntilItIsReplaced() {
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, 0, 0, List.of(), 10);
+        objectStorage.put("DummyObject", new DummyObject());
+
+        DummyObject dummy = objectStorage.get("DummyObject");
+        assertNotNull(dummy);
+        assertSame(dummy, objectStorage.get("DummyObject"));
+
+        DummyObject replacement = new DummyObject();
+        replacement.configuration.put("testString", "replaced");
+        assertSame(dummy, objectStorage.put("DummyObject", replacement));
+        DummyObject replaced = objectStorage.get("DummyObject");
+        assertNotNull(replaced);
+        assertNotSame(dummy, replaced);
+        assertEquals("replaced", replaced.configuration.get("testString"));
+
+        assertSame(replaced, objectStorage.remove("DummyObject"));
+        assertNull(objectStorage.get("DummyObject"));
+    }
+
+    @Test
+    public void testEntriesAreReadAndWrittenWithTheirOriginalNumbers() throws IOException {
+        Files.writeString(tmpFile.toPath(), "{\"DummyObject\": {\"value\": {\"configuration\": {\"properties\": "
+                + "{\"testDecimal\": 1.50}}}, \"class\": \"" + DummyObject.class.getName() + "\"}}");
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, 0, 0, List.of());
+
+        DummyObject dummy = objectStorage.get("DummyObject");
+        assertNotNull(dummy);
+        assertEquals(new BigDecimal("1.50"), dummy.configuration.get("testDecimal"));
+
+        objectStorage.put("a", new DummyObject());
+        objectStorage.flush();
+        assertTrue(Files.readString(tmpFile.toPath()).contains("\"testDecimal\": 1.50"));
+    }
+
+    @Test
+    public void testIncompleteEntryIsNotLoaded() throws IOException {
+        Files.writeString(tmpFile.toPath(), "{\"DummyObject\": {\"class\": \"" + DummyObject.class.getName() + "\"}}");
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, 0, 0, List.of());
+
+        assertTrue(objectStorage.getKeys().isEmpty());
+    }
+
+    @Test
+    public void testJournalIsReplayedUntilCompaction() throws IOException {
+        File journalFile = new File(tmpFile.getPath() + ".journal");
+        journalFile.deleteOnExit();
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, 0, 0, List.of(), 0,
+                1024 * 1024);
+        objectStorage.put("DummyObject", new DummyObject());
+        objectStorage.put("a", new DummyObject());
+        objectStorage.flush();
+        objectStorage.remove("a");
+        objectStorage.flush();
+
+        assertEquals(0, tmpFile.length());
+        assertEquals(3, Files.readAllLines(journalFile.toPath()).size());
+
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, 0, 0, List.of(), 0,
+                1024 * 1024);
+        assertNotNull(objectStorage.get("DummyObject"));
+        assertFalse(objectStorage.containsKey("a"));
+
+        objectStorage.compact();
+        assertFalse(journalFile.exists());
+        persistAndReadAgain();
+        assertFalse(objectStorage.containsKey("a"));
+    }
+
+    @Test
+    public void testJournalIsCompactedWhenFull() {
+        File journalFile = new File(tmpFile.getPath() + ".journal");
+        journalFile.deleteOnExit();
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, 0, 0, List.of(), 0, 1);
+        objectStorage.put("DummyObject", new DummyObject());
+        objectStorage.flush();
+        assertTrue(journalFile.exists());
+        assertEquals(0, tmpFile.length());
+
+        objectStorage.put("a", new DummyObject());
+        objectStorage.flush();
+        assertFalse(journalFile.exists());
+
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, 0, 0, List.of());
+        assertNotNull(objectStorage.get("DummyObject"));
+        assertNotNull(objectStorage.get("a"));
+    }
+
+    @Test
+    public void testChangesAreJournaledAfterFailedCompaction() throws IOException {
+        File journalFile = new File(tmpFile.getPath() + ".journal");
+        journalFile.deleteOnExit();
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, 0, 0, List.of(), 0,
+                1024 * 1024);
+        objectStorage.put("DummyObject", new DummyObject());
+
+        // a directory in place of the database file makes writing the database fail
+        assertTrue(tmpFile.delete());
+        assertTrue(tmpFile.mkdir());
+        objectStorage.compact();
+        assertTrue(tmpFile.delete());
+
+        objectStorage.flush();
+        assertTrue(journalFile.exists());
+
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, 0, 0, List.of(), 0,
+                1024 * 1024);
+        assertNotNull(objectStorage.get("DummyObject"));
+    }
+
+    @Test
+    public void testIncompleteJournalRecordIsIgnored() throws IOException {
+        File journalFile = new File(tmpFile.getPath() + ".journal");
+        journalFile.deleteOnExit();
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, 0, 0, List.of(), 0,
+                1024 * 1024);
+        objectStorage.put("DummyObject", new DummyObject());
+        objectStorage.flush();
+        Files.writeString(journalFile.toPath(), "{\"key\":\"a\",\"cla", StandardOpenOption.APPEND);
+
+        // the journal is not continued after the damaged record, so it is moved to the database file
+        objectStorage = new JsonStorage<>(tmpFile, this.getClass().getClassLoader(), 0, 0, 0, List.of(), 0,
+                1024 * 1024);
+        assertNotNull(objectStorage.get("DummyObject"));
+        assertFalse(objectStorage.containsKey("a"));
+        assertFalse(journalFile.exists());
+        assertNotEquals(0, tmpFile.length());
+    }
+
     @Test
     @EnabledForJreRange(max = JRE.JAVA_19)
     public void testDateSerialization17() {
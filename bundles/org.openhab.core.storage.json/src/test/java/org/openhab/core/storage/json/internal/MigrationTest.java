@@ -28,9 +28,9 @@ import java.util.Objects;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.openhab.core.storage.json.internal.migration.RenamingTypeMigrator;
-import org.openhab.core.storage.json.internal.migration.TypeMigrationException;
-import org.openhab.core.storage.json.internal.migration.TypeMigrator;
+import org.openhab.core.storage.json.migration.RenamingTypeMigrator;
+import org.openhab.core.storage.json.migration.TypeMigrationException;
+import org.openhab.core.storage.json.migration.TypeMigrator;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -31,9 +31,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.openhab.core.config.core.OrderingMapSerializer;
 import org.openhab.core.config.core.OrderingSetSerializer;
 import org.openhab.core.library.types.DateTimeType;
-import org.openhab.core.storage.json.internal.migration.PersistedTransformationTypeMigrator;
-import org.openhab.core.storage.json.internal.migration.TypeMigrationException;
-import org.openhab.core.storage.json.internal.migration.TypeMigrator;
+import org.openhab.core.storage.json.migration.PersistedTransformationTypeMigrator;
+import org.openhab.core.storage.json.migration.TypeMigrationException;
+import org.openhab.core.storage.json.migration.TypeMigrator;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
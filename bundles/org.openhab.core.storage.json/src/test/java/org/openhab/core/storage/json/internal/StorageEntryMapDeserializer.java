@@ -32,6 +32,7 @@ import com.google.gson.JsonParseException;
  * Deserializes the internal data structure of the {@link JsonStorage})
  *
  * The contained entities remain JSON objects and won't be deserialized to their corresponding types at this point.
+ * The storage itself reads its database as a stream, this is only used by tests to inspect database files.
  *
  * @author Simon Kaufmann - Initial contribution
  */
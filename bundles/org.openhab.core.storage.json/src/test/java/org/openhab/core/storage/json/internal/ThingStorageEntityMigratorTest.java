@@ -32,10 +32,10 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.openhab.core.config.core.OrderingMapSerializer;
 import org.openhab.core.config.core.OrderingSetSerializer;
 import org.openhab.core.library.types.DateTimeType;
-import org.openhab.core.storage.json.internal.migration.BridgeImplTypeMigrator;
-import org.openhab.core.storage.json.internal.migration.ThingImplTypeMigrator;
-import org.openhab.core.storage.json.internal.migration.TypeMigrationException;
-import org.openhab.core.storage.json.internal.migration.TypeMigrator;
+import org.openhab.core.storage.json.migration.BridgeImplTypeMigrator;
+import org.openhab.core.storage.json.migration.ThingImplTypeMigrator;
+import org.openhab.core.storage.json.migration.TypeMigrationException;
+import org.openhab.core.storage.json.migration.TypeMigrator;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
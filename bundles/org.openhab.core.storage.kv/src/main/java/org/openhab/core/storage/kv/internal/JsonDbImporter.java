@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.storage.kv.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.storage.json.migration.TypeMigrationException;
+import org.openhab.core.storage.json.migration.TypeMigrator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * The {@link JsonDbImporter} copies the entries of a JsonDB file, as written by the JSON storage, to a
+ * {@link KvLogFile}.
+ * <p>
+ * The entries are migrated with the same {@link TypeMigrator}s the JSON storage applies when it reads them, so the
+ * key-value storage only contains current types. Like the JSON storage, the importer falls back to the newest readable
+ * backup if the JsonDB file cannot be read, and replays the journal of the JSON storage on top of the imported
+ * entries.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public final class JsonDbImporter {
+
+    private static final String CLASS = "class";
+    private static final String VALUE = "value";
+    private static final String KEY = "key";
+    private static final String BACKUP_FOLDER = "backup";
+    private static final String SEPARATOR = "--";
+    private static final String JOURNAL_EXTENSION = ".journal";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonDbImporter.class);
+
+    private JsonDbImporter() {
+        // prevent instantiation
+    }
+
+    /**
+     * Checks whether there is anything to import for a JsonDB file.
+     *
+     * @param jsonDbFile the JsonDB file
+     * @return {@code true} if the file, one of its backups or its journal exists
+     * @throws IOException if the backup folder cannot be read
+     */
+    public static boolean canImport(Path jsonDbFile) throws IOException {
+        return Files.exists(jsonDbFile) || Files.exists(getJournalFile(jsonDbFile))
+                || !getBackupFiles(jsonDbFile).isEmpty();
+    }
+
+    /**
+     * Creates a key-value file with the entries of a JsonDB storage.
+     * <p>
+     * The entries are read from the JsonDB file or, if it cannot be read, from the newest backup that can be read.
+     * The journal is replayed on top of them. The key-value file is only marked as complete if the import succeeds.
+     * Otherwise no key-value file is kept, so the import is retried when the storage is opened again.
+     *
+     * @param jsonDbFile the JsonDB file
+     * @param directory the directory of the key-value file
+     * @param name the name of the key-value file, without generation and extension
+     * @param typeMigrators the migrations to apply to the entries
+     * @return the key-value file
+     * @throws IOException if neither the JsonDB file nor one of its backups can be imported, or the key-value file
+     *             cannot be created
+     */
+    public static KvLogFile importStorage(Path jsonDbFile, Path directory, String name,
+            List<TypeMigrator> typeMigrators) throws IOException {
+        Map<String, TypeMigrator> migrators = toMap(typeMigrators);
+        List<Path> sources = new ArrayList<>();
+        if (Files.exists(jsonDbFile)) {
+            sources.add(jsonDbFile);
+        }
+        sources.addAll(getBackupFiles(jsonDbFile));
+        Path journalFile = getJournalFile(jsonDbFile);
+        if (sources.isEmpty()) {
+            // only the journal is left, its records are applied to an empty storage
+            sources.add(journalFile);
+        }
+
+        for (Path source : sources) {
+            KvLogFile logFile = new KvLogFile(directory, name, false);
+            try {
+                int count = source.equals(journalFile) ? 0 : importFile(source, logFile, migrators);
+                int records = Files.exists(journalFile) ? importJournal(journalFile, logFile, migrators) : 0;
+                logFile.markComplete();
+                LOGGER.info("Imported {} entries and {} journal records of storage '{}' from JsonDB file '{}'.", count,
+                        records, name, source.toAbsolutePath());
+                return logFile;
+            } catch (IOException e) {
+                LOGGER.warn("Failed to import storage '{}' from JsonDB file '{}': {}", name, source.toAbsolutePath(),
+                        e.getMessage());
+                logFile.discard();
+            }
+        }
+
+        throw new IOException("Failed to import storage '" + name + "' from JsonDB file '"
+                + jsonDbFile.toAbsolutePath() + "' or one of its backups");
+    }
+
+    /**
+     * Copies all entries of a JsonDB file.
+     *
+     * @param jsonDbFile the JsonDB file
+     * @param logFile the file to add the entries to
+     * @param typeMigrators the migrations to apply to the entries
+     * @return the number of copied entries
+     * @throws IOException if the JsonDB file cannot be read or the entries cannot be written
+     */
+    public static int importFile(Path jsonDbFile, KvLogFile logFile, List<TypeMigrator> typeMigrators)
+            throws IOException {
+        return importFile(jsonDbFile, logFile, toMap(typeMigrators));
+    }
+
+    private static int importFile(Path jsonDbFile, KvLogFile logFile, Map<String, TypeMigrator> migrators)
+            throws IOException {
+        int count = 0;
+        try (Reader fileReader = Files.newBufferedReader(jsonDbFile, StandardCharsets.UTF_8);
+                JsonReader reader = new JsonReader(fileReader)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String key = reader.nextName();
+                String entityClassName = null;
+                JsonElement value = null;
+
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    if (CLASS.equals(name)) {
+                        entityClassName = reader.nextString();
+                    } else if (VALUE.equals(name)) {
+                        value = JsonParser.parseReader(reader);
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+
+                if (entityClassName == null || value == null) {
+                    throw new IOException("Incomplete entry '" + key + "' in JsonDB file " + jsonDbFile);
+                }
+                put(logFile, key, entityClassName, value, migrators);
+                count++;
+            }
+            reader.endObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IOException("Invalid JsonDB file " + jsonDbFile + ": " + e.getMessage(), e);
+        }
+        return count;
+    }
+
+    /**
+     * Applies the records of a JSON storage journal.
+     * <p>
+     * A record with a class replaces the entry of its key, a record without removes it. Reading stops at the first
+     * line that cannot be parsed, as that is a record that was only partially written.
+     *
+     * @param journalFile the journal file
+     * @param logFile the file to apply the records to
+     * @param typeMigrators the migrations to apply to the entries
+     * @return the number of applied records
+     * @throws IOException if the journal cannot be read or the records cannot be written
+     */
+    public static int importJournal(Path journalFile, KvLogFile logFile, List<TypeMigrator> typeMigrators)
+            throws IOException {
+        return importJournal(journalFile, logFile, toMap(typeMigrators));
+    }
+
+    private static int importJournal(Path journalFile, KvLogFile logFile, Map<String, TypeMigrator> migrators)
+            throws IOException {
+        int records = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonObject record = parseJournalRecord(line);
+                if (record == null) {
+                    LOGGER.warn("Ignoring incomplete record {} of JsonDB journal '{}'.", records + 1,
+                            journalFile.toAbsolutePath());
+                    break;
+                }
+                String key = record.get(KEY).getAsString();
+                JsonElement entityClassName = record.get(CLASS);
+                if (entityClassName != null) {
+                    put(logFile, key, entityClassName.getAsString(), record.get(VALUE), migrators);
+                } else {
+                    logFile.remove(key);
+                }
+                records++;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Adds an entry, migrating it first if its type needs migration. Like the JSON storage, an entry that cannot be
+     * migrated is kept as it is.
+     */
+    private static void put(KvLogFile logFile, String key, String entityClassName, JsonElement value,
+            Map<String, TypeMigrator> migrators) throws IOException {
+        String className = entityClassName;
+        JsonElement migratedValue = value;
+        TypeMigrator migrator = migrators.get(entityClassName);
+        if (migrator != null) {
+            try {
+                migratedValue = migrator.migrate(value);
+                className = migrator.getNewType();
+            } catch (TypeMigrationException | RuntimeException e) {
+                LOGGER.error("Type '{}' of entry '{}' needs migration but migration failed: '{}'", entityClassName,
+                        key, e.getMessage());
+            }
+        }
+        logFile.put(key, className, migratedValue.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, TypeMigrator> toMap(List<TypeMigrator> typeMigrators) {
+        return typeMigrators.stream().collect(Collectors.toMap(TypeMigrator::getOldType, e -> e));
+    }
+
+    private static @Nullable JsonObject parseJournalRecord(String line) {
+        try {
+            JsonElement element = JsonParser.parseString(line);
+            if (element.isJsonObject() && element.getAsJsonObject().has(KEY)) {
+                JsonObject record = element.getAsJsonObject();
+                if (!record.has(CLASS) || record.has(VALUE)) {
+                    return record;
+                }
+            }
+        } catch (JsonParseException | IllegalStateException e) {
+            // handled by the caller
+        }
+        return null;
+    }
+
+    private static Path getJournalFile(Path jsonDbFile) {
+        return jsonDbFile.resolveSibling(jsonDbFile.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Returns the backups the JSON storage keeps of a JsonDB file, the newest first.
+     */
+    private static List<Path> getBackupFiles(Path jsonDbFile) throws IOException {
+        Path folder = jsonDbFile.resolveSibling(BACKUP_FOLDER);
+        if (!Files.isDirectory(folder)) {
+            return List.of();
+        }
+        String suffix = SEPARATOR + jsonDbFile.getFileName();
+        Map<Long, Path> backups = new TreeMap<>(Comparator.reverseOrder());
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (!fileName.endsWith(suffix) || !Files.isRegularFile(file)) {
+                    continue;
+                }
+                String time = fileName.substring(0, fileName.length() - suffix.length());
+                if (!time.isEmpty() && time.chars().allMatch(Character::isDigit)) {
+                    backups.put(Long.parseLong(time), file);
+                }
+            }
+        }
+        return List.copyOf(backups.values());
+    }
+}
@@ -0,0 +1,527 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.storage.kv.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link KvLogFile} is a log-structured key-value file that is mapped into memory.
+ * <p>
+ * Every change is appended as a record to the end of the file, only the offsets of the current records are kept on
+ * the heap. A record consists of its length, a CRC32 checksum and the body with the record type, the key and, for a
+ * put, the class name and value of the entry. When the file is opened, the records are read until the first one that
+ * is incomplete or damaged, so a crash can only lose the changes that were not yet written completely.
+ * <p>
+ * Records that were replaced or removed are garbage. When there is more garbage than live data, the live records are
+ * copied to a file of the next generation. That file is marked as complete only after it has been written to disk, so
+ * a crash during the compaction leaves the previous generation in use. Files of older generations are deleted.
+ * <p>
+ * A new file can be created as incomplete, e.g. while it is filled with the entries of another storage. An incomplete
+ * file is deleted when it is opened again, unless it has been marked as complete before.
+ * <p>
+ * The size of a file is limited to 2 GB.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class KvLogFile implements Closeable {
+
+    static final String EXTENSION = ".kv";
+
+    private static final int MAGIC = 0x4F484B56; // "OHKV"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int STATE_POSITION = 8;
+    private static final int STATE_WRITING = 0;
+    private static final int STATE_COMPLETE = 1;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final byte TYPE_PUT = 1;
+    private static final byte TYPE_REMOVE = 2;
+    private static final int MIN_CAPACITY = 64 * 1024;
+    private static final int MIN_COMPACTION_GARBAGE = 256 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(KvLogFile.class);
+
+    private final Path directory;
+    private final String name;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> index = new ConcurrentHashMap<>();
+
+    private long generation;
+    private boolean complete;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int tail;
+    private long garbage;
+
+    /**
+     * Opens the newest complete generation of the file with the given name, or creates a new, empty file.
+     *
+     * @param directory the directory of the file
+     * @param name the name of the file, without generation and extension
+     * @throws IOException if the file cannot be opened
+     */
+    public KvLogFile(Path directory, String name) throws IOException {
+        this(directory, name, true);
+    }
+
+    /**
+     * Opens the newest complete generation of the file with the given name, or creates a new, empty file.
+     *
+     * @param directory the directory of the file
+     * @param name the name of the file, without generation and extension
+     * @param complete {@code false} if a new file must be marked as complete with {@link #markComplete()} to be kept
+     * @throws IOException if the file cannot be opened
+     */
+    public KvLogFile(Path directory, String name, boolean complete) throws IOException {
+        this.directory = directory;
+        this.name = name;
+
+        List<Long> generations = findGenerations(directory, name);
+        Long current = null;
+        for (Long candidate : generations) {
+            if (current == null && isComplete(getPath(candidate))) {
+                current = candidate;
+            } else {
+                // older generations and incomplete compactions
+                delete(getPath(candidate));
+            }
+        }
+
+        if (current == null) {
+            generation = 0;
+            this.complete = complete;
+            channel = createFile(getPath(generation));
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, MIN_CAPACITY);
+            writeHeader(buffer, complete ? STATE_COMPLETE : STATE_WRITING);
+            tail = HEADER_SIZE;
+        } else {
+            generation = current;
+            this.complete = true;
+            channel = FileChannel.open(getPath(generation), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(MIN_CAPACITY, channel.size()));
+            recover();
+        }
+    }
+
+    /**
+     * Checks whether a file with the given name exists.
+     *
+     * @param directory the directory of the file
+     * @param name the name of the file, without generation and extension
+     * @return {@code true} if at least one complete generation of the file exists
+     * @throws IOException if the directory cannot be read
+     */
+    public static boolean exists(Path directory, String name) throws IOException {
+        for (Long generation : findGenerations(directory, name)) {
+            if (isComplete(directory.resolve(name + "." + generation + EXTENSION))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Set<String> getKeys() {
+        return index.keySet();
+    }
+
+    public boolean containsKey(String key) {
+        return index.containsKey(key);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Reads the current entry of a key.
+     *
+     * @param key the key
+     * @return the entry or {@code null} if there is no entry for the key
+     */
+    public @Nullable Entry get(String key) {
+        lock.readLock().lock();
+        try {
+            Integer position = index.get(key);
+            return position == null ? null : readEntry(position);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Appends a new entry for a key.
+     *
+     * @param key the key
+     * @param entityClassName the class name of the value
+     * @param value the serialized value
+     * @return the previous entry or {@code null} if there was no entry for the key
+     * @throws IOException if the entry cannot be written
+     */
+    public @Nullable Entry put(String key, String entityClassName, byte[] value) throws IOException {
+        lock.writeLock().lock();
+        try {
+            Integer previousPosition = index.get(key);
+            Entry previous = previousPosition == null ? null : readEntry(previousPosition);
+            int position = append(encode(TYPE_PUT, key, entityClassName, value));
+            index.put(key, position);
+            if (previousPosition != null) {
+                garbage += recordSize(previousPosition);
+            }
+            compactIfNeeded();
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Appends the removal of a key.
+     *
+     * @param key the key
+     * @return the removed entry or {@code null} if there was no entry for the key
+     * @throws IOException if the removal cannot be written
+     */
+    public @Nullable Entry remove(String key) throws IOException {
+        lock.writeLock().lock();
+        try {
+            Integer previousPosition = index.get(key);
+            if (previousPosition == null) {
+                return null;
+            }
+            Entry previous = readEntry(previousPosition);
+            int position = append(encode(TYPE_REMOVE, key, null, null));
+            index.remove(key);
+            // neither the removed entry nor the removal are copied by the next compaction
+            garbage += recordSize(previousPosition) + recordSize(position);
+            compactIfNeeded();
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks a file that was created as incomplete as complete, so it is kept when it is opened again.
+     */
+    public void markComplete() {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            buffer.putInt(STATE_POSITION, STATE_COMPLETE);
+            buffer.force();
+            complete = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Closes and deletes a file that was created as incomplete, for example because it could not be filled.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    public void discard() throws IOException {
+        lock.writeLock().lock();
+        try {
+            channel.close();
+            delete(getPath(generation));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes all changes to the storage device.
+     */
+    public void force() {
+        lock.readLock().lock();
+        try {
+            buffer.force();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copies the live records to a file of the next generation and deletes the current file.
+     *
+     * @throws IOException if the new file cannot be written, the current file is still used then
+     */
+    public void compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            long newGeneration = generation + 1;
+            Path newPath = getPath(newGeneration);
+            // leave some room for the following changes
+            long liveSize = tail - HEADER_SIZE - garbage;
+            long capacity = Math.min(Integer.MAX_VALUE, Math.max(MIN_CAPACITY, HEADER_SIZE + liveSize + liveSize / 2));
+
+            FileChannel newChannel = createFile(newPath);
+            try {
+                MappedByteBuffer newBuffer = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+                writeHeader(newBuffer, STATE_WRITING);
+                Map<String, Integer> newIndex = new HashMap<>();
+                int newTail = HEADER_SIZE;
+                for (Map.Entry<String, Integer> entry : index.entrySet()) {
+                    int position = entry.getValue();
+                    int size = recordSize(position);
+                    newBuffer.put(newTail, buffer, position, size);
+                    newIndex.put(entry.getKey(), newTail);
+                    newTail += size;
+                }
+                newBuffer.force();
+                // only now the new generation replaces the current one
+                if (complete) {
+                    newBuffer.putInt(STATE_POSITION, STATE_COMPLETE);
+                    newBuffer.force();
+                }
+
+                FileChannel oldChannel = channel;
+                Path oldPath = getPath(generation);
+                generation = newGeneration;
+                channel = newChannel;
+                buffer = newBuffer;
+                tail = newTail;
+                garbage = 0;
+                index.putAll(newIndex);
+                oldChannel.close();
+                delete(oldPath);
+            } catch (IOException | RuntimeException e) {
+                newChannel.close();
+                delete(newPath);
+                throw e;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactIfNeeded() throws IOException {
+        if (garbage > MIN_COMPACTION_GARBAGE && garbage > tail - HEADER_SIZE - garbage) {
+            compact();
+        }
+    }
+
+    private int append(ByteBuffer record) throws IOException {
+        int size = record.remaining();
+        if ((long) tail + size > buffer.capacity()) {
+            long capacity = Math.max(2L * buffer.capacity(), (long) tail + size);
+            if (capacity > Integer.MAX_VALUE) {
+                if ((long) tail + size > Integer.MAX_VALUE) {
+                    throw new IOException("Key-value storage file " + getPath(generation) + " is full");
+                }
+                capacity = Integer.MAX_VALUE;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        int position = tail;
+        buffer.put(position, record, 0, size);
+        tail += size;
+        return position;
+    }
+
+    /**
+     * Reads all records of the current file and rebuilds the index.
+     */
+    private void recover() throws IOException {
+        int position = HEADER_SIZE;
+        int limit = buffer.capacity();
+        while (position + RECORD_HEADER_SIZE <= limit) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || length > limit - position - RECORD_HEADER_SIZE) {
+                break;
+            }
+            ByteBuffer body = buffer.slice(position + RECORD_HEADER_SIZE, length);
+            if (checksum(body) != buffer.getInt(position + 4)) {
+                break;
+            }
+
+            String key = readString(body, 1);
+            Integer previousPosition = index.get(key);
+            if (previousPosition != null) {
+                garbage += recordSize(previousPosition);
+            }
+            if (body.get(0) == TYPE_PUT) {
+                index.put(key, position);
+            } else {
+                index.remove(key);
+                garbage += RECORD_HEADER_SIZE + length;
+            }
+            position += RECORD_HEADER_SIZE + length;
+        }
+        tail = position;
+
+        if (tail + RECORD_HEADER_SIZE <= limit && buffer.getInt(tail) != 0) {
+            logger.warn("Ignoring incomplete record at position {} of key-value storage file '{}'.", tail,
+                    getPath(generation));
+            // clear the damaged data, so it is not mistaken for a record when the file is read the next time
+            for (int i = tail; i < limit; i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+        logger.debug("Opened key-value storage file '{}' with {} entries.", getPath(generation), index.size());
+    }
+
+    private Entry readEntry(int position) {
+        ByteBuffer body = buffer.slice(position + RECORD_HEADER_SIZE, buffer.getInt(position));
+        int offset = 1;
+        offset += 4 + body.getInt(offset);
+        String entityClassName = readString(body, offset);
+        offset += 4 + body.getInt(offset);
+        byte[] value = new byte[body.getInt(offset)];
+        body.get(offset + 4, value);
+        return new Entry(entityClassName, value);
+    }
+
+    private int recordSize(int position) {
+        return RECORD_HEADER_SIZE + buffer.getInt(position);
+    }
+
+    private static ByteBuffer encode(byte type, String key, @Nullable String entityClassName,
+            byte @Nullable [] value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] classBytes = entityClassName == null ? null : entityClassName.getBytes(StandardCharsets.UTF_8);
+        int length = 1 + 4 + keyBytes.length;
+        if (classBytes != null && value != null) {
+            length += 4 + classBytes.length + 4 + value.length;
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + length);
+        record.putInt(length);
+        record.putInt(0);
+        record.put(type);
+        record.putInt(keyBytes.length).put(keyBytes);
+        if (classBytes != null && value != null) {
+            record.putInt(classBytes.length).put(classBytes);
+            record.putInt(value.length).put(value);
+        }
+        record.putInt(4, checksum(record.slice(RECORD_HEADER_SIZE, length)));
+        return record.flip();
+    }
+
+    private static String readString(ByteBuffer body, int offset) {
+        byte[] bytes = new byte[body.getInt(offset)];
+        body.get(offset + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(ByteBuffer body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static void writeHeader(MappedByteBuffer buffer, int state) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(STATE_POSITION, state);
+        buffer.force();
+    }
+
+    private static boolean isComplete(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // read the complete header
+            }
+            return !header.hasRemaining() && header.getInt(0) == MAGIC && header.getInt(4) == VERSION
+                    && header.getInt(STATE_POSITION) == STATE_COMPLETE;
+        }
+    }
+
+    private static FileChannel createFile(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE_NEW);
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // a file that is still mapped cannot be deleted on some platforms, it is deleted when it is opened again
+            logger.debug("Failed to delete key-value storage file '{}': {}", path, e.getMessage());
+        }
+    }
+
+    private Path getPath(long generation) {
+        return directory.resolve(name + "." + generation + EXTENSION);
+    }
+
+    /**
+     * Returns the generations of the file with the given name, the newest first.
+     */
+    private static List<Long> findGenerations(Path directory, String name) throws IOException {
+        List<Long> generations = new ArrayList<>();
+        String prefix = name + ".";
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (!fileName.startsWith(prefix)) {
+                    continue;
+                }
+                String generation = fileName.substring(prefix.length(), fileName.length() - EXTENSION.length());
+                if (!generation.isEmpty() && generation.chars().allMatch(Character::isDigit)) {
+                    generations.add(Long.parseLong(generation));
+                }
+            }
+        }
+        generations.sort(Comparator.reverseOrder());
+        return generations;
+    }
+
+    /**
+     * An entry as stored in the file.
+     *
+     * @param entityClassName the class name of the value
+     * @param value the serialized value
+     */
+    public record Entry(String entityClassName, byte[] value) {
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.storage.kv.internal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.config.core.ConfigurationDeserializer;
+import org.openhab.core.config.core.OrderingMapSerializer;
+import org.openhab.core.config.core.OrderingSetSerializer;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.storage.Storage;
+import org.openhab.core.storage.json.InstantTypeAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+
+/**
+ * The {@link KvStorage} is a {@link Storage} backed by a {@link KvLogFile}.
+ * <p>
+ * The values are serialized to JSON with the same rules as in the JSON storage, but only the position of each entry
+ * is kept on the heap. Entries are read from the memory-mapped file and deserialized on every request. Changes are
+ * written to the mapped file immediately and forced to the storage device after the write delay.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class KvStorage<T> implements Storage<T> {
+
+    private final Logger logger = LoggerFactory.getLogger(KvStorage.class);
+
+    private final KvLogFile logFile;
+    private final @Nullable ClassLoader classLoader;
+    private final ScheduledExecutorService scheduler;
+    private final int writeDelay;
+    private final Map<String, Class<?>> loadedClasses = new ConcurrentHashMap<>();
+    private final Gson entityMapper;
+
+    private @Nullable ScheduledFuture<?> forceScheduledFuture;
+
+    /**
+     * Creates a storage for a log file.
+     *
+     * @param logFile the file containing the entries
+     * @param classLoader the class loader for the values, or {@code null} to use the class loader of this bundle
+     * @param scheduler the scheduler used to force changes to the storage device
+     * @param writeDelay the time in milliseconds after which changes are forced to the storage device
+     */
+    public KvStorage(KvLogFile logFile, @Nullable ClassLoader classLoader, ScheduledExecutorService scheduler,
+            int writeDelay) {
+        this.logFile = logFile;
+        this.classLoader = classLoader;
+        this.scheduler = scheduler;
+        this.writeDelay = writeDelay;
+        this.entityMapper = new GsonBuilder() //
+                .setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT) //
+                .registerTypeHierarchyAdapter(Map.class, new OrderingMapSerializer())//
+                .registerTypeHierarchyAdapter(Set.class, new OrderingSetSerializer())//
+                .registerTypeAdapter(Configuration.class, new ConfigurationDeserializer()) //
+                .registerTypeAdapter(Instant.class, new InstantTypeAdapter()) //
+                .create();
+    }
+
+    @Override
+    public @Nullable T put(String key, @Nullable T value) {
+        if (value == null) {
+            return remove(key);
+        }
+
+        byte[] json = entityMapper.toJson(value).getBytes(StandardCharsets.UTF_8);
+        try {
+            KvLogFile.Entry previous = logFile.put(key, value.getClass().getName(), json);
+            deferredForce();
+            return deserialize(previous);
+        } catch (IOException e) {
+            logger.error("Couldn't store value for key '{}'. Root cause is: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public @Nullable T remove(String key) {
+        try {
+            KvLogFile.Entry removed = logFile.remove(key);
+            deferredForce();
+            return deserialize(removed);
+        } catch (IOException e) {
+            logger.error("Couldn't remove value for key '{}'. Root cause is: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return logFile.containsKey(key);
+    }
+
+    @Override
+    public @Nullable T get(String key) {
+        return deserialize(logFile.get(key));
+    }
+
+    @Override
+    public Collection<String> getKeys() {
+        return logFile.getKeys();
+    }
+
+    @Override
+    public Collection<@Nullable T> getValues() {
+        Collection<@Nullable T> values = new ArrayList<>();
+        for (String key : getKeys()) {
+            values.add(get(key));
+        }
+        return values;
+    }
+
+    /**
+     * Forces all changes to the storage device.
+     */
+    public synchronized void flush() {
+        ScheduledFuture<?> forceScheduledFuture = this.forceScheduledFuture;
+        if (forceScheduledFuture != null) {
+            forceScheduledFuture.cancel(false);
+            this.forceScheduledFuture = null;
+        }
+        logFile.force();
+    }
+
+    private synchronized void deferredForce() {
+        // unlike a rewrite of a file, forcing is not delayed any further by following changes
+        if (forceScheduledFuture == null) {
+            forceScheduledFuture = scheduler.schedule(this::flush, writeDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable T deserialize(KvLogFile.@Nullable Entry entry) {
+        if (entry == null) {
+            return null;
+        }
+
+        String entityClassName = entry.entityClassName();
+        try {
+            Class<T> loadedValueType = (Class<T>) loadedClasses.get(entityClassName);
+            if (loadedValueType == null) {
+                if (classLoader != null) {
+                    loadedValueType = (Class<T>) classLoader.loadClass(entityClassName);
+                } else {
+                    loadedValueType = (Class<T>) Class.forName(entityClassName);
+                }
+                loadedClasses.put(entityClassName, loadedValueType);
+            }
+
+            return entityMapper.fromJson(new String(entry.value(), StandardCharsets.UTF_8), loadedValueType);
+        } catch (JsonSyntaxException | JsonIOException | ClassNotFoundException e) {
+            logger.error("Couldn't deserialize value of type '{}'. Root cause is: {}", entityClassName,
+                    e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.storage.kv.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigurableService;
+import org.openhab.core.storage.Storage;
+import org.openhab.core.storage.StorageService;
+import org.openhab.core.storage.json.migration.TypeMigrators;
+import org.osgi.framework.Constants;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This implementation of {@link StorageService} stores data in memory-mapped, log-structured key-value files.
+ * <p>
+ * It is ranked above the JSON storage, so it is used as soon as this bundle is installed. When a storage is opened
+ * for the first time, the entries of the JsonDB file with the same name are imported once.
+ *
+ * @author agent - Initial contribution
+ */
+@Component(name = "org.openhab.core.storage.kv", configurationPid = "org.openhab.storage.kv", property = { //
+        Constants.SERVICE_PID + "=org.openhab.storage.kv", //
+        Constants.SERVICE_RANKING + ":Integer=10", //
+        "storage.format=kv" })
+@ConfigurableService(category = "system", label = "Key-Value Storage", description_uri = KvStorageService.CONFIG_URI)
+@NonNullByDefault
+public class KvStorageService implements StorageService {
+
+    private static final int MAX_FILENAME_LENGTH = 127;
+
+    private final Logger logger = LoggerFactory.getLogger(KvStorageService.class);
+
+    /** the folder name to store the files ({@code kvdb} by default) */
+    private String dbFolderName = "kvdb";
+    private String jsonDbFolderName = "jsondb";
+
+    protected static final String CONFIG_URI = "system:kv_storage";
+    private static final String CFG_WRITE_DELAY = "write_delay";
+    private static final String CFG_IMPORT_JSONDB = "import_jsondb";
+
+    private int writeDelay = 500;
+    private boolean importJsonDb = true;
+
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("KvStorage");
+    private final Map<String, KvLogFile> logFiles = new HashMap<>();
+
+    @Activate
+    protected void activate(@Nullable Map<String, Object> properties) {
+        dbFolderName = OpenHAB.getUserDataFolder() + File.separator + dbFolderName;
+        jsonDbFolderName = OpenHAB.getUserDataFolder() + File.separator + jsonDbFolderName;
+        File folder = new File(dbFolderName);
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+        logger.debug("Key-Value Storage Service: Activated.");
+
+        if (properties == null || properties.isEmpty()) {
+            return;
+        }
+
+        Object value = properties.get(CFG_WRITE_DELAY);
+        try {
+            if (value != null) {
+                writeDelay = Integer.parseInt((String) value);
+            }
+        } catch (NumberFormatException nfe) {
+            logger.error("Value {} for {} is invalid. Using {}.", value, CFG_WRITE_DELAY, writeDelay);
+        }
+
+        value = properties.get(CFG_IMPORT_JSONDB);
+        if (value != null) {
+            importJsonDb = Boolean.parseBoolean(value.toString());
+        }
+    }
+
+    @Deactivate
+    protected synchronized void deactivate() {
+        for (Map.Entry<String, KvLogFile> entry : logFiles.entrySet()) {
+            try {
+                entry.getValue().close();
+            } catch (IOException e) {
+                logger.error("Failed to close key-value storage '{}': {}", entry.getKey(), e.getMessage());
+            }
+        }
+        logFiles.clear();
+        logger.debug("Key-Value Storage Service: Deactivated.");
+    }
+
+    @Override
+    public synchronized <T> Storage<T> getStorage(String name, @Nullable ClassLoader classLoader) {
+        KvLogFile logFile = logFiles.get(name);
+        if (logFile == null) {
+            try {
+                logFile = openLogFile(name);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open key-value storage '" + name + "'", e);
+            }
+            logFiles.put(name, logFile);
+        }
+
+        return new KvStorage<>(logFile, classLoader, scheduler, writeDelay);
+    }
+
+    @Override
+    public <T> Storage<T> getStorage(String name) {
+        return getStorage(name, null);
+    }
+
+    private KvLogFile openLogFile(String name) throws IOException {
+        Path directory = Path.of(dbFolderName);
+        String fileName = urlEscapeUnwantedChars(name);
+        File jsonDbFile = getJsonDbFile(name);
+        if (!importJsonDb || KvLogFile.exists(directory, fileName) || !JsonDbImporter.canImport(jsonDbFile.toPath())) {
+            return new KvLogFile(directory, fileName);
+        }
+
+        return JsonDbImporter.importStorage(jsonDbFile.toPath(), directory, fileName,
+                TypeMigrators.getTypeMigrators(name));
+    }
+
+    private File getJsonDbFile(String name) {
+        File legacyFile = new File(jsonDbFolderName, name + ".json");
+        return legacyFile.exists() ? legacyFile : new File(jsonDbFolderName, urlEscapeUnwantedChars(name) + ".json");
+    }
+
+    /**
+     * Escapes all invalid url characters and strips the maximum length to 127 to be used as a file name
+     *
+     * @param s the string to be escaped
+     * @return url-encoded string
+     */
+    protected String urlEscapeUnwantedChars(String s) {
+        String result = URLEncoder.encode(s, StandardCharsets.UTF_8);
+        int length = Math.min(result.length(), MAX_FILENAME_LENGTH);
+        return result.substring(0, length);
+    }
+}
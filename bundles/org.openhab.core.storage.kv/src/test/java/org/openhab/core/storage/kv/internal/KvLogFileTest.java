@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.storage.kv.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link KvLogFile}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class KvLogFileTest {
+
+    private static final String NAME = "test";
+
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+
+    @Test
+    public void testEntriesAreKeptWhenTheFileIsOpenedAgain() throws IOException {
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME)) {
+            assertNull(logFile.put("a", "A", bytes("1")));
+            assertNull(logFile.put("b", "B", bytes("2")));
+            KvLogFile.Entry previous = logFile.put("a", "A", bytes("3"));
+            assertNotNull(previous);
+            assertEquals("1", string(previous));
+            assertNotNull(logFile.remove("b"));
+            assertNull(logFile.remove("b"));
+        }
+
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME)) {
+            assertEquals(Set.of("a"), logFile.getKeys());
+            KvLogFile.Entry entry = logFile.get("a");
+            assertNotNull(entry);
+            assertEquals("A", entry.entityClassName());
+            assertEquals("3", string(entry));
+        }
+    }
+
+    @Test
+    public void testDamagedRecordIsIgnored() throws IOException {
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME)) {
+            logFile.put("a", "A", bytes("1"));
+            logFile.put("b", "B", bytes("2"));
+        }
+
+        // the header takes 16 bytes, each record of these entries takes 24 bytes
+        try (FileChannel channel = FileChannel.open(tempDir.resolve(NAME + ".0.kv"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x55 }), 16 + 24 + 20);
+        }
+
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME)) {
+            assertEquals(Set.of("a"), logFile.getKeys());
+            logFile.put("c", "C", bytes("3"));
+        }
+
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME)) {
+            assertEquals(Set.of("a", "c"), logFile.getKeys());
+        }
+    }
+
+    @Test
+    public void testIncompleteFileIsDeleted() throws IOException {
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME, false)) {
+            logFile.put("a", "A", bytes("1"));
+        }
+        assertFalse(KvLogFile.exists(tempDir, NAME));
+
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME, false)) {
+            assertTrue(logFile.getKeys().isEmpty());
+            logFile.put("a", "A", bytes("1"));
+            logFile.markComplete();
+        }
+
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME)) {
+            assertEquals(Set.of("a"), logFile.getKeys());
+        }
+    }
+
+    @Test
+    public void testDiscardedFileIsDeleted() throws IOException {
+        KvLogFile logFile = new KvLogFile(tempDir, NAME, false);
+        logFile.put("a", "A", bytes("1"));
+        logFile.discard();
+
+        assertFalse(KvLogFile.exists(tempDir, NAME));
+        try (KvLogFile newLogFile = new KvLogFile(tempDir, NAME, false)) {
+            assertTrue(newLogFile.getKeys().isEmpty());
+        }
+    }
+
+    @Test
+    public void testCompactionKeepsTheLiveEntries() throws IOException {
+        byte[] value = new byte[10_000];
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME)) {
+            logFile.put("a", "A", bytes("1"));
+            for (int i = 0; i < 100; i++) {
+                logFile.put("b", "B", value);
+            }
+            logFile.put("c", "C", bytes("3"));
+            logFile.remove("a");
+        }
+
+        // the replaced values have been compacted at least once and the old generations are deleted
+        List<String> files = listFiles();
+        assertEquals(1, files.size());
+        assertNotEquals(NAME + ".0.kv", files.getFirst());
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME)) {
+            assertEquals(Set.of("b", "c"), logFile.getKeys());
+            KvLogFile.Entry entry = logFile.get("b");
+            assertNotNull(entry);
+            assertArrayEquals(value, entry.value());
+
+            logFile.compact();
+            assertEquals(Set.of("b", "c"), logFile.getKeys());
+            assertEquals("3", string(logFile.get("c")));
+        }
+        assertEquals(1, listFiles().size());
+        assertNotEquals(files, listFiles());
+    }
+
+    @Test
+    public void testOtherFilesAreNotTouched() throws IOException {
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME + ".other")) {
+            logFile.put("a", "A", bytes("1"));
+        }
+
+        assertFalse(KvLogFile.exists(tempDir, NAME));
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME)) {
+            assertTrue(logFile.getKeys().isEmpty());
+        }
+        assertTrue(KvLogFile.exists(tempDir, NAME));
+        assertEquals(List.of(NAME + ".0.kv", NAME + ".other.0.kv"), listFiles());
+    }
+
+    private List<String> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(KvLogFile.@Nullable Entry entry) {
+        assertNotNull(entry);
+        return new String(entry.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.storage.kv.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.storage.json.migration.RenamingTypeMigrator;
+import org.openhab.core.storage.json.migration.TypeMigrator;
+
+/**
+ * Tests for {@link KvStorage} and {@link JsonDbImporter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class KvStorageTest {
+
+    private static final String NAME = "test";
+
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testValuesAreKeptWhenTheStorageIsOpenedAgain() throws IOException {
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME)) {
+            KvStorage<DummyObject> storage = createStorage(logFile);
+            assertNull(storage.put("a", new DummyObject("first", 1)));
+            DummyObject previous = storage.put("a", new DummyObject("second", 2));
+            assertNotNull(previous);
+            assertEquals("first", previous.name);
+            storage.flush();
+        }
+
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME)) {
+            KvStorage<DummyObject> storage = createStorage(logFile);
+            DummyObject dummy = storage.get("a");
+            assertNotNull(dummy);
+            assertEquals("second", dummy.name);
+            assertEquals(new BigDecimal(2), dummy.configuration.get("number"));
+            assertNotNull(storage.remove("a"));
+            assertFalse(storage.containsKey("a"));
+        }
+    }
+
+    @Test
+    public void testJsonDbEntriesAreImported() throws IOException {
+        Path jsonDbFile = tempDir.resolve(NAME + ".json");
+        Files.writeString(jsonDbFile, """
+                {
+                  "a": {
+                    "class": "org.openhab.core.storage.kv.internal.KvStorageTest$DummyObject",
+                    "value": {
+                      "name": "imported",
+                      "configuration": {
+                        "number": 1.50
+                      }
+                    }
+                  },
+                  "b": {
+                    "class": "java.lang.String",
+                    "value": "text"
+                  }
+                }
+                """, StandardCharsets.UTF_8);
+
+        try (KvLogFile logFile = new KvLogFile(tempDir, NAME, false)) {
+            assertEquals(2, JsonDbImporter.importFile(jsonDbFile, logFile, List.of()));
+            logFile.markComplete();
+
+            KvStorage<Object> storage = new KvStorage<>(logFile, getClass().getClassLoader(), scheduler, 0);
+            assertEquals(Set.of("a", "b"), Set.copyOf(storage.getKeys()));
+            DummyObject dummy = (DummyObject) storage.get("a");
+            assertNotNull(dummy);
+            assertEquals("imported", dummy.name);
+            assertEquals(new BigDecimal("1.50"), dummy.configuration.get("number"));
+            assertEquals("text", storage.get("b"));
+        }
+    }
+
+    @Test
+    public void testBackupIsImportedIfTheJsonDbFileIsDamagedAndTheJournalIsReplayed() throws IOException {
+        Path jsonDbFile = tempDir.resolve(NAME + ".json");
+        Files.writeString(jsonDbFile, "{ \"a\": { \"class\": \"java.lang.String\", \"val", StandardCharsets.UTF_8);
+        Path backupFolder = Files.createDirectory(tempDir.resolve("backup"));
+        Files.writeString(backupFolder.resolve("1000--" + NAME + ".json"), """
+                { "a": { "class": "java.lang.String", "value": "old" } }
+                """, StandardCharsets.UTF_8);
+        Files.writeString(backupFolder.resolve("2000--" + NAME + ".json"), """
+                {
+                  "a": { "class": "java.lang.String", "value": "backup" },
+                  "b": { "class": "java.lang.String", "value": "removed" }
+                }
+                """, StandardCharsets.UTF_8);
+        // the last record was only partially written
+        Files.writeString(tempDir.resolve(NAME + ".json.journal"), """
+                {"key":"c","class":"java.lang.String","value":"journal"}
+                {"key":"b"}
+                {"key":"a","class":"java.lang.St""", StandardCharsets.UTF_8);
+
+        Path directory = Files.createDirectory(tempDir.resolve("kvdb"));
+        try (KvLogFile logFile = JsonDbImporter.importStorage(jsonDbFile, directory, NAME, List.of())) {
+            KvStorage<Object> storage = new KvStorage<>(logFile, getClass().getClassLoader(), scheduler, 0);
+            assertEquals(Set.of("a", "c"), Set.copyOf(storage.getKeys()));
+            assertEquals("backup", storage.get("a"));
+            assertEquals("journal", storage.get("c"));
+        }
+        assertTrue(KvLogFile.exists(directory, NAME));
+    }
+
+    @Test
+    public void testFailedImportIsRetried() throws IOException {
+        Path jsonDbFile = tempDir.resolve(NAME + ".json");
+        Files.writeString(jsonDbFile, "{ \"a\": { \"class\": \"java.lang.String\" } }", StandardCharsets.UTF_8);
+
+        Path directory = Files.createDirectory(tempDir.resolve("kvdb"));
+        assertThrows(IOException.class, () -> JsonDbImporter.importStorage(jsonDbFile, directory, NAME, List.of()));
+        assertFalse(KvLogFile.exists(directory, NAME));
+
+        Files.writeString(jsonDbFile, "{ \"a\": { \"class\": \"java.lang.String\", \"value\": \"text\" } }",
+                StandardCharsets.UTF_8);
+        try (KvLogFile logFile = JsonDbImporter.importStorage(jsonDbFile, directory, NAME, List.of())) {
+            assertEquals(Set.of("a"), logFile.getKeys());
+        }
+        assertTrue(KvLogFile.exists(directory, NAME));
+    }
+
+    @Test
+    public void testImportedEntriesAreMigrated() throws IOException {
+        Path jsonDbFile = tempDir.resolve(NAME + ".json");
+        Files.writeString(jsonDbFile, """
+                {
+                  "a": { "class": "org.openhab.core.storage.kv.internal.OldDummyObject", "value": { "name": "old" } }
+                }
+                """, StandardCharsets.UTF_8);
+        Files.writeString(tempDir.resolve(NAME + ".json.journal"), """
+                {"key":"b","class":"org.openhab.core.storage.kv.internal.OldDummyObject","value":{"name":"journal"}}
+                """, StandardCharsets.UTF_8);
+
+        Path directory = Files.createDirectory(tempDir.resolve("kvdb"));
+        List<TypeMigrator> typeMigrators = List.of(new RenamingTypeMigrator(
+                "org.openhab.core.storage.kv.internal.OldDummyObject", DummyObject.class.getName()));
+        try (KvLogFile logFile = JsonDbImporter.importStorage(jsonDbFile, directory, NAME, typeMigrators)) {
+            KvStorage<DummyObject> storage = createStorage(logFile);
+            DummyObject dummy = storage.get("a");
+            assertNotNull(dummy);
+            assertEquals("old", dummy.name);
+            dummy = storage.get("b");
+            assertNotNull(dummy);
+            assertEquals("journal", dummy.name);
+        }
+    }
+
+    private KvStorage<DummyObject> createStorage(KvLogFile logFile) {
+        return new KvStorage<>(logFile, getClass().getClassLoader(), scheduler, 0);
+    }
+
+    private static class DummyObject {
+        private @Nullable String name;
+        private Configuration configuration = new Configuration();
+
+        @SuppressWarnings("unused")
+        DummyObject() {
+            // used by Gson
+        }
+
+        DummyObject(String name, int number) {
+            this.name = name;
+            configuration.put("number", number);
+        }
+    }
+}
@@ -290,6 +290,25 @@ public abstract class BaseThingHandler implements ThingHandler {
         updateState(channelUID, state);
     }
 
+    /**
+     *
+     * Updates the states of several channels of the thing at once. The states are published together, which is
+     * cheaper than updating the channels one by one.
+     *
+     * @param states new states indexed by the unique id of the updated channel
+     */
+    protected void updateStates(Map<ChannelUID, State> states) {
+        synchronized (this) {
+            if (this.callback != null) {
+                this.callback.stateUpdated(states);
+            } else {
+                logger.warn(
+                        "Handler {} of thing {} tried updating channels {} although the handler was already disposed.",
+                        this.getClass().getSimpleName(), this.getThing().getUID(), states.keySet());
+            }
+        }
+    }
+
     /**
      * Send a time series to the channel. This can be used to transfer historic data or forecasts.
      *
@@ -58,6 +58,16 @@ public interface ThingHandlerCallback {
      */
     void stateUpdated(ChannelUID channelUID, State state);
 
+    /**
+     * Informs about updated states for several channels at once, e.g. all values read from a single frame of a device.
+     * The states are handled in the iteration order of the map and published together.
+     *
+     * @param states the states indexed by the channel UID (must not be null)
+     */
+    default void stateUpdated(Map<ChannelUID, State> states) {
+        states.forEach(this::stateUpdated);
+    }
+
     /**
      * Informs about a command, which is sent from the channel.
      *
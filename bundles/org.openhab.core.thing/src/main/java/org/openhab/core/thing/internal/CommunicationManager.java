@@ -12,6 +12,8 @@
  */
 package org.openhab.core.thing.internal;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -20,8 +22,8 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 import javax.measure.Unit;
 
@@ -41,6 +43,8 @@ import org.openhab.core.items.ItemUtil;
 import org.openhab.core.items.events.AbstractItemRegistryEvent;
 import org.openhab.core.items.events.GroupStateUpdatedEvent;
 import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateEvent;
 import org.openhab.core.items.events.ItemStateUpdatedEvent;
 import org.openhab.core.library.CoreItemFactory;
 import org.openhab.core.library.items.NumberItem;
@@ -99,6 +103,19 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     private record CacheKey(String type, Profile profile, Thing thing) {
     }
 
+    /**
+     * The routes of the events of an item to the linked channels, built for a generation of the registries.
+     */
+    private record ItemRouting(long generation, @Nullable Item item, List<ItemRoute> routes) {
+    }
+
+    /**
+     * The routes of the calls of a thing handler for a channel to the linked items, built for a generation of the
+     * registries.
+     */
+    private record ChannelRouting(long generation, List<ChannelRoute> routes) {
+    }
+
     private static final Profile NO_OP_PROFILE = new Profile() {
         private final ProfileTypeUID noOpProfileUID = new ProfileTypeUID(ProfileTypeUID.SYSTEM_SCOPE, "noop");
 
@@ -132,6 +149,50 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
 
     private final ConcurrentHashMap<CacheKey, Profile> profileSafeCallCache = new ConcurrentHashMap<>();
 
+    // The routing tables are built on demand. Any change of the links, items or profiles starts a new generation,
+    // which makes all routes built before stale. A change of a thing only drops the routes of its channels.
+    private final AtomicLong routingGeneration = new AtomicLong();
+    private final AtomicLong thingInvalidations = new AtomicLong();
+    private final Map<String, ItemRouting> itemRoutings = new ConcurrentHashMap<>();
+    private final Map<ChannelUID, ChannelRouting> channelRoutings = new ConcurrentHashMap<>();
+
+    // the state events posted by the profiles while a batch of channel states is handled on the current thread
+    private final ThreadLocal<@Nullable List<ItemStateEvent>> batchedStateEvents = new ThreadLocal<>();
+
+    private final RegistryChangeListener<Item> itemRegistryChangeListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Item element) {
+            invalidateRoutes();
+        }
+
+        @Override
+        public void removed(Item element) {
+            invalidateRoutes();
+        }
+
+        @Override
+        public void updated(Item oldElement, Item element) {
+            invalidateRoutes();
+        }
+    };
+
+    private final RegistryChangeListener<Thing> thingRegistryChangeListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Thing element) {
+            invalidateRoutes(element.getUID());
+        }
+
+        @Override
+        public void removed(Thing element) {
+            invalidateRoutes(element.getUID());
+        }
+
+        @Override
+        public void updated(Thing oldElement, Thing element) {
+            invalidateRoutes(element.getUID());
+        }
+    };
+
     @Activate
     public CommunicationManager(final @Reference AutoUpdateManager autoUpdateManager,
             final @Reference SystemProfileFactory defaultProfileFactory,
@@ -151,11 +212,15 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
         this.thingRegistry = thingRegistry;
 
         itemChannelLinkRegistry.addRegistryChangeListener(this);
+        itemRegistry.addRegistryChangeListener(itemRegistryChangeListener);
+        thingRegistry.addRegistryChangeListener(thingRegistryChangeListener);
     }
 
     @Deactivate
     public void deactivate() {
         itemChannelLinkRegistry.removeRegistryChangeListener(this);
+        itemRegistry.removeRegistryChangeListener(itemRegistryChangeListener);
+        thingRegistry.removeRegistryChangeListener(thingRegistryChangeListener);
     }
 
     private final Set<ItemFactory> itemFactories = new CopyOnWriteArraySet<>();
@@ -190,12 +255,14 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
                 ItemChannelLink link = itemChannelLinkRegistry.get(entry.getKey());
                 return link != null && itemName.equals(link.getItemName());
             });
+            invalidateRoutes();
         } else if (event instanceof AbstractThingRegistryEvent registryEvent) {
             ThingUID thingUid = new ThingUID(registryEvent.getThing().UID);
             profiles.entrySet().removeIf(entry -> {
                 ItemChannelLink link = itemChannelLinkRegistry.get(entry.getKey());
                 return link != null && thingUid.equals(link.getLinkedUID().getThingUID());
             });
+            invalidateRoutes(thingUid);
         }
     }
 
@@ -220,8 +287,8 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     }
 
     private ProfileCallback createCallback(ItemChannelLink link) {
-        return new ProfileCallbackImpl(eventPublisher, safeCaller, itemStateConverter, link, thingRegistry::get,
-                this::getItem, this::toAcceptedCommand);
+        return new ProfileCallbackImpl(this::postFromProfile, safeCaller, itemStateConverter, link,
+                thingRegistry::get, this::getItem, this::toAcceptedCommand);
     }
 
     private @Nullable ProfileTypeUID determineProfileTypeUID(ItemChannelLink link, Item item, @Nullable Thing thing) {
@@ -333,29 +400,32 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
             autoUpdateManager.receiveCommand(commandEvent, item);
         }
 
-        handleEvent(itemName, command, commandEvent.getSource(), acceptedCommandTypeMap::get,
-                this::applyProfileForCommand);
+        handleEvent(itemName, command, commandEvent.getSource(), this::applyProfileForCommand);
     }
 
     private void receiveUpdate(ItemStateUpdatedEvent updateEvent) {
         final String itemName = updateEvent.getItemName();
         final State newState = updateEvent.getItemState();
-        handleEvent(itemName, newState, updateEvent.getSource(), acceptedStateTypeMap::get,
-                this::applyProfileForUpdate);
+        handleEvent(itemName, newState, updateEvent.getSource(), this::applyProfileForUpdate);
     }
 
     @FunctionalInterface
     private interface ProfileAction<T extends Type> {
-        void applyProfile(Profile profile, Thing thing, T type, @Nullable String source);
+        void applyProfile(ItemRoute route, Profile profile, Thing thing, T type, @Nullable String source);
     }
 
-    private void applyProfileForUpdate(Profile profile, Thing thing, State convertedState, @Nullable String source) {
-        CacheKey key = new CacheKey("UPDATE", profile, thing);
-        Profile p = profileSafeCallCache.computeIfAbsent(key, (k) -> safeCaller.create(k.profile, Profile.class) //
-                .withAsync() //
-                .withIdentifier(k.thing) //
-                .withTimeout(THINGHANDLER_EVENT_TIMEOUT) //
-                .build());
+    private void applyProfileForUpdate(ItemRoute route, Profile profile, Thing thing, State convertedState,
+            @Nullable String source) {
+        Profile p = route.updateProfile;
+        if (p == null || route.proxiedProfile != profile) {
+            CacheKey key = new CacheKey("UPDATE", profile, thing);
+            p = profileSafeCallCache.computeIfAbsent(key, (k) -> safeCaller.create(k.profile, Profile.class) //
+                    .withAsync() //
+                    .withIdentifier(k.thing) //
+                    .withTimeout(THINGHANDLER_EVENT_TIMEOUT) //
+                    .build());
+            route.setUpdateProfile(profile, p);
+        }
         if (p != null) {
             p.onStateUpdateFromItem(convertedState);
         } else {
@@ -363,16 +433,20 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
         }
     }
 
-    private void applyProfileForCommand(Profile profile, Thing thing, Command convertedCommand,
+    private void applyProfileForCommand(ItemRoute route, Profile profile, Thing thing, Command convertedCommand,
             @Nullable String source) {
         if (profile instanceof StateProfile) {
-            CacheKey key = new CacheKey("COMMAND", profile, thing);
-            Profile p = profileSafeCallCache.computeIfAbsent(key,
-                    (k) -> safeCaller.create((StateProfile) k.profile, StateProfile.class) //
-                            .withAsync() //
-                            .withIdentifier(k.thing) //
-                            .withTimeout(THINGHANDLER_EVENT_TIMEOUT) //
-                            .build());
+            Profile p = route.commandProfile;
+            if (p == null || route.proxiedProfile != profile) {
+                CacheKey key = new CacheKey("COMMAND", profile, thing);
+                p = profileSafeCallCache.computeIfAbsent(key,
+                        (k) -> safeCaller.create((StateProfile) k.profile, StateProfile.class) //
+                                .withAsync() //
+                                .withIdentifier(k.thing) //
+                                .withTimeout(THINGHANDLER_EVENT_TIMEOUT) //
+                                .build());
+                route.setCommandProfile(profile, p);
+            }
             if (p instanceof StateProfile profileP) {
                 profileP.onCommandFromItem(convertedCommand, source);
             } else {
@@ -382,46 +456,121 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     }
 
     private <T extends Type> void handleEvent(String itemName, T type, @Nullable String source,
-            Function<@Nullable String, @Nullable List<Class<? extends T>>> acceptedTypesFunction,
             ProfileAction<T> action) {
-        final Item item = getItem(itemName);
+        ItemRouting routing = getItemRouting(itemName);
+        final Item item = routing.item();
         if (item == null) {
             logger.debug("Received an event for item {} which does not exist", itemName);
             return;
         }
 
-        itemChannelLinkRegistry.getLinks(itemName).stream().filter(link -> {
+        for (ItemRoute route : routing.routes()) {
             // make sure the command event is not sent back to its source
-            return !link.getLinkedUID().toString().equals(source);
-        }).forEach(link -> {
-            ChannelUID channelUID = link.getLinkedUID();
-            ThingUID thingUID = channelUID.getThingUID();
-            Thing thing = thingRegistry.get(thingUID);
-            if (thing != null) {
-                Channel channel = thing.getChannel(channelUID);
-                if (channel != null) {
-                    if (thing.getHandler() != null) {
-                        // fix QuantityType/DecimalType, leave others as-is
-                        @Nullable
-                        T uomType = fixUoM(type, channel, item);
-                        Profile profile = getProfile(link, item, thing);
-                        action.applyProfile(profile, thing, uomType != null ? uomType : type, source);
-                    }
-                } else {
-                    logger.debug("Received  event '{}' for non-existing channel '{}', not forwarding it to the handler",
-                            type, channelUID);
-                }
-            } else {
+            if (route.linkedUID.equals(source)) {
+                continue;
+            }
+            Thing thing = route.thing;
+            Channel channel = route.channel;
+            if (thing == null) {
                 logger.debug("Received  event '{}' for non-existing thing '{}', not forwarding it to the handler", type,
-                        channelUID.getThingUID());
+                        route.link.getLinkedUID().getThingUID());
+            } else if (channel == null) {
+                logger.debug("Received  event '{}' for non-existing channel '{}', not forwarding it to the handler",
+                        type, route.link.getLinkedUID());
+            } else if (thing.getHandler() != null) {
+                // fix QuantityType/DecimalType, leave others as-is
+                @Nullable
+                T uomType = fixUoM(type, route.channelAcceptedItemType, route.sameDimension, item);
+                Profile profile = route.getProfile(item);
+                action.applyProfile(route, profile, thing, uomType != null ? uomType : type, source);
             }
-        });
+        }
+    }
+
+    private ItemRouting getItemRouting(String itemName) {
+        // the generation is read first, so a route built from registries that change meanwhile is already stale
+        long generation = routingGeneration.get();
+        ItemRouting routing = itemRoutings.get(itemName);
+        if (routing == null || routing.generation() != generation) {
+            long invalidations = thingInvalidations.get();
+            Item item = getItem(itemName);
+            List<ItemRoute> routes = new ArrayList<>();
+            if (item != null) {
+                Map<ThingUID, @Nullable Thing> things = new HashMap<>();
+                for (ItemChannelLink link : itemChannelLinkRegistry.getLinks(itemName)) {
+                    Thing thing = things.computeIfAbsent(link.getLinkedUID().getThingUID(), thingRegistry::get);
+                    routes.add(new ItemRoute(link, item, thing));
+                }
+            }
+            routing = new ItemRouting(generation, item, List.copyOf(routes));
+            itemRoutings.put(itemName, routing);
+            if (thingInvalidations.get() != invalidations) {
+                // a thing changed meanwhile and its routes may have been dropped before this one was added
+                itemRoutings.remove(itemName, routing);
+            }
+        }
+        return routing;
+    }
+
+    private ChannelRouting getChannelRouting(ChannelUID channelUID) {
+        long generation = routingGeneration.get();
+        ChannelRouting routing = channelRoutings.get(channelUID);
+        if (routing == null || routing.generation() != generation) {
+            long invalidations = thingInvalidations.get();
+            final Thing thing = thingRegistry.get(channelUID.getThingUID());
+            List<ChannelRoute> routes = new ArrayList<>();
+            for (ItemChannelLink link : itemChannelLinkRegistry.getLinks(channelUID)) {
+                final Item item = getItem(link.getItemName());
+                if (item != null) {
+                    routes.add(new ChannelRoute(link, item, thing));
+                }
+            }
+            routing = new ChannelRouting(generation, List.copyOf(routes));
+            channelRoutings.put(channelUID, routing);
+            if (thingInvalidations.get() != invalidations) {
+                channelRoutings.remove(channelUID, routing);
+            }
+        }
+        return routing;
+    }
+
+    private void invalidateRoutes() {
+        routingGeneration.incrementAndGet();
+        // only frees the memory, the routes are already stale
+        itemRoutings.clear();
+        channelRoutings.clear();
+    }
+
+    /**
+     * Drops the routes that depend on a thing, which are the routes from and to its channels.
+     *
+     * @param thingUID the UID of the thing that was added, updated or removed
+     */
+    private void invalidateRoutes(ThingUID thingUID) {
+        // counted first, so routes that are built meanwhile notice it and drop themselves
+        thingInvalidations.incrementAndGet();
+        channelRoutings.keySet().removeIf(channelUID -> thingUID.equals(channelUID.getThingUID()));
+        itemRoutings.values().removeIf(routing -> routing.routes().stream()
+                .anyMatch(route -> thingUID.equals(route.link.getLinkedUID().getThingUID())));
     }
 
-    @SuppressWarnings("unchecked")
     private <T extends Type> @Nullable T fixUoM(@Nullable T originalType, Channel channel, Item item) {
         String channelAcceptedItemType = channel.getAcceptedItemType();
+        return fixUoM(originalType, channelAcceptedItemType, hasSameDimension(channelAcceptedItemType, item), item);
+    }
+
+    private static boolean hasSameDimension(@Nullable String channelAcceptedItemType, Item item) {
+        if (channelAcceptedItemType == null) {
+            return false;
+        }
+        String itemDimension = ItemUtil.getItemTypeExtension(item.getType());
+        String channelDimension = ItemUtil.getItemTypeExtension(channelAcceptedItemType);
+        return channelDimension != null && channelDimension.equals(itemDimension);
+    }
 
+    @SuppressWarnings("unchecked")
+    private <T extends Type> @Nullable T fixUoM(@Nullable T originalType, @Nullable String channelAcceptedItemType,
+            boolean sameDimension, Item item) {
         if (channelAcceptedItemType == null) {
             return originalType;
         }
@@ -433,11 +582,7 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
             return (T) new DecimalType(quantityType.toBigDecimal());
         }
 
-        String itemDimension = ItemUtil.getItemTypeExtension(item.getType());
-        String channelDimension = ItemUtil.getItemTypeExtension(channelAcceptedItemType);
-
-        if (originalType instanceof DecimalType decimalType && channelDimension != null
-                && channelDimension.equals(itemDimension)) {
+        if (originalType instanceof DecimalType decimalType && sameDimension) {
             // Add unit from item to DecimalType when dimensions are equal
             Unit<?> unit = Objects.requireNonNull(((NumberItem) item).getUnit());
             return (T) new QuantityType<>(decimalType.toBigDecimal(), unit);
@@ -490,10 +635,8 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     private void receiveTrigger(ChannelTriggeredEvent channelTriggeredEvent) {
         final ChannelUID channelUID = channelTriggeredEvent.getChannel();
         final String event = channelTriggeredEvent.getEvent();
-        ThingUID thingUID = channelUID.getThingUID();
-        final Thing thing = thingRegistry.get(thingUID);
 
-        handleCallFromHandler(channelUID, thing, profile -> {
+        handleCallFromHandler(channelUID, profile -> {
             if (profile instanceof TriggerProfile triggerProfile) {
                 triggerProfile.onTriggerFromHandler(event);
             }
@@ -501,21 +644,62 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     }
 
     public void stateUpdated(ChannelUID channelUID, State state) {
-        ThingUID thingUID = channelUID.getThingUID();
-        final Thing thing = thingRegistry.get(thingUID);
-
-        handleCallFromHandler(channelUID, thing, profile -> {
+        handleCallFromHandler(channelUID, profile -> {
             if (profile instanceof StateProfile stateProfile) {
                 stateProfile.onStateUpdateFromHandler(state);
             }
         });
     }
 
-    public void postCommand(ChannelUID channelUID, Command command) {
-        ThingUID thingUID = channelUID.getThingUID();
-        final Thing thing = thingRegistry.get(thingUID);
+    /**
+     * Handles the states of several channels in one pass and publishes the resulting item state events as a single
+     * {@link org.openhab.core.items.events.ItemStateBatchEvent}.
+     * <p>
+     * Any other event a profile posts meanwhile, like a command, is published after the state events collected so
+     * far, so the order of the events is kept. A batch that is handled within another one is merged into it.
+     *
+     * @param states the states indexed by the channel UID
+     */
+    public void stateUpdated(Map<ChannelUID, State> states) {
+        if (batchedStateEvents.get() != null) {
+            states.forEach(this::stateUpdated);
+            return;
+        }
+
+        List<ItemStateEvent> stateEvents = new ArrayList<>(states.size());
+        batchedStateEvents.set(stateEvents);
+        try {
+            states.forEach(this::stateUpdated);
+        } finally {
+            // the events collected so far are published even if a profile failed
+            batchedStateEvents.remove();
+            postStateEvents(stateEvents);
+        }
+    }
 
-        handleCallFromHandler(channelUID, thing, profile -> {
+    private void postFromProfile(Event event) {
+        List<ItemStateEvent> stateEvents = batchedStateEvents.get();
+        if (stateEvents != null) {
+            if (event instanceof ItemStateEvent stateEvent) {
+                stateEvents.add(stateEvent);
+                return;
+            }
+            postStateEvents(stateEvents);
+            stateEvents.clear();
+        }
+        eventPublisher.post(event);
+    }
+
+    private void postStateEvents(List<ItemStateEvent> stateEvents) {
+        if (stateEvents.size() == 1) {
+            eventPublisher.post(stateEvents.get(0));
+        } else if (!stateEvents.isEmpty()) {
+            eventPublisher.post(ItemEventFactory.createStateBatchEvent(stateEvents, null));
+        }
+    }
+
+    public void postCommand(ChannelUID channelUID, Command command) {
+        handleCallFromHandler(channelUID, profile -> {
             if (profile instanceof StateProfile stateProfile) {
                 stateProfile.onCommandFromHandler(command);
             }
@@ -523,9 +707,7 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
     }
 
     public void sendTimeSeries(ChannelUID channelUID, TimeSeries timeSeries) {
-        ThingUID thingUID = channelUID.getThingUID();
-        Thing thing = thingRegistry.get(thingUID);
-        handleCallFromHandler(channelUID, thing, profile -> {
+        handleCallFromHandler(channelUID, profile -> {
             // TODO: check which profiles need enhancements
             if (profile instanceof TimeSeriesProfile timeSeriesProfile) {
                 timeSeriesProfile.onTimeSeriesFromHandler(timeSeries);
@@ -536,14 +718,10 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
         });
     }
 
-    private void handleCallFromHandler(ChannelUID channelUID, @Nullable Thing thing, Consumer<Profile> action) {
-        itemChannelLinkRegistry.getLinks(channelUID).forEach(link -> {
-            final Item item = getItem(link.getItemName());
-            if (item != null) {
-                final Profile profile = getProfile(link, item, thing);
-                action.accept(profile);
-            }
-        });
+    private void handleCallFromHandler(ChannelUID channelUID, Consumer<Profile> action) {
+        for (ChannelRoute route : getChannelRouting(channelUID).routes()) {
+            action.accept(route.getProfile());
+        }
     }
 
     public void channelTriggered(Thing thing, ChannelUID channelUID, String event) {
@@ -555,11 +733,12 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
             profiles.remove(link.getUID());
         }
         profileFactories.values().forEach(list -> list.remove(link.getUID()));
+        invalidateRoutes();
     }
 
     @Override
     public void added(ItemChannelLink element) {
-        // nothing to do
+        invalidateRoutes();
     }
 
     @Override
@@ -583,6 +762,7 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
         synchronized (profiles) {
             links.forEach(profiles::remove);
         }
+        invalidateRoutes();
     }
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
@@ -621,4 +801,88 @@ public class CommunicationManager implements EventSubscriber, RegistryChangeList
             }
         }
     }
+
+    /**
+     * A route of the events of an item to a linked channel. The profile and its asynchronous proxies are resolved
+     * with the first event.
+     */
+    private final class ItemRoute {
+        private final ItemChannelLink link;
+        private final String linkedUID;
+        private final @Nullable Thing thing;
+        private final @Nullable Channel channel;
+        private final @Nullable String channelAcceptedItemType;
+        private final boolean sameDimension;
+
+        private volatile @Nullable Profile profile;
+        private volatile @Nullable Profile proxiedProfile;
+        private volatile @Nullable Profile updateProfile;
+        private volatile @Nullable Profile commandProfile;
+
+        private ItemRoute(ItemChannelLink link, Item item, @Nullable Thing thing) {
+            this.link = link;
+            this.linkedUID = link.getLinkedUID().toString();
+            this.thing = thing;
+            this.channel = thing == null ? null : thing.getChannel(link.getLinkedUID());
+            Channel channel = this.channel;
+            this.channelAcceptedItemType = channel == null ? null : channel.getAcceptedItemType();
+            this.sameDimension = hasSameDimension(channelAcceptedItemType, item);
+        }
+
+        private Profile getProfile(Item item) {
+            Profile profile = this.profile;
+            if (profile == null) {
+                profile = CommunicationManager.this.getProfile(link, item, thing);
+                if (profile != NO_OP_PROFILE) {
+                    // the no-op profile is not kept, so the profile is looked up again with the next event
+                    this.profile = profile;
+                }
+            }
+            return profile;
+        }
+
+        private synchronized void setUpdateProfile(Profile profile, @Nullable Profile updateProfile) {
+            if (proxiedProfile != profile) {
+                proxiedProfile = profile;
+                commandProfile = null;
+            }
+            this.updateProfile = updateProfile;
+        }
+
+        private synchronized void setCommandProfile(Profile profile, @Nullable Profile commandProfile) {
+            if (proxiedProfile != profile) {
+                proxiedProfile = profile;
+                updateProfile = null;
+            }
+            this.commandProfile = commandProfile;
+        }
+    }
+
+    /**
+     * A route of the calls of a thing handler for a channel to a linked item.
+     */
+    private final class ChannelRoute {
+        private final ItemChannelLink link;
+        private final Item item;
+        private final @Nullable Thing thing;
+
+        private volatile @Nullable Profile profile;
+
+        private ChannelRoute(ItemChannelLink link, Item item, @Nullable Thing thing) {
+            this.link = link;
+            this.item = item;
+            this.thing = thing;
+        }
+
+        private Profile getProfile() {
+            Profile profile = this.profile;
+            if (profile == null) {
+                profile = CommunicationManager.this.getProfile(link, item, thing);
+                if (profile != NO_OP_PROFILE) {
+                    this.profile = profile;
+                }
+            }
+            return profile;
+        }
+    }
 }
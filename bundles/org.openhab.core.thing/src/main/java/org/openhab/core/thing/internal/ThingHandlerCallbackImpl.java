@@ -66,6 +66,11 @@ class ThingHandlerCallbackImpl implements ThingHandlerCallback {
         thingManager.communicationManager.stateUpdated(channelUID, state);
     }
 
+    @Override
+    public void stateUpdated(Map<ChannelUID, State> states) {
+        thingManager.communicationManager.stateUpdated(states);
+    }
+
     @Override
     public void postCommand(ChannelUID channelUID, Command command) {
         thingManager.communicationManager.postCommand(channelUID, command);
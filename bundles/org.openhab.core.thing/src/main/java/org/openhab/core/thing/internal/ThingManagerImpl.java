@@ -14,6 +14,7 @@ package org.openhab.core.thing.internal;
 
 import java.net.URI;
 import java.text.MessageFormat;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -23,9 +24,11 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -134,11 +137,14 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
     private static final String THING_STATUS_STORAGE_NAME = "thing_status_storage";
     private static final String FORCE_REMOVE_THREAD_POOL_NAME = "forceRemove";
     private static final String THING_MANAGER_THREAD_POOL_NAME = "thingManager";
+    // the size of this pool limits the number of things initialized in parallel when a handler factory is added
+    private static final String THING_INIT_THREAD_POOL_NAME = "thingInit";
 
     private final Logger logger = LoggerFactory.getLogger(ThingManagerImpl.class);
 
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(THING_MANAGER_THREAD_POOL_NAME);
+    private final ExecutorService initializer = ThreadPoolManager.getPool(THING_INIT_THREAD_POOL_NAME);
 
     private final List<ThingHandlerFactory> thingHandlerFactories = new CopyOnWriteArrayList<>();
     private final Map<ThingUID, ThingHandler> thingHandlers = new ConcurrentHashMap<>();
@@ -149,6 +155,7 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
     private final Map<ThingUID, Thing> things = new ConcurrentHashMap<>();
     private final Map<ThingUID, Lock> thingLocks = new ConcurrentHashMap<>();
     private final Set<ThingUID> thingUpdatedLock = ConcurrentHashMap.newKeySet();
+    private final Map<ThingUID, Long> initializationStarts = new ConcurrentHashMap<>();
 
     protected final ChannelGroupTypeRegistry channelGroupTypeRegistry;
     protected final ChannelTypeRegistry channelTypeRegistry;
@@ -169,9 +176,12 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
 
     private final ThingStatusInfoI18nLocalizationService thingStatusInfoI18nLocalizationService;
 
-    private @Nullable ScheduledFuture<?> startLevelSetterJob = null;
     private @Nullable ScheduledFuture<?> prerequisiteCheckerJob = null;
 
+    // set when the start level for the things is reached, until all enabled things are initialized
+    private volatile boolean awaitingThingsInitialized = false;
+    private final AtomicBoolean thingsInitializedCheckScheduled = new AtomicBoolean();
+
     private final ThingHandlerCallback thingHandlerCallback = new ThingHandlerCallbackImpl(this);
 
     @Activate
@@ -221,11 +231,7 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
             removeThingHandlerFactory(factory);
         }
         readyService.unregisterTracker(this);
-        ScheduledFuture<?> startLevelSetterJob = this.startLevelSetterJob;
-        if (startLevelSetterJob != null) {
-            startLevelSetterJob.cancel(true);
-            this.startLevelSetterJob = null;
-        }
+        awaitingThingsInitialized = false;
         ScheduledFuture<?> prerequisiteCheckerJob = this.prerequisiteCheckerJob;
         if (prerequisiteCheckerJob != null) {
             prerequisiteCheckerJob.cancel(true);
@@ -399,6 +405,8 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
         }
 
         missingPrerequisites.remove(thing.getUID());
+        initializationStarts.remove(thing.getUID());
+        scheduleThingsInitializedCheck();
     }
 
     @Override
@@ -605,6 +613,7 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
                     logger.debug("Not setting status to INITIALIZING because thing '{}' is in REMOVING status.",
                             thing.getUID());
                 } else {
+                    initializationStarts.put(thingUID, System.nanoTime());
                     setThingStatus(thing, buildStatusInfo(ThingStatus.INITIALIZING, ThingStatusDetail.NONE));
                 }
                 doInitializeHandler(handler);
@@ -970,6 +979,17 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
     protected void setThingStatus(Thing thing, ThingStatusInfo thingStatusInfo) {
         ThingStatusInfo oldStatusInfo = thingStatusInfoI18nLocalizationService.getLocalizedThingStatusInfo(thing, null);
         thing.setStatusInfo(thingStatusInfo);
+        if (thingStatusInfo.getStatus() != ThingStatus.INITIALIZING) {
+            Long initializationStart = initializationStarts.remove(thing.getUID());
+            if (initializationStart != null) {
+                logger.debug("Initialization of thing '{}' took {}ms, status is {}", thing.getUID(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initializationStart),
+                        thingStatusInfo.getStatus());
+            }
+        }
+        if (oldStatusInfo.getStatus() != thingStatusInfo.getStatus()) {
+            scheduleThingsInitializedCheck();
+        }
         ThingStatusInfo newStatusInfo = thingStatusInfoI18nLocalizationService.getLocalizedThingStatusInfo(thing, null);
         try {
             eventPublisher.post(ThingEventFactory.createStatusInfoEvent(thing.getUID(), newStatusInfo));
@@ -1144,20 +1164,67 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
         logger.debug("Thing handler factory '{}' added", thingHandlerFactory.getClass().getSimpleName());
         updateInstructions.putAll(thingUpdateInstructionReader.readForFactory(thingHandlerFactory));
         thingHandlerFactories.add(thingHandlerFactory);
+        // bridges first, so their children do not wait for a free thread while the bridge is not initialized yet
         things.values().stream().filter(thing -> thingHandlerFactory.supportsThingType(thing.getThingTypeUID()))
-                .forEach(thing -> {
+                .sorted(Comparator.comparingInt(this::getBridgeNestingLevel)).forEach(thing -> {
                     if (!isHandlerRegistered(thing)) {
                         ThingPrerequisites thingPrerequisites = new ThingPrerequisites(thing);
                         if (!thingPrerequisites.isReady()) {
                             missingPrerequisites.put(thing.getUID(), thingPrerequisites);
                         }
-                        registerAndInitializeHandler(thing, thingHandlerFactory);
+                        initializer.execute(() -> initializeThingOfAddedFactory(thing, thingHandlerFactory));
                     } else {
                         logger.debug("Thing handler for thing '{}' already registered", thing.getUID());
                     }
                 });
     }
 
+    /**
+     * Registers and initializes the handler of a thing of an added handler factory, unless the thing or the factory
+     * has been removed meanwhile. Things without a bridge and the things of different bridges are initialized in
+     * parallel, the children of a bridge are registered once the bridge is initialized.
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private void initializeThingOfAddedFactory(final Thing thing, final ThingHandlerFactory thingHandlerFactory) {
+        Lock lock = getLockForThing(thing.getUID());
+        lock.lock();
+        try {
+            if (things.get(thing.getUID()) != thing || !thingHandlerFactories.contains(thingHandlerFactory)
+                    || isHandlerRegistered(thing)) {
+                logger.debug("Not initializing thing '{}', it has been removed, updated or initialized meanwhile",
+                        thing.getUID());
+                return;
+            }
+            registerAndInitializeHandler(thing, thingHandlerFactory);
+
+            ThingHandler thingHandler = thing.getHandler();
+            if (!thingHandlerFactories.contains(thingHandlerFactory) && thingHandler != null
+                    && isHandlerRegistered(thing)) {
+                // the factory has been removed while the handler was registered, so the removal may have missed it
+                logger.debug("Handler factory of thing '{}' has been removed during its initialization",
+                        thing.getUID());
+                unregisterAndDisposeHandler(thingHandlerFactory, thing, thingHandler);
+                thingHandlersByFactory.computeIfPresent(thingHandlerFactory,
+                        (factory, handlers) -> handlers.isEmpty() ? null : handlers);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Registration resp. initialization of thing '{}' has been failed: {}", thing.getUID(),
+                    e.getMessage(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int getBridgeNestingLevel(Thing thing) {
+        int bridgeNestingLevel = 0;
+        Bridge bridge = getBridge(thing.getBridgeUID());
+        while (bridge != null && bridgeNestingLevel < MAX_BRIDGE_NESTING) {
+            bridgeNestingLevel++;
+            bridge = getBridge(bridge.getBridgeUID());
+        }
+        return bridgeNestingLevel;
+    }
+
     protected synchronized void removeThingHandlerFactory(ThingHandlerFactory thingHandlerFactory) {
         logger.debug("Thing handler factory '{}' removed", thingHandlerFactory.getClass().getSimpleName());
         thingHandlerFactories.remove(thingHandlerFactory);
@@ -1165,8 +1232,15 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
         if (handlers != null) {
             for (ThingHandler thingHandler : handlers) {
                 final Thing thing = thingHandler.getThing();
-                if (isHandlerRegistered(thing)) {
-                    unregisterAndDisposeHandler(thingHandlerFactory, thing, thingHandler);
+                // the handler may be unregistered by its initialization meanwhile, see initializeThingOfAddedFactory
+                Lock lock = getLockForThing(thing.getUID());
+                lock.lock();
+                try {
+                    if (isHandlerRegistered(thing)) {
+                        unregisterAndDisposeHandler(thingHandlerFactory, thing, thingHandler);
+                    }
+                } finally {
+                    lock.unlock();
                 }
             }
         }
@@ -1202,17 +1276,28 @@ public class ThingManagerImpl implements ReadyTracker, ThingManager, ThingTracke
         return true;
     }
 
+    /**
+     * Checks asynchronously if all enabled things are initialized, once the start level for the things is reached.
+     * Checks requested while a check is pending are merged.
+     */
+    private void scheduleThingsInitializedCheck() {
+        if (awaitingThingsInitialized && thingsInitializedCheckScheduled.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                thingsInitializedCheckScheduled.set(false);
+                if (awaitingThingsInitialized && allEnabledThingsAreInitialized()) {
+                    awaitingThingsInitialized = false;
+                    readyService.markReady(READY_MARKER_THINGS_LOADED);
+                    readyService.unregisterTracker(this);
+                }
+            });
+        }
+    }
+
     @Override
     public void onReadyMarkerAdded(ReadyMarker readyMarker) {
-        startLevelSetterJob = scheduler.scheduleWithFixedDelay(() -> {
-            if (allEnabledThingsAreInitialized()) {
-                readyService.markReady(READY_MARKER_THINGS_LOADED);
-                if (startLevelSetterJob != null) {
-                    startLevelSetterJob.cancel(false);
-                }
-                readyService.unregisterTracker(this);
-            }
-        }, CHECK_INTERVAL, CHECK_INTERVAL, TimeUnit.SECONDS);
+        // from now on every status change of a thing checks if all things are initialized
+        awaitingThingsInitialized = true;
+        scheduleThingsInitializedCheck();
         prerequisiteCheckerJob = scheduler.scheduleWithFixedDelay(this::checkMissingPrerequisites, CHECK_INTERVAL,
                 CHECK_INTERVAL, TimeUnit.SECONDS);
     }
@@ -28,7 +28,9 @@ import org.openhab.core.config.core.ConfigDescriptionRegistry;
 import org.openhab.core.config.core.validation.ConfigDescriptionValidator;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.i18n.TranslationProvider;
+import org.openhab.core.service.ReadyMarker;
 import org.openhab.core.service.ReadyService;
+import org.openhab.core.service.StartLevelService;
 import org.openhab.core.storage.Storage;
 import org.openhab.core.storage.StorageService;
 import org.openhab.core.test.java.JavaTest;
@@ -38,6 +40,7 @@ import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingStatusInfo;
 import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.openhab.core.thing.binding.builder.ThingStatusInfoBuilder;
 import org.openhab.core.thing.i18n.ThingStatusInfoI18nLocalizationService;
 import org.openhab.core.thing.internal.ThingTracker.ThingTrackerEvent;
 import org.openhab.core.thing.internal.update.ThingUpdateInstructionReader;
@@ -117,6 +120,27 @@ public class ThingManagerImplTest extends JavaTest {
         thingManager.removeThingHandlerFactory(mockFactory2);
     }
 
+    @Test
+    public void thingsLoadedMarkerIsSetWhenTheLastThingIsInitialized() {
+        when(storageServiceMock.getStorage(any(), any())).thenReturn(storageMock);
+        when(thingMock.isEnabled()).thenReturn(true);
+        when(thingMock.getStatus()).thenReturn(ThingStatus.UNINITIALIZED);
+
+        ThingManagerImpl thingManager = createThingManager();
+        thingManager.thingAdded(thingMock, ThingTrackerEvent.THING_ADDED);
+
+        thingManager.onReadyMarkerAdded(new ReadyMarker(StartLevelService.STARTLEVEL_MARKER_TYPE,
+                Integer.toString(StartLevelService.STARTLEVEL_STATES)));
+        verify(readyServiceMock, after(500).never()).markReady(any());
+
+        // the status change of the thing triggers the check, there is no polling
+        when(thingMock.getStatus()).thenReturn(ThingStatus.ONLINE);
+        thingManager.setThingStatus(thingMock, ThingStatusInfoBuilder.create(ThingStatus.ONLINE).build());
+
+        verify(readyServiceMock, timeout(5000)).markReady(argThat(marker -> "things".equals(marker.getType())));
+        verify(readyServiceMock, timeout(5000)).unregisterTracker(thingManager);
+    }
+
     @Test
     public void setEnabledWithUnknownThingUID() throws Exception {
         ThingUID unknownUID = new ThingUID("someBundle", "someType", "someID");
@@ -64,7 +64,12 @@ final class PoolBasedSequentialScheduledExecutorService implements ScheduledExec
         private volatile int minimumPoolSize;
 
         public BasePoolExecutor(String threadPoolName, int corePoolSize, ThreadFactory threadFactory) {
-            super(corePoolSize, threadFactory);
+            this(threadPoolName, corePoolSize, threadFactory, null);
+        }
+
+        public BasePoolExecutor(String threadPoolName, int corePoolSize, ThreadFactory threadFactory,
+                @Nullable Executor taskExecutor) {
+            super(corePoolSize, threadFactory, taskExecutor);
 
             this.threadPoolName = threadPoolName;
             // set to one does ensure at least one thread more than tasks running
@@ -72,6 +77,11 @@ final class PoolBasedSequentialScheduledExecutorService implements ScheduledExec
         }
 
         public synchronized void resizePool(int mandatoryPoolSize) {
+            if (hasTaskExecutor()) {
+                // the tasks do not block the threads of the pool, which only hand them to the task executor
+                return;
+            }
+
             int corePoolSize = getCorePoolSize();
 
             if (minimumPoolSize > mandatoryPoolSize) {
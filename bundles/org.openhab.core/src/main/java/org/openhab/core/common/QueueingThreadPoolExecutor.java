@@ -108,6 +108,20 @@ public class QueueingThreadPoolExecutor extends ThreadPoolExecutor {
         return new QueueingThreadPoolExecutor(name, threadPoolSize);
     }
 
+    /**
+     * Creates a new instance of {@link QueueingThreadPoolExecutor} with the given thread factory.
+     *
+     * @param name the name of the thread pool
+     * @param threadPoolSize the maximum size of the pool
+     * @param threadFactory the factory for the threads of the pool
+     * @return the {@link QueueingThreadPoolExecutor} instance
+     */
+    public static QueueingThreadPoolExecutor createInstance(String name, int threadPoolSize,
+            ThreadFactory threadFactory) {
+        return new QueueingThreadPoolExecutor(name, threadFactory, threadPoolSize,
+                new QueueingThreadPoolExecutor.QueueingRejectionHandler());
+    }
+
     /**
      * Adds a new task to the queue
      *
@@ -29,6 +29,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -56,6 +57,15 @@ import org.slf4j.LoggerFactory;
  * <br/>
  * All threads will time out after {@link #THREAD_TIMEOUT}.
  *
+ * <p>
+ * A pool can also be backed by virtual threads, which suits pools whose tasks mostly block on I/O:
+ * <br/>
+ * {@code org.openhab.core.threadpool:<poolName>=virtual}
+ * <br/>
+ * Such a pool runs up to {@link #VIRTUAL_THREAD_POOL_SIZE} tasks concurrently. A scheduled pool only keeps a single
+ * platform thread as timer, which hands the due tasks to virtual threads. The mode of a pool is fixed when the pool is
+ * created, a changed mode takes effect after a restart.
+ *
  * @author Kai Kreuzer - Initial contribution
  */
 @Component(configurationPid = ThreadPoolManager.CONFIGURATION_PID)
@@ -70,9 +80,15 @@ public class ThreadPoolManager {
      */
     public static final String THREAD_POOL_NAME_COMMON = "common";
 
+    /**
+     * The configuration value which backs a pool with virtual threads.
+     */
+    public static final String CONFIG_VIRTUAL = "virtual";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(ThreadPoolManager.class);
 
     protected static final int DEFAULT_THREAD_POOL_SIZE = 5;
+    protected static final int VIRTUAL_THREAD_POOL_SIZE = 10000;
 
     protected static final long THREAD_TIMEOUT = 65L;
     protected static final long THREAD_MONITOR_SLEEP = 60000;
@@ -80,6 +96,7 @@ public class ThreadPoolManager {
     protected static Map<String, ExecutorService> pools = new ConcurrentHashMap<>();
 
     private static Map<String, Integer> configs = new ConcurrentHashMap<>();
+    private static Set<String> virtualConfigs = ConcurrentHashMap.newKeySet();
 
     private static final Set<String> OSGI_PROPERTY_NAMES = Set.of(Constants.SERVICE_PID,
             ComponentConstants.COMPONENT_ID, ComponentConstants.COMPONENT_NAME, "osgi.ds.satisfying.condition.target");
@@ -97,13 +114,25 @@ public class ThreadPoolManager {
             Object config = entry.getValue();
             if (config == null) {
                 configs.remove(poolName);
+                virtualConfigs.remove(poolName);
             }
             if (config instanceof String string) {
+                ThreadPoolExecutor pool = (ThreadPoolExecutor) pools.get(poolName);
+                if (CONFIG_VIRTUAL.equalsIgnoreCase(string.trim())) {
+                    configs.remove(poolName);
+                    virtualConfigs.add(poolName);
+                    if (pool != null && !isVirtual(pool)) {
+                        LOGGER.info("Thread pool '{}' will use virtual threads after a restart", poolName);
+                    }
+                    continue;
+                }
                 try {
                     Integer poolSize = Integer.valueOf(string);
                     configs.put(poolName, poolSize);
-                    ThreadPoolExecutor pool = (ThreadPoolExecutor) pools.get(poolName);
-                    if (pool instanceof BasePoolExecutor basePool) {
+                    virtualConfigs.remove(poolName);
+                    if (pool != null && isVirtual(pool)) {
+                        LOGGER.info("Thread pool '{}' will use platform threads after a restart", poolName);
+                    } else if (pool instanceof BasePoolExecutor basePool) {
                         basePool.setMinimumPoolSize(poolSize);
                         LOGGER.debug("Updated scheduled thread pool '{}' to minimum size {}", poolName, poolSize);
                     } else if (pool instanceof ScheduledThreadPoolExecutor) {
@@ -114,8 +143,9 @@ public class ThreadPoolManager {
                         LOGGER.debug("Updated queuing thread pool '{}' to size {}", poolName, poolSize);
                     }
                 } catch (NumberFormatException e) {
-                    LOGGER.warn("Ignoring invalid configuration for pool '{}': {} - value must be an integer", poolName,
-                            config);
+                    LOGGER.warn(
+                            "Ignoring invalid configuration for pool '{}': {} - value must be an integer or '{}'",
+                            poolName, config, CONFIG_VIRTUAL);
                     continue;
                 }
             }
@@ -134,15 +164,21 @@ public class ThreadPoolManager {
      */
     public static ScheduledExecutorService getPoolBasedSequentialScheduledExecutorService(String poolName,
             String threadName) {
-        if (configs.getOrDefault(poolName, 0) > 0) {
+        if (configs.getOrDefault(poolName, 0) > 0 || virtualConfigs.contains(poolName)) {
             ExecutorService pool = pools.computeIfAbsent(poolName, name -> {
-                int cfg = getConfig(name);
-                ScheduledThreadPoolExecutor executor = new BasePoolExecutor(name, cfg,
-                        new NamedThreadFactory(name, true, Thread.NORM_PRIORITY));
+                ScheduledThreadPoolExecutor executor;
+                if (virtualConfigs.contains(name)) {
+                    executor = new BasePoolExecutor(name, 1, createTimerThreadFactory(name),
+                            createVirtualExecutor(name));
+                    LOGGER.debug("Created scheduled pool based virtual thread pool '{}'", name);
+                } else {
+                    int cfg = getConfig(name);
+                    executor = new BasePoolExecutor(name, cfg, createThreadFactory(name));
+                    LOGGER.debug("Created scheduled pool based thread pool '{}' of size {}", name, cfg);
+                }
                 executor.setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
                 executor.allowCoreThreadTimeOut(true);
                 executor.setRemoveOnCancelPolicy(true);
-                LOGGER.debug("Created scheduled pool based thread pool '{}' of size {}", name, cfg);
                 return executor;
             });
 
@@ -165,13 +201,20 @@ public class ThreadPoolManager {
      */
     public static ScheduledExecutorService getScheduledPool(String poolName) {
         ExecutorService pool = pools.computeIfAbsent(poolName, name -> {
-            int cfg = getConfig(name);
-            ScheduledThreadPoolExecutor executor = new WrappedScheduledExecutorService(cfg,
-                    new NamedThreadFactory(name, true, Thread.NORM_PRIORITY));
+            ScheduledThreadPoolExecutor executor;
+            if (virtualConfigs.contains(name)) {
+                // the single platform thread is only the timer, the tasks run on virtual threads
+                executor = new WrappedScheduledExecutorService(1, createTimerThreadFactory(name),
+                        createVirtualExecutor(name));
+                LOGGER.debug("Created scheduled virtual thread pool '{}'", name);
+            } else {
+                int cfg = getConfig(name);
+                executor = new WrappedScheduledExecutorService(cfg, createThreadFactory(name));
+                LOGGER.debug("Created scheduled thread pool '{}' of size {}", name, cfg);
+            }
             executor.setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
             executor.allowCoreThreadTimeOut(true);
             executor.setRemoveOnCancelPolicy(true);
-            LOGGER.debug("Created scheduled thread pool '{}' of size {}", name, cfg);
             return executor;
         });
 
@@ -191,11 +234,19 @@ public class ThreadPoolManager {
      */
     public static ExecutorService getPool(String poolName) {
         ExecutorService pool = pools.computeIfAbsent(poolName, name -> {
-            int cfg = getConfig(name);
-            ThreadPoolExecutor executor = QueueingThreadPoolExecutor.createInstance(name, cfg);
+            ThreadPoolExecutor executor;
+            if (virtualConfigs.contains(name)) {
+                // every task gets its own thread up to the pool size, threads are cheap
+                executor = QueueingThreadPoolExecutor.createInstance(name, VIRTUAL_THREAD_POOL_SIZE,
+                        createThreadFactory(name));
+                LOGGER.debug("Created virtual thread pool '{}' with size {}", name, VIRTUAL_THREAD_POOL_SIZE);
+            } else {
+                int cfg = getConfig(name);
+                executor = QueueingThreadPoolExecutor.createInstance(name, cfg);
+                LOGGER.debug("Created thread pool '{}' with size {}", name, cfg);
+            }
             executor.setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
             executor.allowCoreThreadTimeOut(true);
-            LOGGER.debug("Created thread pool '{}' with size {}", name, cfg);
             return executor;
         });
 
@@ -212,6 +263,28 @@ public class ThreadPoolManager {
         return (ScheduledThreadPoolExecutor) ret.getDelegate();
     }
 
+    private static ThreadFactory createThreadFactory(String poolName) {
+        if (virtualConfigs.contains(poolName)) {
+            return new VirtualThreadFactory(poolName);
+        }
+        return new NamedThreadFactory(poolName, true, Thread.NORM_PRIORITY);
+    }
+
+    private static ThreadFactory createTimerThreadFactory(String poolName) {
+        return new NamedThreadFactory(poolName + "-timer", true, Thread.NORM_PRIORITY);
+    }
+
+    private static ExecutorService createVirtualExecutor(String poolName) {
+        return Executors.newThreadPerTaskExecutor(new VirtualThreadFactory(poolName));
+    }
+
+    private static boolean isVirtual(ThreadPoolExecutor pool) {
+        if (pool instanceof WrappedScheduledExecutorService scheduledPool) {
+            return scheduledPool.hasTaskExecutor();
+        }
+        return pool.getThreadFactory() instanceof VirtualThreadFactory;
+    }
+
     protected static int getConfig(String poolName) {
         Integer cfg = configs.get(poolName);
         return cfg != null ? cfg : DEFAULT_THREAD_POOL_SIZE;
@@ -221,6 +294,23 @@ public class ThreadPoolManager {
         return new HashSet<>(pools.keySet());
     }
 
+    /**
+     * Creates virtual threads, named like the threads of the {@link NamedThreadFactory}.
+     */
+    static class VirtualThreadFactory implements ThreadFactory {
+
+        private final ThreadFactory factory;
+
+        VirtualThreadFactory(String poolName) {
+            factory = Thread.ofVirtual().name("OH-" + poolName + "-", 1).factory();
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return factory.newThread(runnable);
+        }
+    }
+
     // needs to be of a class supported by micrometer-core, see ExecutorServiceMetrics.java,
     // originally this class was intended to be defined as "implements ExecutorService"
     static class UnstoppableExecutorService<T extends ExecutorService> extends ThreadPoolExecutor {
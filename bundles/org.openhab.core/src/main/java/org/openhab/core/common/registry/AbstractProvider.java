@@ -12,6 +12,7 @@
  */
 package org.openhab.core.common.registry;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -90,4 +91,43 @@ public abstract class AbstractProvider<@NonNull E> implements Provider<E> {
     protected void notifyListenersAboutUpdatedElement(E oldElement, E element) {
         notifyListeners(oldElement, element, EventType.UPDATED);
     }
+
+    /**
+     * Notifies the listeners about several added elements with a single call.
+     *
+     * @param elements the added elements
+     */
+    protected void notifyListenersAboutAddedElements(Collection<E> elements) {
+        if (elements.isEmpty()) {
+            return;
+        }
+        for (ProviderChangeListener<E> listener : this.listeners) {
+            try {
+                listener.addedAll(this, elements);
+            } catch (Exception ex) {
+                logger.error("Could not inform the listener '{}' about the '{}' event!: {}", listener,
+                        EventType.ADDED.name(), ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * Notifies the listeners about several updated elements with a single call.
+     *
+     * @param oldElements the elements before the update
+     * @param elements the updated elements, in the same order as the old elements
+     */
+    protected void notifyListenersAboutUpdatedElements(List<E> oldElements, List<E> elements) {
+        if (elements.isEmpty()) {
+            return;
+        }
+        for (ProviderChangeListener<E> listener : this.listeners) {
+            try {
+                listener.updatedAll(this, oldElements, elements);
+            } catch (Exception ex) {
+                logger.error("Could not inform the listener '{}' about the '{}' event!: {}", listener,
+                        EventType.UPDATED.name(), ex.getMessage(), ex);
+            }
+        }
+    }
 }
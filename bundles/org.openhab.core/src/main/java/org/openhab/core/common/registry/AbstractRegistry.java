@@ -12,15 +12,17 @@
  */
 package org.openhab.core.common.registry;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
@@ -43,6 +45,10 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link AbstractRegistry} is an abstract implementation of the {@link Registry} interface, that can be used as
  * base class for {@link Registry} implementations.
+ * <p>
+ * The lookup of elements and their providers by key does not lock: they are kept in concurrent maps, which are only
+ * modified while holding the write lock. An element is visible by its key only after its provider has been registered
+ * and is no longer visible before its provider is unregistered.
  *
  * @author Dennis Nobel - Initial contribution
  * @author Stefan Bußweiler - Migration to new event mechanism
@@ -74,10 +80,11 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
     private final ReentrantReadWriteLock elementLock = new ReentrantReadWriteLock();
     private final ReentrantReadWriteLock.ReadLock elementReadLock = elementLock.readLock();
     private final ReentrantReadWriteLock.WriteLock elementWriteLock = elementLock.writeLock();
+    // guarded by elementLock
     private final Map<Provider<E>, Collection<E>> providerToElements = new HashMap<>();
-    private final Map<E, Provider<E>> elementToProvider = new HashMap<>();
-    private final Map<K, E> identifierToElement = new HashMap<>();
-    private final Set<E> elements = new HashSet<>();
+    // modified while holding the write lock, read without locking
+    private final Map<E, Provider<E>> elementToProvider = new ConcurrentHashMap<>();
+    private final Map<K, E> identifierToElement = new ConcurrentHashMap<>();
 
     private final Collection<RegistryChangeListener<E>> listeners = new CopyOnWriteArraySet<>();
 
@@ -175,6 +182,28 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
         notifyListenersAboutAddedElement(element);
     }
 
+    @Override
+    public void addedAll(Provider<E> provider, Collection<E> elements) {
+        final Collection<E> elementsAdded = new ArrayList<>(elements.size());
+        elementWriteLock.lock();
+        try {
+            final Collection<E> providerElements = providerToElements.get(provider);
+            if (providerElements == null) {
+                logger.debug("Cannot add {} elements. Provider \"{}\" unknown.", elements.size(),
+                        provider.getClass().getSimpleName());
+                return;
+            }
+            for (E element : elements) {
+                if (added(provider, element, providerElements)) {
+                    elementsAdded.add(element);
+                }
+            }
+        } finally {
+            elementWriteLock.unlock();
+        }
+        notifyListenersAboutAddedElements(elementsAdded);
+    }
+
     /**
      * Handle an element that has been added for a provider.
      *
@@ -215,10 +244,9 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
                     ex.getMessage(), logger.isDebugEnabled() ? ex : null);
             return false;
         }
-        identifierToElement.put(element.getUID(), element);
         elementToProvider.put(element, provider);
+        identifierToElement.put(element.getUID(), element);
         providerElements.add(element);
-        elements.add(element);
         return true;
     }
 
@@ -229,12 +257,7 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
 
     @Override
     public Collection<E> getAll() {
-        elementReadLock.lock();
-        try {
-            return new HashSet<>(elements);
-        } finally {
-            elementReadLock.unlock();
-        }
+        return new HashSet<>(identifierToElement.values());
     }
 
     @Override
@@ -277,7 +300,6 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
             if (providerElements != null) {
                 providerElements.remove(existingElement);
             }
-            elements.remove(existingElement);
         } finally {
             elementWriteLock.unlock();
         }
@@ -291,43 +313,11 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
 
     @Override
     public void updated(Provider<E> provider, E oldElement, E element) {
-        final K uidOld = oldElement.getUID();
-        final K uid = element.getUID();
-        if (!uidOld.equals(uid)) {
-            logger.debug("Received update event for elements that UID differ (old: \"{}\", new: \"{}\"). Ignore event.",
-                    uidOld, uid);
-            return;
-        }
-
-        final @Nullable E existingElement;
         elementWriteLock.lock();
         try {
-            // The given "element" might not be the live instance but loaded from storage.
-            // Use the identifier to operate on the "real" element.
-            existingElement = identifierToElement.get(uid);
-            if (existingElement == null) {
-                logger.debug("Cannot update \"{}\" with key \"{}\" for provider \"{}\" because it does not exist!",
-                        element.getClass().getSimpleName(), uid, provider.getClass().getSimpleName());
-                return;
-            }
-            try {
-                beforeUpdateElement(existingElement);
-                onUpdateElement(oldElement, element);
-            } catch (final RuntimeException ex) {
-                logger.warn("Cannot update \"{}\" with key \"{}\": {}", element.getClass().getSimpleName(), uid,
-                        ex.getMessage(), ex);
+            if (!updateElement(provider, oldElement, element)) {
                 return;
             }
-            identifierToElement.put(uid, element);
-            elementToProvider.remove(existingElement);
-            elementToProvider.put(element, provider);
-            final Collection<E> providerElements = providerToElements.get(provider);
-            if (providerElements != null) {
-                providerElements.remove(existingElement);
-                providerElements.add(element);
-            }
-            elements.remove(existingElement);
-            elements.add(element);
         } finally {
             elementWriteLock.unlock();
         }
@@ -335,13 +325,79 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
     }
 
     @Override
-    public @Nullable E get(K key) {
-        elementReadLock.lock();
+    public void updatedAll(Provider<E> provider, List<E> oldElements, List<E> elements) {
+        if (oldElements.size() != elements.size()) {
+            throw new IllegalArgumentException("The number of old and updated elements differs.");
+        }
+        final List<E> oldElementsUpdated = new ArrayList<>(elements.size());
+        final List<E> elementsUpdated = new ArrayList<>(elements.size());
+        elementWriteLock.lock();
         try {
-            return identifierToElement.get(key);
+            for (int i = 0; i < elements.size(); i++) {
+                if (updateElement(provider, oldElements.get(i), elements.get(i))) {
+                    oldElementsUpdated.add(oldElements.get(i));
+                    elementsUpdated.add(elements.get(i));
+                }
+            }
         } finally {
-            elementReadLock.unlock();
+            elementWriteLock.unlock();
+        }
+        notifyListenersAboutUpdatedElements(oldElementsUpdated, elementsUpdated);
+    }
+
+    /**
+     * Handle an element that has been updated by a provider.
+     *
+     * <p>
+     * This method must only be called if the write lock for elements has been locked!
+     *
+     * @param provider the provider that provides the element
+     * @param oldElement the element before the update, as given by the provider
+     * @param element the updated element
+     * @return indication if the element has been updated
+     */
+    private boolean updateElement(Provider<E> provider, E oldElement, E element) {
+        final K uidOld = oldElement.getUID();
+        final K uid = element.getUID();
+        if (!uidOld.equals(uid)) {
+            logger.debug("Received update event for elements that UID differ (old: \"{}\", new: \"{}\"). Ignore event.",
+                    uidOld, uid);
+            return false;
+        }
+
+        // The given "element" might not be the live instance but loaded from storage.
+        // Use the identifier to operate on the "real" element.
+        final @Nullable E existingElement = identifierToElement.get(uid);
+        if (existingElement == null) {
+            logger.debug("Cannot update \"{}\" with key \"{}\" for provider \"{}\" because it does not exist!",
+                    element.getClass().getSimpleName(), uid, provider.getClass().getSimpleName());
+            return false;
+        }
+        try {
+            beforeUpdateElement(existingElement);
+            onUpdateElement(oldElement, element);
+        } catch (final RuntimeException ex) {
+            logger.warn("Cannot update \"{}\" with key \"{}\": {}", element.getClass().getSimpleName(), uid,
+                    ex.getMessage(), ex);
+            return false;
+        }
+        // the new element is registered with its provider before it replaces the existing one
+        elementToProvider.put(element, provider);
+        identifierToElement.put(uid, element);
+        if (existingElement != element && !existingElement.equals(element)) {
+            elementToProvider.remove(existingElement);
+        }
+        final Collection<E> providerElements = providerToElements.get(provider);
+        if (providerElements != null) {
+            providerElements.remove(existingElement);
+            providerElements.add(element);
         }
+        return true;
+    }
+
+    @Override
+    public @Nullable E get(K key) {
+        return identifierToElement.get(key);
     }
 
     /**
@@ -351,14 +407,9 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * @return provider and element entry or null if no element was found
      */
     protected @Nullable Entry<Provider<E>, E> getValueAndProvider(K key) {
-        elementReadLock.lock();
-        try {
-            final @Nullable E element = identifierToElement.get(key);
-            final Provider<E> provider = elementToProvider.get(element);
-            return element == null || provider == null ? null : Map.entry(provider, element);
-        } finally {
-            elementReadLock.unlock();
-        }
+        final @Nullable E element = identifierToElement.get(key);
+        final Provider<E> provider = element == null ? null : elementToProvider.get(element);
+        return element == null || provider == null ? null : Map.entry(provider, element);
     }
 
     @Override
@@ -428,6 +479,49 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
         notifyListeners(oldElement, element, EventType.UPDATED);
     }
 
+    /**
+     * Notifies the listeners about elements that have been added at once.
+     * <p>
+     * Sub classes can override this method to notify their listeners with a single call, the default implementation
+     * notifies about every single element.
+     *
+     * @param elements the added elements
+     */
+    protected void notifyListenersAboutAddedElements(Collection<E> elements) {
+        elements.forEach(this::notifyListenersAboutAddedElement);
+    }
+
+    /**
+     * Notifies the listeners about elements that have been updated at once.
+     * <p>
+     * Sub classes can override this method to notify their listeners with a single call, the default implementation
+     * notifies about every single element.
+     *
+     * @param oldElements the elements before the update
+     * @param elements the updated elements, in the same order as the old elements
+     */
+    protected void notifyListenersAboutUpdatedElements(List<E> oldElements, List<E> elements) {
+        for (int i = 0; i < elements.size(); i++) {
+            notifyListenersAboutUpdatedElement(oldElements.get(i), elements.get(i));
+        }
+    }
+
+    /**
+     * Calls a notification for every registered listener.
+     *
+     * @param notification the notification of a listener
+     */
+    protected void notifyListeners(Consumer<RegistryChangeListener<E>> notification) {
+        for (RegistryChangeListener<E> listener : this.listeners) {
+            try {
+                notification.accept(listener);
+            } catch (Throwable throwable) {
+                logger.error("Cannot inform the listener \"{}\" about changed elements: {}", listener,
+                        throwable.getMessage(), throwable);
+            }
+        }
+    }
+
     protected void addProvider(Provider<E> provider) {
         final Collection<E> elementsOfAddedProvider = provider.getAll();
         final Collection<E> elementsAdded = new HashSet<>(elementsOfAddedProvider.size());
@@ -449,7 +543,7 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
         } finally {
             elementWriteLock.unlock();
         }
-        elementsAdded.forEach(this::notifyListenersAboutAddedElement);
+        notifyListenersAboutAddedElements(elementsAdded);
 
         if (provider instanceof ManagedProvider && providerClazz instanceof Class clazz
                 && readyService instanceof ReadyService rs) {
@@ -465,13 +559,8 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * @return provider or null if no provider was found
      */
     protected @Nullable Provider<E> getProvider(K key) {
-        elementReadLock.lock();
-        try {
-            final @Nullable E element = identifierToElement.get(key);
-            return element == null ? null : elementToProvider.get(element);
-        } finally {
-            elementReadLock.unlock();
-        }
+        final @Nullable E element = identifierToElement.get(key);
+        return element == null ? null : elementToProvider.get(element);
     }
 
     /**
@@ -481,12 +570,7 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
      * @return provider or null if no provider was found
      */
     public @Nullable Provider<E> getProvider(E element) {
-        elementReadLock.lock();
-        try {
-            return elementToProvider.get(element);
-        } finally {
-            elementReadLock.unlock();
-        }
+        return elementToProvider.get(element);
     }
 
     /**
@@ -531,7 +615,7 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
     protected void forEach(Consumer<E> consumer) {
         elementReadLock.lock();
         try {
-            elements.forEach(consumer);
+            identifierToElement.values().forEach(consumer);
         } finally {
             elementReadLock.unlock();
         }
@@ -658,9 +742,8 @@ public abstract class AbstractRegistry<@NonNull E extends Identifiable<K>, @NonN
                             ex.getMessage(), ex);
                 }
                 removedElements.add(element);
-                elements.remove(element);
-                elementToProvider.remove(element);
                 identifierToElement.remove(element.getUID());
+                elementToProvider.remove(element);
             }
         } finally {
             elementWriteLock.unlock();
@@ -12,6 +12,9 @@
  */
 package org.openhab.core.common.registry;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
@@ -50,4 +53,37 @@ public interface ProviderChangeListener<@NonNull E> {
      * @param element the element that has been updated
      */
     void updated(Provider<E> provider, E oldelement, E element);
+
+    /**
+     * Notifies the listener that several elements have been added at once, e.g. when a model has been loaded.
+     * <p>
+     * The default implementation notifies the listener about every single element.
+     *
+     * @param provider the provider that provides the elements
+     * @param elements the elements that have been added
+     */
+    default void addedAll(Provider<E> provider, Collection<E> elements) {
+        for (E element : elements) {
+            added(provider, element);
+        }
+    }
+
+    /**
+     * Notifies the listener that several elements have been updated at once, e.g. when a model has been reloaded.
+     * <p>
+     * The default implementation notifies the listener about every single element.
+     *
+     * @param provider the provider that provides the elements
+     * @param oldElements the elements before the update
+     * @param elements the updated elements, in the same order as the old elements
+     * @throws IllegalArgumentException if the number of old and updated elements differs
+     */
+    default void updatedAll(Provider<E> provider, List<E> oldElements, List<E> elements) {
+        if (oldElements.size() != elements.size()) {
+            throw new IllegalArgumentException("The number of old and updated elements differs.");
+        }
+        for (int i = 0; i < elements.size(); i++) {
+            updated(provider, oldElements.get(i), elements.get(i));
+        }
+    }
 }
@@ -12,6 +12,8 @@
  */
 package org.openhab.core.events;
 
+import java.util.function.Supplier;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -27,7 +29,9 @@ public abstract class AbstractEvent implements Event {
 
     private final String topic;
 
-    private final String payload;
+    private volatile @Nullable String payload;
+
+    private volatile @Nullable Supplier<String> payloadSupplier;
 
     private final @Nullable String source;
 
@@ -44,6 +48,22 @@ public abstract class AbstractEvent implements Event {
         this.source = source;
     }
 
+    /**
+     * Must be called in subclass constructor to create a new event with a lazily serialized payload.
+     * <p>
+     * The supplier is invoked at most once per event, on the first call of {@link #getPayload()}. Events that are
+     * delivered in-process to subscribers that never read the payload are thus never serialized.
+     *
+     * @param topic the topic
+     * @param payloadSupplier the supplier of the payload
+     * @param source the source
+     */
+    protected AbstractEvent(String topic, Supplier<String> payloadSupplier, @Nullable String source) {
+        this.topic = topic;
+        this.payloadSupplier = payloadSupplier;
+        this.source = source;
+    }
+
     @Override
     public String getTopic() {
         return topic;
@@ -51,7 +71,19 @@ public abstract class AbstractEvent implements Event {
 
     @Override
     public String getPayload() {
-        return payload;
+        String localPayload = payload;
+        if (localPayload == null) {
+            synchronized (this) {
+                localPayload = payload;
+                if (localPayload == null) {
+                    Supplier<String> localPayloadSupplier = payloadSupplier;
+                    localPayload = localPayloadSupplier == null ? "" : localPayloadSupplier.get();
+                    payload = localPayload;
+                    payloadSupplier = null;
+                }
+            }
+        }
+        return localPayload;
     }
 
     @Override
@@ -63,7 +95,7 @@ public abstract class AbstractEvent implements Event {
     public int hashCode() {
         final int prime = 31;
         int result = 1;
-        result = prime * result + payload.hashCode();
+        result = prime * result + getPayload().hashCode();
         result = prime * result + (source instanceof String local ? local.hashCode() : 0);
         result = prime * result + topic.hashCode();
         return result;
@@ -81,7 +113,7 @@ public abstract class AbstractEvent implements Event {
             return false;
         }
         AbstractEvent other = (AbstractEvent) obj;
-        if (!payload.equals(other.payload)) {
+        if (!getPayload().equals(other.getPayload())) {
             return false;
         }
         String localSource = source;
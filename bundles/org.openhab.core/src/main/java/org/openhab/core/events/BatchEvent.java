@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.events;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link BatchEvent} carries several events that are published together.
+ * <p>
+ * The batch itself is only delivered to the {@link EventSubscriber}s that subscribe to its type explicitly, so they can
+ * handle the contained events in bulk. All other subscribers receive the contained events one by one, as if they had
+ * been published separately.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface BatchEvent extends Event {
+
+    /**
+     * Gets the events of the batch, in the order they have been added.
+     *
+     * @return the events (not null)
+     */
+    List<? extends Event> getEvents();
+}
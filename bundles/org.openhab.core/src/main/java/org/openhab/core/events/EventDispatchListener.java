@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.events;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * An {@link EventDispatchListener} is notified by the event bus about the handling of events, e.g. to record metrics.
+ * <p>
+ * Listeners are registered as OSGi services. They are called on the event bus threads and must return quickly.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface EventDispatchListener {
+
+    /**
+     * Called when an event has been received by the event bus, before it is dispatched.
+     *
+     * @param eventType the type of the event
+     */
+    default void eventReceived(String eventType) {
+    }
+
+    /**
+     * Called when an event has been re-created from its serialized payload by an {@link EventFactory}.
+     *
+     * @param eventType the type of the event
+     * @param durationNanos the time the event factory took, in nanoseconds
+     */
+    default void eventCreated(String eventType, long durationNanos) {
+    }
+
+    /**
+     * Called when an event has been delivered to a subscriber.
+     *
+     * @param eventSubscriber the subscriber
+     * @param event the event
+     * @param durationNanos the time {@link EventSubscriber#receive(Event)} took, in nanoseconds
+     */
+    default void eventDelivered(EventSubscriber eventSubscriber, Event event, long durationNanos) {
+    }
+
+    /**
+     * Called when the event bus has created a new executor for delivering events.
+     *
+     * @param executorName the name of the executor, as used by {@link EventDispatchStatistics#getQueueSizes()}
+     */
+    default void executorCreated(String executorName) {
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.events;
+
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link EventDispatchStatistics} provides runtime information about the delivery of events to the
+ * {@link EventSubscriber}s, e.g. for monitoring.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface EventDispatchStatistics {
+
+    /**
+     * Gets the number of events that are queued or being delivered, for each of the event bus executors.
+     *
+     * @return the queue sizes indexed by the executor name
+     */
+    Map<String, Integer> getQueueSizes();
+
+    /**
+     * Gets the number of received events that wait for being dispatched.
+     *
+     * @return the size of the ingest queue
+     */
+    int getIngestQueueSize();
+
+    /**
+     * Gets the maximum number of received events that can wait for being dispatched.
+     *
+     * @return the capacity of the ingest queue
+     */
+    int getIngestQueueCapacity();
+
+    /**
+     * Gets the number of item state updates that have been dropped from the full ingest queue in favour of a newer
+     * state update of the same item.
+     *
+     * @return the number of dropped events
+     */
+    long getDroppedEvents();
+
+    /**
+     * Gets the number of events that have been rejected because the ingest queue was full.
+     *
+     * @return the number of rejected events
+     */
+    long getRejectedEvents();
+
+    /**
+     * Gets the number of batches that have been taken from the ingest queue.
+     * Together with {@link #getDrainedEvents()} this gives the average batch size.
+     *
+     * @return the number of batches
+     */
+    long getDrainedBatches();
+
+    /**
+     * Gets the number of events that have been taken from the ingest queue.
+     *
+     * @return the number of events
+     */
+    long getDrainedEvents();
+
+    /**
+     * Gets the accumulated time the dispatched events have spent in the ingest queue.
+     * Together with {@link #getDrainedEvents()} this gives the average enqueue-to-dispatch latency.
+     *
+     * @return the accumulated latency in nanoseconds
+     */
+    long getTotalIngestLatencyNanos();
+}
@@ -42,6 +42,10 @@ public interface EventSubscriber {
     /**
      * Gets an {@link EventFilter} in order to receive specific events if the filter applies. If there is no
      * filter all subscribed event types are received.
+     * <p>
+     * The event bus may inspect the filter once when the subscriber is registered (e.g. to index
+     * {@link TopicPrefixEventFilter}s by their topic prefix), so the filter should not change while the subscriber is
+     * registered.
      *
      * @return the event filter, or null
      */
@@ -49,6 +53,19 @@ public interface EventSubscriber {
         return null;
     }
 
+    /**
+     * Gets the key by which the delivery of events to this subscriber is ordered, if the event bus is configured to
+     * dispatch events in parallel. Events are delivered one after the other to all subscribers with equal keys,
+     * subscribers with different keys may receive events concurrently.
+     * <p>
+     * By default, the events for each subscriber instance are ordered on their own.
+     *
+     * @return the ordering key (not null)
+     */
+    default Object getOrderingKey() {
+        return this;
+    }
+
     /**
      * Callback method for receiving {@link Event}s from the openHAB event bus. This method is called for
      * every event where the event subscriber is subscribed to and the event filter applies.
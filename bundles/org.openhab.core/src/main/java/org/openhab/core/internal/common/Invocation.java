@@ -34,6 +34,8 @@ class Invocation implements Callable<Object> {
     @Nullable
     private Thread thread;
 
+    private TimeoutWheel.@Nullable Timeout watch;
+
     Invocation(AbstractInvocationHandler<?> invocationHandler, Method method, @Nullable Object @Nullable [] args) {
         this.method = method;
         this.args = args;
@@ -80,4 +82,12 @@ class Invocation implements Callable<Object> {
     Deque<Invocation> getInvocationStack() {
         return invocationStack;
     }
+
+    TimeoutWheel.@Nullable Timeout getWatch() {
+        return watch;
+    }
+
+    void setWatch(TimeoutWheel.@Nullable Timeout watch) {
+        this.watch = watch;
+    }
 }
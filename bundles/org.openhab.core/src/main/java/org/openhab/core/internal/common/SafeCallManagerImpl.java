@@ -12,14 +12,15 @@
  */
 package org.openhab.core.internal.common;
 
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -32,6 +33,10 @@ import org.slf4j.LoggerFactory;
  * It therefore tracks the executions in order to detect parallel execution and offers some helper methods for the
  * invocation handlers.
  *
+ * The state of each identifier is guarded by its own lock, so calls to different identifiers do not contend. The state
+ * is dropped as soon as the identifier is idle. The timeouts of asynchronous calls are watched by a single
+ * {@link TimeoutWheel}.
+ *
  * @author Simon Kaufmann - Initial contribution
  */
 @NonNullByDefault
@@ -39,34 +44,38 @@ public class SafeCallManagerImpl implements SafeCallManager {
 
     private final Logger logger = LoggerFactory.getLogger(SafeCallManagerImpl.class);
 
-    private final Map<Object, Queue<Invocation>> queues = new HashMap<>();
-    private final Map<Object, Invocation> activeIdentifiers = new HashMap<>();
-    private final Map<Object, Invocation> activeAsyncInvocations = new HashMap<>();
+    private final Map<Object, IdentifierState> states = new ConcurrentHashMap<>();
+    private final ThreadLocal<Deque<Invocation>> activeInvocations = ThreadLocal.withInitial(ArrayDeque::new);
 
-    private final ScheduledExecutorService watcher;
+    private final TimeoutWheel watcher;
     private final ExecutorService scheduler;
-    private boolean enforceSingleThreadPerIdentifier;
+    private volatile boolean enforceSingleThreadPerIdentifier;
 
     public SafeCallManagerImpl(ScheduledExecutorService watcher, ExecutorService scheduler,
             boolean enforceSingleThreadPerIdentifier) {
-        this.watcher = watcher;
+        this.watcher = new TimeoutWheel(watcher);
         this.scheduler = scheduler;
         this.enforceSingleThreadPerIdentifier = enforceSingleThreadPerIdentifier;
     }
 
     @Override
     public void recordCallStart(Invocation invocation) {
-        synchronized (activeIdentifiers) {
-            Invocation otherInvocation = activeIdentifiers.get(invocation.getIdentifier());
-            if (enforceSingleThreadPerIdentifier && otherInvocation != null) {
+        Invocation otherInvocation = withState(invocation.getIdentifier(), state -> {
+            Invocation active = state.active;
+            if (enforceSingleThreadPerIdentifier && active != null) {
                 // another call to the same identifier is (still) running,
                 // therefore queue it instead for async execution later on.
-                // Inform the caller about the timeout by means of the exception.
-                enqueue(invocation);
-                throw new DuplicateExecutionException(otherInvocation);
+                state.queue.add(invocation);
+                return active;
             }
-            activeIdentifiers.put(invocation.getIdentifier(), invocation);
+            state.active = invocation;
+            return null;
+        });
+        if (otherInvocation != null) {
+            // Inform the caller about the timeout by means of the exception.
+            throw new DuplicateExecutionException(otherInvocation);
         }
+        activeInvocations.get().push(invocation);
         if (invocation.getInvocationHandler() instanceof InvocationHandlerAsync) {
             watch(invocation);
         }
@@ -74,65 +83,101 @@ public class SafeCallManagerImpl implements SafeCallManager {
 
     @Override
     public void recordCallEnd(Invocation invocation) {
-        synchronized (activeIdentifiers) {
-            activeIdentifiers.remove(invocation.getIdentifier());
-        }
-        synchronized (activeAsyncInvocations) {
-            activeAsyncInvocations.remove(invocation.getIdentifier());
+        activeInvocations.get().removeFirstOccurrence(invocation);
+        TimeoutWheel.Timeout watch = invocation.getWatch();
+        if (watch != null) {
+            watch.cancel();
         }
+        Invocation next = withState(invocation.getIdentifier(), state -> {
+            state.active = null;
+            state.activeAsync = null;
+            return next(invocation.getIdentifier(), state);
+        });
         logger.trace("Finished {}", invocation);
-        trigger(invocation.getIdentifier());
+        submit(next);
     }
 
     @Override
     public void enqueue(Invocation invocation) {
-        synchronized (queues) {
-            Queue<Invocation> queue = Objects
-                    .requireNonNull(queues.computeIfAbsent(invocation.getIdentifier(), k -> new LinkedList<>()));
-            queue.add(invocation);
+        Invocation next = withState(invocation.getIdentifier(), state -> {
+            state.queue.add(invocation);
+            return next(invocation.getIdentifier(), state);
+        });
+        submit(next);
+    }
+
+    /**
+     * Applies the action to the state of the identifier while holding its lock.
+     */
+    private <R> @Nullable R withState(Object identifier, Function<IdentifierState, @Nullable R> action) {
+        while (true) {
+            IdentifierState state = states.computeIfAbsent(identifier, k -> new IdentifierState());
+            synchronized (state) {
+                if (state.dropped) {
+                    // the state was dropped after this thread got it, use the new one
+                    continue;
+                }
+                R result = action.apply(state);
+                if (state.active == null && state.activeAsync == null && state.queue.isEmpty()) {
+                    state.dropped = true;
+                    states.remove(identifier, state);
+                }
+                return result;
+            }
         }
-        trigger(invocation.getIdentifier());
     }
 
-    private void trigger(Object identifier) {
+    /**
+     * Determines the next queued invocation which can be run asynchronously, must be called while holding the lock of
+     * the state.
+     */
+    private @Nullable Invocation next(Object identifier, IdentifierState state) {
         logger.trace("Triggering submissions for '{}'", identifier);
-        synchronized (activeIdentifiers) {
-            if (enforceSingleThreadPerIdentifier && activeIdentifiers.containsKey(identifier)) {
-                logger.trace("Identifier '{}' is already running", identifier);
-                return;
-            }
+        if (enforceSingleThreadPerIdentifier && state.active != null) {
+            logger.trace("Identifier '{}' is already running", identifier);
+            return null;
         }
-        synchronized (activeAsyncInvocations) {
-            if (activeAsyncInvocations.containsKey(identifier)) {
-                logger.trace("Identifier '{}' is already scheduled for asynchronous execution", identifier);
-                return;
-            }
-            Invocation next = dequeue(identifier);
-            if (next != null) {
-                logger.trace("Scheduling {} for asynchronous execution", next);
-                activeAsyncInvocations.put(identifier, next);
-                getScheduler().submit(next);
-                logger.trace("Submitted {} for asynchronous execution", next);
-            }
+        if (state.activeAsync != null) {
+            logger.trace("Identifier '{}' is already scheduled for asynchronous execution", identifier);
+            return null;
+        }
+        Invocation next = state.queue.poll();
+        if (next != null) {
+            state.activeAsync = next;
+        }
+        return next;
+    }
+
+    private void submit(@Nullable Invocation next) {
+        if (next != null) {
+            logger.trace("Scheduling {} for asynchronous execution", next);
+            getScheduler().submit(next);
+            logger.trace("Submitted {} for asynchronous execution", next);
         }
     }
 
     private void handlePotentialTimeout(Invocation invocation) {
-        Object identifier = invocation.getIdentifier();
-        Invocation activeAsyncInvocation = activeAsyncInvocations.get(identifier);
-        if (activeAsyncInvocation == invocation) {
-            Invocation activeInvocation = activeIdentifiers.get(identifier);
-            if (activeInvocation != null) {
-                invocation.getInvocationHandler().handleTimeout(invocation.getMethod(), activeInvocation);
+        IdentifierState state = states.get(invocation.getIdentifier());
+        if (state == null) {
+            return;
+        }
+        Invocation activeInvocation;
+        synchronized (state) {
+            if (state.activeAsync != invocation) {
+                return;
             }
+            activeInvocation = state.active;
+        }
+        if (activeInvocation != null) {
+            invocation.getInvocationHandler().handleTimeout(invocation.getMethod(), activeInvocation);
         }
     }
 
     public @Nullable Invocation dequeue(Object identifier) {
-        synchronized (queues) {
-            Queue<Invocation> queue = queues.get(identifier);
-            if (queue != null) {
-                return queue.poll();
+        IdentifierState state = states.get(identifier);
+        if (state != null) {
+            synchronized (state) {
+                return state.queue.poll();
             }
         }
         return null;
@@ -140,11 +185,11 @@ public class SafeCallManagerImpl implements SafeCallManager {
 
     @Override
     public @Nullable Invocation getActiveInvocation() {
-        synchronized (activeIdentifiers) {
-            for (Invocation invocation : activeIdentifiers.values()) {
-                if (invocation.getThread() == Thread.currentThread()) {
-                    return invocation;
-                }
+        Iterator<Invocation> iterator = activeInvocations.get().descendingIterator();
+        while (iterator.hasNext()) {
+            Invocation invocation = iterator.next();
+            if (invocation.getThread() == Thread.currentThread()) {
+                return invocation;
             }
         }
         return null;
@@ -156,13 +201,30 @@ public class SafeCallManagerImpl implements SafeCallManager {
     }
 
     private void watch(Invocation invocation) {
-        watcher.schedule(() -> {
+        invocation.setWatch(watcher.schedule(() -> {
             handlePotentialTimeout(invocation);
-        }, invocation.getTimeout(), TimeUnit.MILLISECONDS);
+        }, invocation.getTimeout()));
         logger.trace("Scheduling timeout watcher in {}ms", invocation.getTimeout());
     }
 
+    /**
+     * @return the number of identifiers with a running or queued invocation
+     */
+    int getBusyIdentifierCount() {
+        return states.size();
+    }
+
     public void setEnforceSingleThreadPerIdentifier(boolean enforceSingleThreadPerIdentifier) {
         this.enforceSingleThreadPerIdentifier = enforceSingleThreadPerIdentifier;
     }
+
+    /**
+     * The invocations of an identifier, guarded by the lock of the instance.
+     */
+    private static class IdentifierState {
+        private final Queue<Invocation> queue = new ArrayDeque<>();
+        private @Nullable Invocation active;
+        private @Nullable Invocation activeAsync;
+        private boolean dropped;
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.common;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timing wheel which runs timeout tasks on a single periodic job of a {@link ScheduledExecutorService}.
+ *
+ * Adding a timeout is a lock-free enqueue. The buckets of the wheel are only accessed by the periodic job, which moves
+ * the added timeouts into their buckets and runs the due ones. Timeouts are run up to two ticks late. The periodic job
+ * is started with the first timeout. A cancelled timeout is dropped when its bucket is processed the next time.
+ *
+ * The due tasks run one after another on the thread of the periodic job, as the tasks that were scheduled on the
+ * executor directly did before, if it has a single thread. Tasks must therefore be short, a slow task delays all
+ * timeouts that are due after it.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class TimeoutWheel {
+
+    static final long DEFAULT_TICK_MILLIS = 100;
+    static final int DEFAULT_BUCKETS = 512;
+
+    private final Logger logger = LoggerFactory.getLogger(TimeoutWheel.class);
+
+    private final ScheduledExecutorService executor;
+    private final long tickNanos;
+    private final Queue<Timeout>[] buckets;
+    private final int mask;
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final long startTime = System.nanoTime();
+
+    // only accessed by the periodic job
+    private long processedTick = -1;
+
+    TimeoutWheel(ScheduledExecutorService executor) {
+        this(executor, DEFAULT_TICK_MILLIS, DEFAULT_BUCKETS);
+    }
+
+    /**
+     * @param executor the executor which runs the periodic job and the timeout tasks
+     * @param tickMillis the resolution of the wheel
+     * @param buckets the number of buckets, must be a power of two
+     */
+    @SuppressWarnings("unchecked")
+    TimeoutWheel(ScheduledExecutorService executor, long tickMillis, int buckets) {
+        if (Integer.bitCount(buckets) != 1) {
+            throw new IllegalArgumentException("The number of buckets must be a power of two");
+        }
+        this.executor = executor;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.buckets = new Queue[buckets];
+        for (int i = 0; i < buckets; i++) {
+            this.buckets[i] = new ArrayDeque<>();
+        }
+        this.mask = buckets - 1;
+    }
+
+    /**
+     * Runs the given task after the given delay.
+     *
+     * @param task the task
+     * @param delay the delay in milliseconds
+     * @return the timeout, which can be cancelled
+     */
+    Timeout schedule(Runnable task, long delay) {
+        Timeout timeout = new Timeout(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay), task);
+        added.add(timeout);
+        if (started.compareAndSet(false, true)) {
+            long tickMillis = TimeUnit.NANOSECONDS.toMillis(tickNanos);
+            executor.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+        return timeout;
+    }
+
+    private void tick() {
+        long currentTick = (System.nanoTime() - startTime) / tickNanos;
+
+        Timeout timeout;
+        while ((timeout = added.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            // round up, so a timeout never runs early
+            long deadlineTick = (timeout.deadline - startTime + tickNanos - 1) / tickNanos;
+            timeout.tick = Math.max(deadlineTick, processedTick + 1);
+            buckets[(int) (timeout.tick & mask)].add(timeout);
+        }
+
+        while (processedTick < currentTick) {
+            processedTick++;
+            Iterator<Timeout> iterator = buckets[(int) (processedTick & mask)].iterator();
+            while (iterator.hasNext()) {
+                timeout = iterator.next();
+                if (timeout.cancelled) {
+                    iterator.remove();
+                } else if (timeout.tick <= processedTick) {
+                    iterator.remove();
+                    run(timeout.task);
+                }
+            }
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            // an exception must not cancel the periodic job
+            logger.warn("Timeout task failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * A scheduled task.
+     */
+    static class Timeout {
+        private final long deadline;
+        private final Runnable task;
+        private long tick;
+        private volatile boolean cancelled;
+
+        private Timeout(long deadline, Runnable task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * Prevents the task from running, if it has not run yet.
+         */
+        void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -19,12 +19,19 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -39,6 +46,11 @@ import org.slf4j.LoggerFactory;
  * catches unchecked exceptions that can be the cause of very hard to catch bugs because no error is ever shown if the
  * user doesn't catch the error in the runnable itself.
  *
+ * If a task executor is given, the threads of the pool only act as timer: due tasks are handed to the task executor,
+ * e.g. one which runs each task on a virtual thread, so a blocking task does not occupy a thread of the pool. A
+ * periodic task is rescheduled when its run has finished, so its runs still never overlap. The active, completed and
+ * total task counts then refer to the runs on the task executor.
+ *
  * @author Hilbrand Bouwkamp - Initial contribution
  * @author Andrew Fiddian-Green - Added task duration logging
  */
@@ -50,10 +62,31 @@ public class WrappedScheduledExecutorService extends ScheduledThreadPoolExecutor
     private static final Duration DEFAULT_TIMEOUT = Duration.ofMillis(5000);
 
     private final Set<TimedAbstractTask> runningTasks;
+    private final @Nullable Executor taskExecutor;
+    private final AtomicInteger activeHandOffs = new AtomicInteger();
+    private final AtomicLong completedHandOffs = new AtomicLong();
 
     public WrappedScheduledExecutorService(int corePoolSize, ThreadFactory threadFactory) {
+        this(corePoolSize, threadFactory, null);
+    }
+
+    /**
+     * @param corePoolSize the number of threads to keep in the pool
+     * @param threadFactory the factory for the threads of the pool
+     * @param taskExecutor the executor which runs the due tasks, or null to run them on the threads of the pool
+     */
+    public WrappedScheduledExecutorService(int corePoolSize, ThreadFactory threadFactory,
+            @Nullable Executor taskExecutor) {
         super(corePoolSize, threadFactory);
         runningTasks = ConcurrentHashMap.newKeySet(corePoolSize);
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * @return true if the due tasks are run by a task executor instead of the threads of the pool
+     */
+    public boolean hasTaskExecutor() {
+        return taskExecutor != null;
     }
 
     /**
@@ -131,9 +164,112 @@ public class WrappedScheduledExecutorService extends ScheduledThreadPoolExecutor
         }
     }
 
+    /**
+     * Runs the due tasks on the task executor, if there is one.
+     */
+    private class HandOffTask<V> implements RunnableScheduledFuture<V> {
+        private final RunnableScheduledFuture<V> task;
+        private final Executor executor;
+
+        private HandOffTask(RunnableScheduledFuture<V> task, Executor executor) {
+            this.task = task;
+            this.executor = executor;
+        }
+
+        @Override
+        public void run() {
+            if (task.isDone()) {
+                return;
+            }
+            try {
+                executor.execute(() -> {
+                    activeHandOffs.incrementAndGet();
+                    try {
+                        // a periodic task queues this hand-off again when the run has finished
+                        task.run();
+                    } finally {
+                        activeHandOffs.decrementAndGet();
+                        completedHandOffs.incrementAndGet();
+                        afterExecute(task, null);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                task.cancel(false);
+                logger.warn("Scheduled runnable could not be handed to the task executor: ", e);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = task.cancel(mayInterruptIfRunning);
+            if (cancelled && getRemoveOnCancelPolicy()) {
+                remove(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return task.isPeriodic();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return task.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return task.get();
+        }
+
+        @Override
+        public V get(long timeout, @Nullable TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            return task.get(timeout, unit);
+        }
+
+        @Override
+        public long getDelay(@Nullable TimeUnit unit) {
+            return task.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(@Nullable Delayed other) {
+            // compare the wrapped tasks, so tasks with the same time keep their order
+            return task.compareTo(other instanceof HandOffTask<?> handOff ? handOff.task : other);
+        }
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(@Nullable Runnable runnable,
+            @Nullable RunnableScheduledFuture<V> task) {
+        return handOff(Objects.requireNonNull(task));
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(@Nullable Callable<V> callable,
+            @Nullable RunnableScheduledFuture<V> task) {
+        return handOff(Objects.requireNonNull(task));
+    }
+
+    private <V> RunnableScheduledFuture<V> handOff(RunnableScheduledFuture<V> task) {
+        Executor executor = taskExecutor;
+        return executor == null ? task : new HandOffTask<>(task, executor);
+    }
+
     @Override
     protected void afterExecute(@Nullable Runnable r, @Nullable Throwable t) {
         super.afterExecute(r, t);
+        if (r instanceof HandOffTask) {
+            // the task is checked when it has finished on the task executor
+            return;
+        }
         Throwable actualThrowable = t;
         if (actualThrowable == null && r instanceof Future<?> f) {
             // The Future is the wrapper task around our scheduled Runnable. This is only "done" if an Exception
@@ -158,6 +294,22 @@ public class WrappedScheduledExecutorService extends ScheduledThreadPoolExecutor
         }
     }
 
+    @Override
+    public int getActiveCount() {
+        return taskExecutor == null ? super.getActiveCount() : activeHandOffs.get();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return taskExecutor == null ? super.getCompletedTaskCount() : completedHandOffs.get();
+    }
+
+    @Override
+    public long getTaskCount() {
+        return taskExecutor == null ? super.getTaskCount()
+                : completedHandOffs.get() + activeHandOffs.get() + getQueue().size();
+    }
+
     @Override
     public ScheduledFuture<?> schedule(@Nullable Runnable runnable, long delay, @Nullable TimeUnit unit) {
         Runnable r = logger.isDebugEnabled() ? new TimedRunnable(runnable) : runnable;
@@ -13,24 +13,29 @@
 package org.openhab.core.internal.events;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.events.BatchEvent;
 import org.openhab.core.events.Event;
+import org.openhab.core.events.EventDispatchListener;
 import org.openhab.core.events.EventFactory;
 import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventSubscriber;
@@ -45,33 +50,118 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class EventHandler implements AutoCloseable {
 
+    /**
+     * Defines how events are spread over the executors that deliver them to the subscribers.
+     */
+    public enum DispatchPolicy {
+        /**
+         * All subscribers of the same class share one sequential executor.
+         */
+        CLASS,
+        /**
+         * Subscribers are spread over a fixed number of sequential executors (shards) by their
+         * {@link EventSubscriber#getOrderingKey() ordering key}. Events for the same key are delivered in order,
+         * subscribers with different keys may receive events in parallel.
+         */
+        SHARDED
+    }
+
     private static final int EVENT_QUEUE_WARN_LIMIT = 5000;
     private static final long EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS = TimeUnit.SECONDS.toMillis(5);
 
     private final Logger logger = LoggerFactory.getLogger(EventHandler.class);
 
-    private final Map<String, Set<EventSubscriber>> typedEventSubscribers;
+    private final EventSubscriberIndex eventSubscriberIndex;
     private final Map<String, EventFactory> typedEventFactories;
 
-    private final Map<Class<? extends EventSubscriber>, ExecutorRecord> executors = new HashMap<>();
+    private final DispatchPolicy dispatchPolicy;
+    private final int shards;
+    private final List<EventDispatchListener> dispatchListeners;
+
+    private final Map<Object, ExecutorRecord> executors = new ConcurrentHashMap<>();
+    /** The types of the received events that are no batches, so they can be skipped before they are created. */
+    private final Set<String> singleEventTypes = ConcurrentHashMap.newKeySet();
     private final ScheduledExecutorService watcher;
 
     /**
-     * Create a new event handler.
+     * Create a new event handler that dispatches the events per subscriber class.
      *
-     * @param typedEventSubscribers the event subscribers indexed by the event type
+     * @param eventSubscriberIndex the event subscribers indexed by the event type and topic
      * @param typedEventFactories the event factories indexed by the event type
      */
-    public EventHandler(final Map<String, Set<EventSubscriber>> typedEventSubscribers,
+    public EventHandler(final EventSubscriberIndex eventSubscriberIndex,
             final Map<String, EventFactory> typedEventFactories) {
-        this.typedEventSubscribers = typedEventSubscribers;
+        this(eventSubscriberIndex, typedEventFactories, DispatchPolicy.CLASS, 1);
+    }
+
+    /**
+     * Create a new event handler.
+     *
+     * @param eventSubscriberIndex the event subscribers indexed by the event type and topic
+     * @param typedEventFactories the event factories indexed by the event type
+     * @param dispatchPolicy the policy for spreading the events over the executors
+     * @param shards the number of executors for {@link DispatchPolicy#SHARDED}
+     */
+    public EventHandler(final EventSubscriberIndex eventSubscriberIndex,
+            final Map<String, EventFactory> typedEventFactories, final DispatchPolicy dispatchPolicy,
+            final int shards) {
+        this(eventSubscriberIndex, typedEventFactories, dispatchPolicy, shards, List.of());
+    }
+
+    /**
+     * Create a new event handler.
+     *
+     * @param eventSubscriberIndex the event subscribers indexed by the event type and topic
+     * @param typedEventFactories the event factories indexed by the event type
+     * @param dispatchPolicy the policy for spreading the events over the executors
+     * @param shards the number of executors for {@link DispatchPolicy#SHARDED}
+     * @param dispatchListeners the listeners to notify about the event handling, may be changed concurrently
+     */
+    public EventHandler(final EventSubscriberIndex eventSubscriberIndex,
+            final Map<String, EventFactory> typedEventFactories, final DispatchPolicy dispatchPolicy,
+            final int shards, final List<EventDispatchListener> dispatchListeners) {
+        this.eventSubscriberIndex = eventSubscriberIndex;
         this.typedEventFactories = typedEventFactories;
+        this.dispatchPolicy = dispatchPolicy;
+        this.shards = Math.max(1, shards);
+        this.dispatchListeners = dispatchListeners;
         watcher = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("eventwatcher"));
     }
 
-    private synchronized ExecutorRecord createExecutorRecord(Class<? extends EventSubscriber> subscriber) {
-        return new ExecutorRecord(ThreadPoolManager.getPoolBasedSequentialScheduledExecutorService("events",
-                "eventexecutor-" + executors.size()), new AtomicInteger());
+    private synchronized ExecutorRecord createExecutorRecord(Object executorKey) {
+        String name = executorKey instanceof Integer shard ? "eventshard-" + shard
+                : "eventexecutor-" + executors.size();
+        ExecutorService executor = ThreadPoolManager.getPoolBasedSequentialScheduledExecutorService("events", name);
+        notifyDispatchListeners(listener -> listener.executorCreated(name));
+        return new ExecutorRecord(name, executor, new AtomicInteger());
+    }
+
+    private void notifyDispatchListeners(Consumer<EventDispatchListener> notification) {
+        for (EventDispatchListener dispatchListener : dispatchListeners) {
+            try {
+                notification.accept(dispatchListener);
+            } catch (RuntimeException e) {
+                logger.warn("Event dispatch listener '{}' failed: {}", dispatchListener, e.getMessage(), e);
+            }
+        }
+    }
+
+    private Object getExecutorKey(EventSubscriber eventSubscriber) {
+        if (dispatchPolicy == DispatchPolicy.SHARDED) {
+            return Math.floorMod(eventSubscriber.getOrderingKey().hashCode(), shards);
+        }
+        return eventSubscriber.getClass();
+    }
+
+    /**
+     * Gets the number of events that are queued or being delivered, for each executor.
+     *
+     * @return the queue sizes indexed by the executor name
+     */
+    public Map<String, Integer> getQueueSizes() {
+        Map<String, Integer> queueSizes = new TreeMap<>();
+        executors.values().forEach(r -> queueSizes.put(r.name, r.count.get()));
+        return queueSizes;
     }
 
     @Override
@@ -87,8 +177,12 @@ public class EventHandler implements AutoCloseable {
         Object payloadObj = osgiEvent.getProperty(OSGiEventPublisher.PAYLOAD);
         Object topicObj = osgiEvent.getProperty(OSGiEventPublisher.TOPIC);
         Object sourceObj = osgiEvent.getProperty(OSGiEventPublisher.SOURCE);
+        Object eventObj = osgiEvent.getProperty(OSGiEventPublisher.EVENT);
 
-        if (typeObj instanceof String typeStr && payloadObj instanceof String payloadStr
+        if (eventObj instanceof Event event) {
+            // typed delivery: the event has been posted in-process and can be dispatched as is
+            handleEvent(event);
+        } else if (typeObj instanceof String typeStr && payloadObj instanceof String payloadStr
                 && topicObj instanceof String topicStr) {
             String sourceStr = (sourceObj instanceof String s) ? s : null;
             if (!typeStr.isEmpty() && !payloadStr.isEmpty() && !topicStr.isEmpty()) {
@@ -103,43 +197,66 @@ public class EventHandler implements AutoCloseable {
 
     private void handleEvent(final String type, final String payload, final String topic,
             final @Nullable String source) {
+        if (!dispatchListeners.isEmpty()) {
+            notifyDispatchListeners(listener -> listener.eventReceived(type));
+        }
+
         final EventFactory eventFactory = typedEventFactories.get(type);
         if (eventFactory == null) {
             logger.debug("Could not find an Event Factory for the event type '{}'.", type);
             return;
         }
 
-        final Set<EventSubscriber> eventSubscribers = getEventSubscribers(type);
-        if (eventSubscribers.isEmpty()) {
+        // whether an event is a batch is only known once an event of its type has been created
+        if (singleEventTypes.contains(type) && !eventSubscriberIndex.hasSubscribers(type)) {
             return;
         }
 
         final Event event = createEvent(eventFactory, type, payload, topic, source);
-        if (event == null) {
+        if (event == null || !hasSubscribers(event)) {
             return;
         }
 
-        dispatchEvent(eventSubscribers, event);
+        dispatchEvent(event);
     }
 
-    private Set<EventSubscriber> getEventSubscribers(String eventType) {
-        Set<EventSubscriber> eventTypeSubscribers = typedEventSubscribers.get(eventType);
-        Set<EventSubscriber> allEventTypeSubscribers = typedEventSubscribers.get(EventSubscriber.ALL_EVENT_TYPES);
+    /**
+     * Dispatch an event that has been posted in-process, without serializing and re-creating it.
+     *
+     * @param event the event
+     */
+    public void handleEvent(final Event event) {
+        if (!dispatchListeners.isEmpty()) {
+            notifyDispatchListeners(listener -> listener.eventReceived(event.getType()));
+        }
 
-        Set<EventSubscriber> subscribers = new HashSet<>();
-        if (eventTypeSubscribers != null) {
-            subscribers.addAll(eventTypeSubscribers);
+        if (!hasSubscribers(event)) {
+            return;
         }
-        if (allEventTypeSubscribers != null) {
-            subscribers.addAll(allEventTypeSubscribers);
+
+        dispatchEvent(event);
+    }
+
+    private boolean hasSubscribers(final Event event) {
+        if (event instanceof BatchEvent) {
+            // the events of a batch may have subscribers even if the batch has none
+            return true;
         }
-        return subscribers;
+        singleEventTypes.add(event.getType());
+        return eventSubscriberIndex.hasSubscribers(event.getType());
     }
 
     private @Nullable Event createEvent(final EventFactory eventFactory, final String type, final String payload,
             final String topic, final @Nullable String source) {
         try {
-            return eventFactory.createEvent(type, topic, payload, source);
+            if (dispatchListeners.isEmpty()) {
+                return eventFactory.createEvent(type, topic, payload, source);
+            }
+            long start = System.nanoTime();
+            Event event = eventFactory.createEvent(type, topic, payload, source);
+            long duration = System.nanoTime() - start;
+            notifyDispatchListeners(listener -> listener.eventCreated(type, duration));
+            return event;
         } catch (final Exception ex) {
             logger.warn(
                     "Creation of event failed, because one of the registered event factories has thrown an exception: {}",
@@ -148,37 +265,79 @@ public class EventHandler implements AutoCloseable {
         }
     }
 
-    private synchronized void dispatchEvent(final Set<EventSubscriber> eventSubscribers, final Event event) {
+    private synchronized void dispatchEvent(final Event event) {
+        if (event instanceof BatchEvent batchEvent) {
+            dispatchBatchEvent(batchEvent);
+        } else {
+            dispatchEvent(event, eventSubscriberIndex.getSubscribers(event));
+        }
+    }
+
+    /**
+     * Delivers a batch to the subscribers of its type and the events of the batch one by one to all other
+     * subscribers, including those whose filter rejected the batch.
+     */
+    private void dispatchBatchEvent(final BatchEvent batchEvent) {
+        Set<EventSubscriber> batchSubscribers = new HashSet<>();
+        for (final EventSubscriber eventSubscriber : eventSubscriberIndex.getTypeSubscribers(batchEvent)) {
+            if (accepts(eventSubscriber, batchEvent)) {
+                deliver(eventSubscriber, batchEvent);
+                batchSubscribers.add(eventSubscriber);
+            }
+        }
+        for (Event event : batchEvent.getEvents()) {
+            List<EventSubscriber> eventSubscribers = eventSubscriberIndex.getSubscribers(event);
+            eventSubscribers.removeIf(batchSubscribers::contains);
+            dispatchEvent(event, eventSubscribers);
+        }
+    }
+
+    private void dispatchEvent(final Event event, final List<EventSubscriber> eventSubscribers) {
         for (final EventSubscriber eventSubscriber : eventSubscribers) {
-            EventFilter filter = eventSubscriber.getEventFilter();
-            if (filter == null || filter.apply(event)) {
-                logger.trace("Delegate event to subscriber ({}).", eventSubscriber.getClass());
-                ExecutorRecord executorRecord = Objects.requireNonNull(
-                        executors.computeIfAbsent(eventSubscriber.getClass(), this::createExecutorRecord));
-                int queueSize = executorRecord.count.incrementAndGet();
-                if (queueSize > EVENT_QUEUE_WARN_LIMIT) {
-                    logger.warn("The queue for a subscriber of type '{}' exceeds {} elements. System may be unstable.",
-                            eventSubscriber.getClass(), EVENT_QUEUE_WARN_LIMIT);
-                }
-                CompletableFuture.runAsync(() -> {
-                    ScheduledFuture<?> logTimeout = watcher.schedule(
-                            () -> logger.warn("Dispatching event to subscriber '{}' takes more than {}ms.",
-                                    eventSubscriber, EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS),
-                            EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS, TimeUnit.MILLISECONDS);
-                    try {
-                        eventSubscriber.receive(event);
-                    } catch (final Exception ex) {
-                        logger.warn("Dispatching/filtering event for subscriber '{}' failed: {}",
-                                EventSubscriber.class.getName(), ex.getMessage(), ex);
-                    }
-                    logTimeout.cancel(false);
-                }, executorRecord.executor).thenRun(executorRecord.count::decrementAndGet);
-            } else {
-                logger.trace("Skip event subscriber ({}) because of its filter.", eventSubscriber.getClass());
+            if (accepts(eventSubscriber, event)) {
+                deliver(eventSubscriber, event);
             }
         }
     }
 
-    private record ExecutorRecord(ExecutorService executor, AtomicInteger count) {
+    private boolean accepts(final EventSubscriber eventSubscriber, final Event event) {
+        EventFilter filter = eventSubscriber.getEventFilter();
+        if (filter == null || filter.apply(event)) {
+            return true;
+        }
+        logger.trace("Skip event subscriber ({}) because of its filter.", eventSubscriber.getClass());
+        return false;
+    }
+
+    private void deliver(final EventSubscriber eventSubscriber, final Event event) {
+        logger.trace("Delegate event to subscriber ({}).", eventSubscriber.getClass());
+        ExecutorRecord executorRecord = Objects
+                .requireNonNull(executors.computeIfAbsent(getExecutorKey(eventSubscriber), this::createExecutorRecord));
+        int queueSize = executorRecord.count.incrementAndGet();
+        if (queueSize > EVENT_QUEUE_WARN_LIMIT) {
+            logger.warn("The queue '{}' for a subscriber of type '{}' exceeds {} elements. System may be unstable.",
+                    executorRecord.name, eventSubscriber.getClass(), EVENT_QUEUE_WARN_LIMIT);
+        }
+        CompletableFuture.runAsync(() -> {
+            ScheduledFuture<?> logTimeout = watcher.schedule(
+                    () -> logger.warn("Dispatching event to subscriber '{}' takes more than {}ms.", eventSubscriber,
+                            EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS),
+                    EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS, TimeUnit.MILLISECONDS);
+            long start = System.nanoTime();
+            try {
+                eventSubscriber.receive(event);
+            } catch (final Exception ex) {
+                logger.warn("Dispatching/filtering event for subscriber '{}' failed: {}",
+                        EventSubscriber.class.getName(), ex.getMessage(), ex);
+            }
+            logTimeout.cancel(false);
+            if (!dispatchListeners.isEmpty()) {
+                long duration = System.nanoTime() - start;
+                notifyDispatchListeners(listener -> listener.eventDelivered(eventSubscriber, event, duration));
+            }
+        }, executorRecord.executor).thenRun(executorRecord.count::decrementAndGet);
+    }
+
+    private record ExecutorRecord(String name, ExecutorService executor, AtomicInteger count) {
     }
 }
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.events.GroupStateUpdatedEvent;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.items.events.ItemStateUpdatedEvent;
+import org.osgi.service.event.Event;
+
+/**
+ * The {@link EventIngestQueue} is a bounded queue for the OSGi events received by the event manager. Events are
+ * offered by any number of producer threads and drained in batches by a single consumer.
+ * <p>
+ * If the queue is full, the {@link OverflowPolicy} decides what happens to a new event. A producer is never blocked
+ * for longer than the maximum block time; an event that still does not fit after that time is rejected. The queue
+ * keeps statistics about the drained batches and the time events spent in the queue.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EventIngestQueue {
+
+    /**
+     * Defines how a new event is handled if the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The producer is blocked until there is space in the queue or the maximum block time has elapsed.
+         */
+        BLOCK,
+        /**
+         * If the new event is a state update of an item, the oldest queued state update of the same type and topic is
+         * dropped. For all other events, the producer is blocked until there is space in the queue or the maximum
+         * block time has elapsed.
+         */
+        DROP_OLDEST_STATE_UPDATE,
+        /**
+         * The new event is rejected.
+         */
+        REJECT
+    }
+
+    /** The default maximum time a producer is blocked waiting for space in the queue, in milliseconds. */
+    public static final long DEFAULT_MAX_BLOCK_MILLIS = 1000;
+
+    private static final Set<String> STATE_UPDATE_EVENT_TYPES = Set.of(ItemStateEvent.TYPE,
+            ItemStateUpdatedEvent.TYPE, GroupStateUpdatedEvent.TYPE);
+
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long maxBlockNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final ArrayDeque<QueuedEvent> queue;
+    /** The queued state updates by their type and topic, oldest first, for dropping them without a queue scan. */
+    private final Map<String, ArrayDeque<QueuedEvent>> stateUpdates = new HashMap<>();
+    /** The number of queued events that have not been dropped. */
+    private int size;
+    private boolean closed;
+
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong rejectedEvents = new AtomicLong();
+    private final AtomicLong drainedBatches = new AtomicLong();
+    private final AtomicLong drainedEvents = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+
+    /**
+     * Create a new queue that blocks producers for at most {@link #DEFAULT_MAX_BLOCK_MILLIS}.
+     *
+     * @param capacity the maximum number of queued events
+     * @param overflowPolicy the policy for new events if the queue is full
+     */
+    public EventIngestQueue(int capacity, OverflowPolicy overflowPolicy) {
+        this(capacity, overflowPolicy, DEFAULT_MAX_BLOCK_MILLIS);
+    }
+
+    /**
+     * Create a new queue.
+     *
+     * @param capacity the maximum number of queued events
+     * @param overflowPolicy the policy for new events if the queue is full
+     * @param maxBlockMillis the maximum time a producer is blocked waiting for space in the queue, in milliseconds
+     */
+    public EventIngestQueue(int capacity, OverflowPolicy overflowPolicy, long maxBlockMillis) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        if (maxBlockMillis < 0) {
+            throw new IllegalArgumentException("The maximum block time must not be negative.");
+        }
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.maxBlockNanos = TimeUnit.MILLISECONDS.toNanos(maxBlockMillis);
+        this.queue = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Adds an event to the queue, applying the overflow policy if the queue is full.
+     *
+     * @param event the event
+     * @return true if the event has been queued, false if it has been rejected or the queue has been closed
+     * @throws InterruptedException if the producer has been interrupted while waiting for space in the queue
+     */
+    public boolean offer(Event event) throws InterruptedException {
+        String stateUpdateKey = getStateUpdateKey(event);
+        long nanos = maxBlockNanos;
+        lock.lockInterruptibly();
+        try {
+            while (size >= capacity && !closed) {
+                if (overflowPolicy == OverflowPolicy.DROP_OLDEST_STATE_UPDATE && stateUpdateKey != null
+                        && dropOldestStateUpdate(stateUpdateKey)) {
+                    droppedEvents.incrementAndGet();
+                } else if (overflowPolicy == OverflowPolicy.REJECT || nanos <= 0) {
+                    rejectedEvents.incrementAndGet();
+                    return false;
+                } else {
+                    nanos = notFull.awaitNanos(nanos);
+                }
+            }
+            if (closed) {
+                return false;
+            }
+            QueuedEvent queuedEvent = new QueuedEvent(event, System.nanoTime(), stateUpdateKey);
+            if (stateUpdateKey != null) {
+                stateUpdates.computeIfAbsent(stateUpdateKey, key -> new ArrayDeque<>()).addLast(queuedEvent);
+            }
+            if (queue.size() >= 2 * capacity) {
+                // too many dropped events are still referenced by the queue
+                queue.removeIf(queued -> queued.dropped);
+            }
+            queue.addLast(queuedEvent);
+            size++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private @Nullable String getStateUpdateKey(Event event) {
+        Object type = event.getProperty(OSGiEventPublisher.TYPE);
+        if (type == null || !STATE_UPDATE_EVENT_TYPES.contains(type)) {
+            return null;
+        }
+        return type + "|" + event.getProperty(OSGiEventPublisher.TOPIC);
+    }
+
+    /**
+     * Marks the oldest queued state update with the given key as dropped. Dropped events stay in the queue until
+     * they are drained or the queue is compacted, so this does not need to search the queue.
+     */
+    private boolean dropOldestStateUpdate(String stateUpdateKey) {
+        ArrayDeque<QueuedEvent> sameUpdates = stateUpdates.get(stateUpdateKey);
+        if (sameUpdates == null) {
+            return false;
+        }
+        QueuedEvent oldest = Objects.requireNonNull(sameUpdates.pollFirst());
+        if (sameUpdates.isEmpty()) {
+            stateUpdates.remove(stateUpdateKey);
+        }
+        oldest.dropped = true;
+        size--;
+        return true;
+    }
+
+    private void removeStateUpdate(QueuedEvent queuedEvent) {
+        String stateUpdateKey = queuedEvent.stateUpdateKey;
+        if (stateUpdateKey != null) {
+            // the state updates with the same key are queued in order, so the drained one is the oldest
+            ArrayDeque<QueuedEvent> sameUpdates = Objects.requireNonNull(stateUpdates.get(stateUpdateKey));
+            sameUpdates.pollFirst();
+            if (sameUpdates.isEmpty()) {
+                stateUpdates.remove(stateUpdateKey);
+            }
+        }
+    }
+
+    /**
+     * Moves the queued events to a list, waiting for the first event if the queue is empty.
+     *
+     * @param events the list the events are added to
+     * @param maxEvents the maximum number of events to move
+     * @param timeout the maximum time to wait for the first event
+     * @param unit the unit of the timeout
+     * @return the number of moved events, zero if the timeout elapsed or the queue has been closed
+     * @throws InterruptedException if the consumer has been interrupted while waiting
+     */
+    public int drainTo(List<QueuedEvent> events, int maxEvents, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0 && !closed) {
+                if (nanos <= 0) {
+                    return 0;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            int count = 0;
+            while (count < maxEvents && size > 0) {
+                QueuedEvent queuedEvent = Objects.requireNonNull(queue.pollFirst());
+                if (!queuedEvent.dropped) {
+                    removeStateUpdate(queuedEvent);
+                    events.add(queuedEvent);
+                    count++;
+                    size--;
+                }
+            }
+            if (size == 0) {
+                // release the remaining dropped events
+                queue.clear();
+            }
+            if (count > 0) {
+                notFull.signalAll();
+                drainedBatches.incrementAndGet();
+                drainedEvents.addAndGet(count);
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records that a drained event has been handed over for dispatching.
+     *
+     * @param queuedEvent the drained event
+     */
+    public void dispatched(QueuedEvent queuedEvent) {
+        totalLatencyNanos.addAndGet(System.nanoTime() - queuedEvent.enqueued);
+    }
+
+    /**
+     * Closes the queue. Blocked producers and the waiting consumer are released and no further events are accepted.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * @return the maximum time a producer is blocked waiting for space in the queue, in milliseconds
+     */
+    public long getMaxBlockMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxBlockNanos);
+    }
+
+    /**
+     * @return the number of state updates that have been dropped in favour of a newer state update
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * @return the number of events that have been rejected because the queue was full, including the events that
+     *         still did not fit after the maximum block time
+     */
+    public long getRejectedEvents() {
+        return rejectedEvents.get();
+    }
+
+    /**
+     * @return the number of batches that have been drained
+     */
+    public long getDrainedBatches() {
+        return drainedBatches.get();
+    }
+
+    /**
+     * @return the number of events that have been drained
+     */
+    public long getDrainedEvents() {
+        return drainedEvents.get();
+    }
+
+    /**
+     * @return the accumulated time between queueing and dispatching of all dispatched events, in nanoseconds
+     */
+    public long getTotalLatencyNanos() {
+        return totalLatencyNanos.get();
+    }
+
+    /**
+     * An event together with the time it has been queued.
+     */
+    public static class QueuedEvent {
+        private final Event event;
+        private final long enqueued;
+        private final @Nullable String stateUpdateKey;
+        private boolean dropped;
+
+        QueuedEvent(Event event, long enqueued, @Nullable String stateUpdateKey) {
+            this.event = event;
+            this.enqueued = enqueued;
+            this.stateUpdateKey = stateUpdateKey;
+        }
+
+        public Event getEvent() {
+            return event;
+        }
+    }
+}
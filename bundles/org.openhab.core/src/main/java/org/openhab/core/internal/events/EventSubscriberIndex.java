@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.events.TopicPrefixEventFilter;
+
+/**
+ * The {@link EventSubscriberIndex} keeps track of the registered {@link EventSubscriber}s and finds the candidates
+ * for an event without checking the filter of every subscriber of the event type.
+ * <p>
+ * Subscribers with a {@link TopicPrefixEventFilter} whose prefix ends at a topic level separator (e.g.
+ * {@code openhab/items/MyItem/}, as used by the item related rule triggers) are indexed by their prefix. For an event,
+ * only the subscribers registered for one of the topic's level prefixes are looked up. All other subscribers (no
+ * filter, regular expression or glob filters, ...) are kept in a fallback set that is checked for every event.
+ * <p>
+ * The index is written when subscribers come and go, and read by the event handler thread for every event.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EventSubscriberIndex {
+
+    private static final char TOPIC_SEPARATOR = '/';
+
+    private final Map<String, TypeIndex> typeIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * Adds an event subscriber for all of its subscribed event types.
+     *
+     * @param eventSubscriber the event subscriber
+     */
+    public synchronized void add(EventSubscriber eventSubscriber) {
+        String topicPrefix = getIndexableTopicPrefix(eventSubscriber.getEventFilter());
+        for (String subscribedEventType : eventSubscriber.getSubscribedEventTypes()) {
+            typeIndexes.computeIfAbsent(subscribedEventType, type -> new TypeIndex()).add(eventSubscriber,
+                    topicPrefix);
+        }
+    }
+
+    /**
+     * Removes an event subscriber from all of its subscribed event types.
+     *
+     * @param eventSubscriber the event subscriber
+     */
+    public synchronized void remove(EventSubscriber eventSubscriber) {
+        for (String subscribedEventType : eventSubscriber.getSubscribedEventTypes()) {
+            TypeIndex typeIndex = typeIndexes.get(subscribedEventType);
+            if (typeIndex != null) {
+                typeIndex.remove(eventSubscriber);
+                if (typeIndex.isEmpty()) {
+                    typeIndexes.remove(subscribedEventType);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if there is any subscriber for an event type, either directly or for all event types.
+     *
+     * @param eventType the event type
+     * @return true if at least one subscriber may be interested in the event type
+     */
+    public boolean hasSubscribers(String eventType) {
+        return typeIndexes.containsKey(eventType) || typeIndexes.containsKey(EventSubscriber.ALL_EVENT_TYPES);
+    }
+
+    /**
+     * Gets the subscribers that may receive an event.
+     * <p>
+     * The returned subscribers are candidates only, the caller still needs to apply their filters. Each subscriber is
+     * contained at most once.
+     *
+     * @param event the event
+     * @return the candidate subscribers
+     */
+    public List<EventSubscriber> getSubscribers(Event event) {
+        String eventType = event.getType();
+        List<EventSubscriber> subscribers = new ArrayList<>();
+        TypeIndex typeIndex = typeIndexes.get(eventType);
+        if (typeIndex != null) {
+            typeIndex.collect(event.getTopic(), subscribers);
+        }
+        TypeIndex allTypesIndex = typeIndexes.get(EventSubscriber.ALL_EVENT_TYPES);
+        if (allTypesIndex != null) {
+            if (typeIndex == null) {
+                allTypesIndex.collect(event.getTopic(), subscribers);
+            } else {
+                List<EventSubscriber> allTypesSubscribers = new ArrayList<>();
+                allTypesIndex.collect(event.getTopic(), allTypesSubscribers);
+                for (EventSubscriber subscriber : allTypesSubscribers) {
+                    // subscribers for both the type and all types have already been collected above
+                    if (!subscriber.getSubscribedEventTypes().contains(eventType)) {
+                        subscribers.add(subscriber);
+                    }
+                }
+            }
+        }
+        return subscribers;
+    }
+
+    /**
+     * Gets the subscribers that may receive an event and are subscribed to its type explicitly, i.e. without the
+     * subscribers for all event types.
+     * <p>
+     * The returned subscribers are candidates only, the caller still needs to apply their filters.
+     *
+     * @param event the event
+     * @return the candidate subscribers
+     */
+    public List<EventSubscriber> getTypeSubscribers(Event event) {
+        List<EventSubscriber> subscribers = new ArrayList<>();
+        TypeIndex typeIndex = typeIndexes.get(event.getType());
+        if (typeIndex != null) {
+            typeIndex.collect(event.getTopic(), subscribers);
+        }
+        return subscribers;
+    }
+
+    private static @Nullable String getIndexableTopicPrefix(@Nullable EventFilter eventFilter) {
+        if (eventFilter instanceof TopicPrefixEventFilter topicPrefixEventFilter) {
+            String topicPrefix = topicPrefixEventFilter.getTopicPrefix();
+            if (!topicPrefix.isEmpty() && topicPrefix.charAt(topicPrefix.length() - 1) == TOPIC_SEPARATOR) {
+                return topicPrefix;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The subscribers of a single event type.
+     */
+    private static class TypeIndex {
+        // Use copy on write array sets because the sets are written and read by different threads!
+        private final Map<String, Set<EventSubscriber>> prefixSubscribers = new ConcurrentHashMap<>();
+        private final Map<EventSubscriber, String> subscriberPrefixes = new ConcurrentHashMap<>();
+        private final Set<EventSubscriber> otherSubscribers = new CopyOnWriteArraySet<>();
+
+        void add(EventSubscriber eventSubscriber, @Nullable String topicPrefix) {
+            if (topicPrefix == null) {
+                otherSubscribers.add(eventSubscriber);
+            } else {
+                prefixSubscribers.computeIfAbsent(topicPrefix, prefix -> new CopyOnWriteArraySet<>())
+                        .add(eventSubscriber);
+                subscriberPrefixes.put(eventSubscriber, topicPrefix);
+            }
+        }
+
+        void remove(EventSubscriber eventSubscriber) {
+            otherSubscribers.remove(eventSubscriber);
+            String topicPrefix = subscriberPrefixes.remove(eventSubscriber);
+            if (topicPrefix != null) {
+                Set<EventSubscriber> subscribers = prefixSubscribers.get(topicPrefix);
+                if (subscribers != null) {
+                    subscribers.remove(eventSubscriber);
+                    if (subscribers.isEmpty()) {
+                        prefixSubscribers.remove(topicPrefix);
+                    }
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return otherSubscribers.isEmpty() && subscriberPrefixes.isEmpty();
+        }
+
+        void collect(String topic, List<EventSubscriber> subscribers) {
+            subscribers.addAll(otherSubscribers);
+            if (prefixSubscribers.isEmpty()) {
+                return;
+            }
+            int index = topic.indexOf(TOPIC_SEPARATOR);
+            while (index >= 0) {
+                Set<EventSubscriber> matching = prefixSubscribers.get(topic.substring(0, index + 1));
+                if (matching != null) {
+                    subscribers.addAll(matching);
+                }
+                index = topic.indexOf(TOPIC_SEPARATOR, index + 1);
+            }
+        }
+    }
+}
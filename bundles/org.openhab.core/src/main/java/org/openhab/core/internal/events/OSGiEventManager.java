@@ -12,24 +12,32 @@
  */
 package org.openhab.core.internal.events;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.EventDispatchListener;
+import org.openhab.core.events.EventDispatchStatistics;
 import org.openhab.core.events.EventFactory;
 import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.internal.events.EventHandler.DispatchPolicy;
+import org.openhab.core.internal.events.EventIngestQueue.OverflowPolicy;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The {@link OSGiEventManager} provides an OSGi based default implementation of the openHAB event bus.
@@ -38,26 +46,98 @@ import org.osgi.service.event.EventHandler;
  * implementing the OSGi {@link EventHandler} interface) and dispatches the received OSGi events
  * as OH {@link org.openhab.core.events.Event}s to the {@link EventSubscriber}s if the provided filter applies.
  *
+ * By default, all subscribers of the same class receive their events one after the other. With the configuration
+ * property {@code dispatchPolicy} set to {@code sharded}, the subscribers are spread over {@code dispatchShards}
+ * sequential executors by their {@link EventSubscriber#getOrderingKey() ordering key} instead.
+ *
+ * The received events are queued in a bounded {@link EventIngestQueue} of {@code ingestQueueCapacity} events and
+ * taken from it in batches of up to {@code ingestBatchSize} events. The {@code ingestOverflowPolicy} ({@code block},
+ * {@code dropOldestStateUpdate} (default) or {@code reject}) defines what happens to new events if the queue is full.
+ * The OSGi event thread is never blocked for longer than {@code ingestMaxBlockTime} milliseconds; events that still
+ * do not fit are rejected.
+ *
  * @author Stefan Bußweiler - Initial contribution
  * @author Markus Rathgeb - Return on received events as fast as possible (handle event in another thread)
  */
-@Component(immediate = true, property = { "event.topics:String=openhab" })
+@Component(immediate = true, configurationPid = OSGiEventPublisher.CONFIGURATION_PID, configurationPolicy = ConfigurationPolicy.OPTIONAL, property = {
+        "event.topics:String=openhab" })
 @NonNullByDefault
-public class OSGiEventManager implements EventHandler {
+public class OSGiEventManager implements EventHandler, EventDispatchStatistics {
+
+    protected static final String CONFIG_DISPATCH_POLICY = "dispatchPolicy";
+    protected static final String CONFIG_DISPATCH_SHARDS = "dispatchShards";
+    protected static final String CONFIG_INGEST_QUEUE_CAPACITY = "ingestQueueCapacity";
+    protected static final String CONFIG_INGEST_BATCH_SIZE = "ingestBatchSize";
+    protected static final String CONFIG_INGEST_OVERFLOW_POLICY = "ingestOverflowPolicy";
+    protected static final String CONFIG_INGEST_MAX_BLOCK_TIME = "ingestMaxBlockTime";
+
+    private static final int DEFAULT_INGEST_QUEUE_CAPACITY = 100000;
+    private static final int DEFAULT_INGEST_BATCH_SIZE = 256;
+    private static final int DEFAULT_INGEST_MAX_BLOCK_TIME = (int) EventIngestQueue.DEFAULT_MAX_BLOCK_MILLIS;
 
-    /** The event subscribers indexed by the event type. */
+    private final Logger logger = LoggerFactory.getLogger(OSGiEventManager.class);
+
+    /** The event subscribers indexed by the event type and topic. */
+    private final EventSubscriberIndex eventSubscriberIndex = new EventSubscriberIndex();
     // Use a concurrent hash map because the map is written and read by different threads!
-    private final Map<String, Set<EventSubscriber>> typedEventSubscribers = new ConcurrentHashMap<>();
     private final Map<String, EventFactory> typedEventFactories = new ConcurrentHashMap<>();
+    private final List<EventDispatchListener> dispatchListeners = new CopyOnWriteArrayList<>();
 
+    private final EventIngestQueue ingestQueue;
     private final ThreadedEventHandler eventHandler;
 
     @Activate
-    public OSGiEventManager(ComponentContext componentContext) {
-        eventHandler = new ThreadedEventHandler(typedEventSubscribers, typedEventFactories);
+    public OSGiEventManager(ComponentContext componentContext, Map<String, @Nullable Object> configuration) {
+        ingestQueue = new EventIngestQueue(
+                getPositiveInteger(configuration, CONFIG_INGEST_QUEUE_CAPACITY, DEFAULT_INGEST_QUEUE_CAPACITY),
+                getOverflowPolicy(configuration),
+                getPositiveInteger(configuration, CONFIG_INGEST_MAX_BLOCK_TIME, DEFAULT_INGEST_MAX_BLOCK_TIME));
+        eventHandler = new ThreadedEventHandler(eventSubscriberIndex, typedEventFactories,
+                getDispatchPolicy(configuration),
+                getPositiveInteger(configuration, CONFIG_DISPATCH_SHARDS, Runtime.getRuntime().availableProcessors()),
+                ingestQueue, getPositiveInteger(configuration, CONFIG_INGEST_BATCH_SIZE, DEFAULT_INGEST_BATCH_SIZE),
+                dispatchListeners);
         eventHandler.open();
     }
 
+    private static DispatchPolicy getDispatchPolicy(Map<String, @Nullable Object> configuration) {
+        Object value = configuration.get(CONFIG_DISPATCH_POLICY);
+        return value != null && DispatchPolicy.SHARDED.name().equalsIgnoreCase(value.toString())
+                ? DispatchPolicy.SHARDED
+                : DispatchPolicy.CLASS;
+    }
+
+    private static OverflowPolicy getOverflowPolicy(Map<String, @Nullable Object> configuration) {
+        Object value = configuration.get(CONFIG_INGEST_OVERFLOW_POLICY);
+        if (value != null) {
+            switch (value.toString().toLowerCase()) {
+                case "block":
+                    return OverflowPolicy.DROP_OLDEST_STATE_UPDATE;
+                case "reject":
+                    return OverflowPolicy.REJECT;
+                default:
+                    break;
+            }
+        }
+        return OverflowPolicy.BLOCK;
+    }
+
+    private int getPositiveInteger(Map<String, @Nullable Object> configuration, String key, int defaultValue) {
+        Object value = configuration.get(key);
+        if (value != null) {
+            try {
+                int intValue = Integer.parseInt(value.toString());
+                if (intValue > 0) {
+                    return intValue;
+                }
+            } catch (NumberFormatException e) {
+                // logged below
+            }
+            logger.warn("Ignoring invalid configuration for '{}': {} - value must be a positive integer", key, value);
+        }
+        return defaultValue;
+    }
+
     @Deactivate
     protected void deactivate(ComponentContext componentContext) {
         eventHandler.close();
@@ -65,29 +145,11 @@ public class OSGiEventManager implements EventHandler {
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     protected void addEventSubscriber(final EventSubscriber eventSubscriber) {
-        final Set<String> subscribedEventTypes = eventSubscriber.getSubscribedEventTypes();
-        for (final String subscribedEventType : subscribedEventTypes) {
-            final Set<EventSubscriber> entries = typedEventSubscribers.get(subscribedEventType);
-            if (entries == null) {
-                // Use a copy on write array set because the set is written and read by different threads!
-                typedEventSubscribers.put(subscribedEventType, new CopyOnWriteArraySet<>(Set.of(eventSubscriber)));
-            } else {
-                entries.add(eventSubscriber);
-            }
-        }
+        eventSubscriberIndex.add(eventSubscriber);
     }
 
     protected void removeEventSubscriber(EventSubscriber eventSubscriber) {
-        final Set<String> subscribedEventTypes = eventSubscriber.getSubscribedEventTypes();
-        for (final String subscribedEventType : subscribedEventTypes) {
-            final Set<EventSubscriber> entries = typedEventSubscribers.get(subscribedEventType);
-            if (entries != null) {
-                entries.remove(eventSubscriber);
-                if (entries.isEmpty()) {
-                    typedEventSubscribers.remove(subscribedEventType);
-                }
-            }
-        }
+        eventSubscriberIndex.remove(eventSubscriber);
     }
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
@@ -111,6 +173,55 @@ public class OSGiEventManager implements EventHandler {
         }
     }
 
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addEventDispatchListener(EventDispatchListener eventDispatchListener) {
+        dispatchListeners.add(eventDispatchListener);
+    }
+
+    protected void removeEventDispatchListener(EventDispatchListener eventDispatchListener) {
+        dispatchListeners.remove(eventDispatchListener);
+    }
+
+    @Override
+    public Map<String, Integer> getQueueSizes() {
+        return eventHandler.getQueueSizes();
+    }
+
+    @Override
+    public int getIngestQueueSize() {
+        return ingestQueue.size();
+    }
+
+    @Override
+    public int getIngestQueueCapacity() {
+        return ingestQueue.getCapacity();
+    }
+
+    @Override
+    public long getDroppedEvents() {
+        return ingestQueue.getDroppedEvents();
+    }
+
+    @Override
+    public long getRejectedEvents() {
+        return ingestQueue.getRejectedEvents();
+    }
+
+    @Override
+    public long getDrainedBatches() {
+        return ingestQueue.getDrainedBatches();
+    }
+
+    @Override
+    public long getDrainedEvents() {
+        return ingestQueue.getDrainedEvents();
+    }
+
+    @Override
+    public long getTotalIngestLatencyNanos() {
+        return ingestQueue.getTotalLatencyNanos();
+    }
+
     @Override
     public void handleEvent(@Nullable Event osgiEvent) {
         if (osgiEvent != null) {
@@ -14,6 +14,7 @@ package org.openhab.core.internal.events;
 
 import java.util.Dictionary;
 import java.util.Hashtable;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -21,6 +22,8 @@ import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.event.EventAdmin;
 
@@ -30,38 +33,63 @@ import org.osgi.service.event.EventAdmin;
  *
  * Events are send in an asynchronous way via OSGi Event Admin mechanism.
  *
+ * If typed delivery is enabled (configuration property {@code typedDelivery} of {@value #CONFIGURATION_PID}), the
+ * original {@link Event} instance is attached to the OSGi event and handed to the subscribers as is. The event is
+ * then neither serialized on publishing nor re-created by an {@link org.openhab.core.events.EventFactory} on
+ * dispatching, its payload is only built if a subscriber asks for it.
+ *
  * @author Stefan Bußweiler - Initial contribution
  * @author Simon Kaufmann - separated from OSGiEventManager
  */
-@Component
+@Component(configurationPid = OSGiEventPublisher.CONFIGURATION_PID, configurationPolicy = ConfigurationPolicy.OPTIONAL)
 @NonNullByDefault
 public class OSGiEventPublisher implements EventPublisher {
+    public static final String CONFIGURATION_PID = "org.openhab.eventbus";
+
     protected static final String SOURCE = "source";
     protected static final String TOPIC = "topic";
     protected static final String PAYLOAD = "payload";
     protected static final String TYPE = "type";
+    protected static final String EVENT = "event";
+
+    protected static final String CONFIG_TYPED_DELIVERY = "typedDelivery";
 
     private final @Nullable EventAdmin osgiEventAdmin;
 
+    private volatile boolean typedDelivery = false;
+
     @Activate
-    public OSGiEventPublisher(final @Reference @Nullable EventAdmin eventAdmin) {
+    public OSGiEventPublisher(Map<String, @Nullable Object> configuration,
+            final @Reference @Nullable EventAdmin eventAdmin) {
         this.osgiEventAdmin = eventAdmin;
+        modified(configuration);
+    }
+
+    @Modified
+    protected void modified(Map<String, @Nullable Object> configuration) {
+        Object valueTypedDelivery = configuration.get(CONFIG_TYPED_DELIVERY);
+        typedDelivery = valueTypedDelivery != null && Boolean.parseBoolean(valueTypedDelivery.toString());
     }
 
     @Override
     public void post(final Event event) throws IllegalArgumentException, IllegalStateException {
         EventAdmin eventAdmin = this.osgiEventAdmin;
-        assertValidArgument(event);
+        boolean typed = typedDelivery;
+        assertValidArgument(event, typed);
         assertValidState(eventAdmin);
-        postAsOSGiEvent(eventAdmin, event);
+        postAsOSGiEvent(eventAdmin, event, typed);
     }
 
-    private void postAsOSGiEvent(final @Nullable EventAdmin eventAdmin, final Event event)
+    private void postAsOSGiEvent(final @Nullable EventAdmin eventAdmin, final Event event, boolean typed)
             throws IllegalStateException {
         try {
-            Dictionary<String, Object> properties = new Hashtable<>(3);
+            Dictionary<String, Object> properties = new Hashtable<>(4);
             properties.put(TYPE, event.getType());
-            properties.put(PAYLOAD, event.getPayload());
+            if (typed) {
+                properties.put(EVENT, event);
+            } else {
+                properties.put(PAYLOAD, event.getPayload());
+            }
             properties.put(TOPIC, event.getTopic());
             if (event.getSource() instanceof String source) {
                 properties.put(SOURCE, source);
@@ -73,14 +101,15 @@ public class OSGiEventPublisher implements EventPublisher {
         }
     }
 
-    private void assertValidArgument(Event event) throws IllegalArgumentException {
+    private void assertValidArgument(Event event, boolean typed) throws IllegalArgumentException {
         String errorMsg = "The %s of the 'event' argument must not be null or empty.";
         String value;
 
         if ((value = event.getType()) == null || value.isEmpty()) {
             throw new IllegalArgumentException(String.format(errorMsg, "type"));
         }
-        if ((value = event.getPayload()) == null || value.isEmpty()) {
+        // the payload of a typed event is built lazily, so it is not checked here
+        if (!typed && ((value = event.getPayload()) == null || value.isEmpty())) {
             throw new IllegalArgumentException(String.format(errorMsg, "payload"));
         }
         if ((value = event.getTopic()) == null || value.isEmpty()) {
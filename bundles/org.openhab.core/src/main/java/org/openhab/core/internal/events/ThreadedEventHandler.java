@@ -13,16 +13,17 @@
 package org.openhab.core.internal.events;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.EventDispatchListener;
 import org.openhab.core.events.EventFactory;
-import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.internal.events.EventIngestQueue.QueuedEvent;
 import org.osgi.service.event.Event;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,40 +36,60 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class ThreadedEventHandler implements Closeable {
 
+    private static final long OVERFLOW_WARNING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
     private final Logger logger = LoggerFactory.getLogger(ThreadedEventHandler.class);
 
     private final Thread thread;
+    private final EventHandler worker;
 
-    private final Event notifyEvent = new Event("notify", Map.of());
-    private final BlockingQueue<Event> queue = new LinkedBlockingQueue<>();
+    private final EventIngestQueue queue;
     private final AtomicBoolean running = new AtomicBoolean(true);
+    private final AtomicLong reportedOverflows = new AtomicLong();
+    private final AtomicLong nextOverflowWarning = new AtomicLong(System.nanoTime());
 
     /**
      * Create a new threaded event handler.
      *
-     * @param typedEventSubscribers the event subscribers
+     * @param eventSubscriberIndex the event subscribers
      * @param typedEventFactories the event factories indexed by the event type
+     * @param dispatchPolicy the policy for spreading the events over the dispatching executors
+     * @param shards the number of executors for {@link EventHandler.DispatchPolicy#SHARDED}
+     * @param queue the queue for the received events
+     * @param batchSize the maximum number of events taken from the queue at once
+     * @param dispatchListeners the listeners to notify about the event handling
      */
-    ThreadedEventHandler(Map<String, Set<EventSubscriber>> typedEventSubscribers,
-            final Map<String, EventFactory> typedEventFactories) {
+    ThreadedEventHandler(EventSubscriberIndex eventSubscriberIndex, final Map<String, EventFactory> typedEventFactories,
+            EventHandler.DispatchPolicy dispatchPolicy, int shards, EventIngestQueue queue, int batchSize,
+            List<EventDispatchListener> dispatchListeners) {
+        this.queue = queue;
+        worker = new EventHandler(eventSubscriberIndex, typedEventFactories, dispatchPolicy, shards,
+                dispatchListeners);
         thread = new Thread(() -> {
-            try (EventHandler worker = new EventHandler(typedEventSubscribers, typedEventFactories)) {
+            List<QueuedEvent> batch = new ArrayList<>(batchSize);
+            try (EventHandler worker = this.worker) {
                 while (running.get()) {
                     try {
-                        logger.trace("wait for event");
-                        final Event event = queue.poll(1, TimeUnit.HOURS);
-                        logger.trace("inspect event: {}", event);
-                        if (event == null) {
-                            logger.debug("Hey, you have really very few events.");
-                        } else if (event.equals(notifyEvent)) { // NOPMD
-                            // received an internal notification
-                        } else {
-                            worker.handleEvent(event);
+                        logger.trace("wait for events");
+                        if (queue.drainTo(batch, batchSize, 1, TimeUnit.HOURS) == 0) {
+                            if (running.get()) {
+                                logger.debug("Hey, you have really very few events.");
+                            }
+                            continue;
+                        }
+                        logger.trace("inspect {} events", batch.size());
+                        for (QueuedEvent queuedEvent : batch) {
+                            queue.dispatched(queuedEvent);
+                            try {
+                                worker.handleEvent(queuedEvent.getEvent());
+                            } catch (RuntimeException ex) {
+                                logger.error("Error on event handling.", ex);
+                            }
                         }
                     } catch (InterruptedException ex) {
                         Thread.currentThread().interrupt();
-                    } catch (RuntimeException ex) {
-                        logger.error("Error on event handling.", ex);
+                    } finally {
+                        batch.clear();
                     }
                 }
             }
@@ -82,7 +103,7 @@ public class ThreadedEventHandler implements Closeable {
     @Override
     public void close() {
         running.set(false);
-        queue.add(notifyEvent);
+        queue.close();
         thread.interrupt();
         try {
             thread.join();
@@ -92,6 +113,38 @@ public class ThreadedEventHandler implements Closeable {
     }
 
     void handleEvent(Event event) {
-        queue.add(event);
+        try {
+            if (!queue.offer(event)) {
+                logger.debug("Discarding event {} because the event queue is full or closed.",
+                        event.getProperty(OSGiEventPublisher.TOPIC));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.debug("Interrupted while waiting to queue event {}.", event.getProperty(OSGiEventPublisher.TOPIC));
+        }
+        warnOnOverflow();
+    }
+
+    /**
+     * Logs a warning if events have been dropped or rejected since the last warning, at most once per interval to
+     * not flood the log while the queue stays full.
+     */
+    private void warnOnOverflow() {
+        long dropped = queue.getDroppedEvents();
+        long rejected = queue.getRejectedEvents();
+        if (dropped + rejected == reportedOverflows.get()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long next = nextOverflowWarning.get();
+        if (now - next >= 0 && nextOverflowWarning.compareAndSet(next, now + OVERFLOW_WARNING_INTERVAL_NANOS)) {
+            long overflows = dropped + rejected - reportedOverflows.getAndSet(dropped + rejected);
+            logger.warn("The event queue is full: {} events have been dropped or rejected since the last warning "
+                    + "({} dropped and {} rejected in total).", overflows, dropped, rejected);
+        }
+    }
+
+    Map<String, Integer> getQueueSizes() {
+        return worker.getQueueSizes();
     }
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.GroupStateCoalescer;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link GroupStateCoalescerImpl} collects the groups whose members have been updated and calculates their states
+ * at most once per window.
+ * <p>
+ * When the window has elapsed, the dirty groups and all their ancestors are calculated in topological order, i.e. a
+ * group is calculated after all of its member groups. A group that has been calculated with the current state of a
+ * member group is not scheduled again when it is notified about the state update of that member group.
+ * <p>
+ * Coalescing is disabled if the window is zero.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class GroupStateCoalescerImpl implements GroupStateCoalescer {
+
+    private final Logger logger = LoggerFactory.getLogger(GroupStateCoalescerImpl.class);
+
+    private final Function<String, @Nullable Item> itemLookup;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    // the updated members per group, guarded by lock
+    private final Map<GroupItem, Set<Item>> dirtyGroups = new LinkedHashMap<>();
+    // the states of the member groups per group at its last calculation, guarded by lock
+    private final Map<GroupItem, Map<Item, State>> calculatedMemberStates = new WeakHashMap<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    private volatile long windowMillis;
+
+    /**
+     * Create a new coalescer.
+     *
+     * @param itemLookup the lookup of the group items by their name
+     * @param scheduler the scheduler for the calculation of the dirty groups
+     */
+    public GroupStateCoalescerImpl(Function<String, @Nullable Item> itemLookup, ScheduledExecutorService scheduler) {
+        this.itemLookup = itemLookup;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Sets the window in which the updates of the members of a group are coalesced.
+     *
+     * @param windowMillis the window in milliseconds, zero to disable coalescing
+     */
+    public void setWindow(long windowMillis) {
+        this.windowMillis = Math.max(0, windowMillis);
+        if (this.windowMillis == 0) {
+            // calculate the pending groups, new updates are calculated immediately
+            flush();
+        }
+    }
+
+    public long getWindow() {
+        return windowMillis;
+    }
+
+    @Override
+    public boolean schedule(GroupItem group, Item member) {
+        long windowMillis = this.windowMillis;
+        if (windowMillis == 0) {
+            return false;
+        }
+        synchronized (lock) {
+            if (member instanceof GroupItem && !dirtyGroups.containsKey(group)) {
+                Map<Item, State> memberStates = calculatedMemberStates.get(group);
+                if (memberStates != null && member.getState().equals(memberStates.get(member))) {
+                    logger.trace("Group '{}' has already been calculated with the state of '{}'", group.getName(),
+                            member.getName());
+                    return true;
+                }
+            }
+            dirtyGroups.computeIfAbsent(group, g -> new LinkedHashSet<>()).add(member);
+            if (flushJob == null) {
+                flushJob = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calculates the states of the dirty groups and their ancestors.
+     */
+    void flush() {
+        Map<GroupItem, Set<Item>> groups;
+        synchronized (lock) {
+            flushJob = null;
+            if (dirtyGroups.isEmpty()) {
+                return;
+            }
+            groups = new HashMap<>(dirtyGroups);
+            dirtyGroups.clear();
+        }
+
+        for (GroupItem group : sortTopologically(groups.keySet())) {
+            Set<Item> updatedMembers = groups.get(group);
+            if (updatedMembers == null || updatedMembers.isEmpty()) {
+                // an ancestor whose member groups have not been calculated
+                continue;
+            }
+            Map<Item, State> memberStates = new HashMap<>();
+            for (Item member : updatedMembers) {
+                if (member instanceof GroupItem) {
+                    memberStates.put(member, member.getState());
+                }
+            }
+            synchronized (lock) {
+                calculatedMemberStates.put(group, memberStates);
+            }
+            try {
+                group.calculateState(new ArrayList<>(updatedMembers));
+            } catch (RuntimeException e) {
+                logger.warn("Failed to calculate the state of group '{}': {}", group.getName(), e.getMessage(), e);
+            }
+            for (GroupItem parent : getParents(group)) {
+                Set<Item> parentMembers = groups.get(parent);
+                if (parentMembers != null) {
+                    parentMembers.add(group);
+                } else {
+                    groups.put(parent, new LinkedHashSet<>(List.of(group)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts the given groups and all their ancestors, so that every group comes after its member groups.
+     */
+    private List<GroupItem> sortTopologically(Set<GroupItem> groups) {
+        // collect the ancestors
+        Set<GroupItem> allGroups = new LinkedHashSet<>(groups);
+        Deque<GroupItem> pending = new ArrayDeque<>(groups);
+        while (!pending.isEmpty()) {
+            for (GroupItem parent : getParents(pending.removeFirst())) {
+                if (allGroups.add(parent)) {
+                    pending.addLast(parent);
+                }
+            }
+        }
+
+        // depth first post-order over the member groups, a cyclic membership is only visited once
+        List<GroupItem> sorted = new ArrayList<>(allGroups.size());
+        Set<GroupItem> visited = new HashSet<>();
+        for (GroupItem group : allGroups) {
+            visit(group, allGroups, visited, sorted);
+        }
+        return sorted;
+    }
+
+    private void visit(GroupItem group, Set<GroupItem> allGroups, Set<GroupItem> visited, List<GroupItem> sorted) {
+        if (!visited.add(group)) {
+            return;
+        }
+        for (Item member : group.getMembers()) {
+            if (member instanceof GroupItem memberGroup && allGroups.contains(memberGroup)) {
+                visit(memberGroup, allGroups, visited, sorted);
+            }
+        }
+        sorted.add(group);
+    }
+
+    private List<GroupItem> getParents(GroupItem group) {
+        List<GroupItem> parents = new ArrayList<>();
+        for (String groupName : group.getGroupNames()) {
+            if (itemLookup.apply(groupName) instanceof GroupItem parent && parent.getFunction() != null
+                    && parent.getBaseItem() != null && parent.getMembers().contains(group)) {
+                parents.add(parent);
+            }
+        }
+        return parents;
+    }
+
+    /**
+     * Stops the scheduled calculation and calculates the pending groups.
+     */
+    public void dispose() {
+        synchronized (lock) {
+            ScheduledFuture<?> flushJob = this.flushJob;
+            if (flushJob != null) {
+                flushJob.cancel(false);
+            }
+        }
+        flush();
+        synchronized (lock) {
+            calculatedMemberStates.clear();
+        }
+    }
+
+    int getDirtyGroupCount() {
+        synchronized (lock) {
+            return dirtyGroups.size();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+
+/**
+ * The {@link ItemIndex} keeps the items of the item registry indexed by their type, their tags, the groups they are a
+ * member of and their name, so that queries cost the size of their result instead of the number of items.
+ * <p>
+ * The index keeps the type, tags and group names an item had when it was added or updated. Changes of an item instance
+ * that are not announced by an update are not reflected, as for the group memberships maintained by the registry.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ItemIndex {
+
+    private static final int MAX_CACHED_PATTERNS = 100;
+
+    private static final Pattern ITEM_NAME_CHARACTERS = Pattern.compile("[a-zA-Z0-9_]*");
+
+    private final Map<String, IndexedItem> itemsByName = new HashMap<>();
+    private final TreeMap<String, Item> itemsBySortedName = new TreeMap<>();
+    private final Map<String, Map<String, Item>> itemsByType = new HashMap<>();
+    private final Map<String, Map<String, Item>> itemsByTag = new HashMap<>();
+    private final Map<String, Map<String, Item>> itemsByGroup = new HashMap<>();
+
+    private final Map<String, Pattern> patterns = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, Pattern> eldest) {
+            return size() > MAX_CACHED_PATTERNS;
+        }
+    };
+
+    /**
+     * Adds an item to the index or replaces the indexed item with the same name.
+     *
+     * @param item the item
+     */
+    public synchronized void add(Item item) {
+        remove(item.getName());
+
+        Set<String> tags = new HashSet<>();
+        for (String tag : item.getTags()) {
+            tags.add(normalizeTag(tag));
+        }
+        IndexedItem indexedItem = new IndexedItem(item.getType(), tags, List.copyOf(item.getGroupNames()));
+        itemsByName.put(item.getName(), indexedItem);
+        itemsBySortedName.put(item.getName(), item);
+        addTo(itemsByType, indexedItem.type, item);
+        for (String tag : indexedItem.tags) {
+            addTo(itemsByTag, tag, item);
+        }
+        for (String groupName : indexedItem.groupNames) {
+            addTo(itemsByGroup, groupName, item);
+        }
+    }
+
+    /**
+     * Removes an item from the index, using the type, tags and group names it had when it was indexed.
+     *
+     * @param itemName the name of the item
+     */
+    public synchronized void remove(String itemName) {
+        IndexedItem indexedItem = itemsByName.remove(itemName);
+        if (indexedItem == null) {
+            return;
+        }
+        itemsBySortedName.remove(itemName);
+        removeFrom(itemsByType, indexedItem.type, itemName);
+        for (String tag : indexedItem.tags) {
+            removeFrom(itemsByTag, tag, itemName);
+        }
+        for (String groupName : indexedItem.groupNames) {
+            removeFrom(itemsByGroup, groupName, itemName);
+        }
+    }
+
+    /**
+     * @param type the item type
+     * @return the items of the given type
+     */
+    public synchronized Collection<Item> getItemsOfType(String type) {
+        return new ArrayList<>(itemsByType.getOrDefault(type, Map.of()).values());
+    }
+
+    /**
+     * Returns the items that have all given tags, compared case-insensitively.
+     *
+     * @param type the item type or null for items of any type
+     * @param tags the tags
+     * @return the items of the type with all tags
+     */
+    public synchronized Collection<Item> getItemsByTagAndType(@Nullable String type, String... tags) {
+        // start with the smallest of the candidate sets and check the other criteria for its items
+        @Nullable
+        Map<String, Item> candidates = type == null ? null : itemsByType.getOrDefault(type, Map.of());
+        for (String tag : tags) {
+            Map<String, Item> tagged = itemsByTag.getOrDefault(normalizeTag(tag), Map.of());
+            if (candidates == null || tagged.size() < candidates.size()) {
+                candidates = tagged;
+            }
+        }
+        if (candidates == null) {
+            return new ArrayList<>(itemsBySortedName.values());
+        }
+
+        List<Item> items = new ArrayList<>();
+        for (Item item : candidates.values()) {
+            if ((type == null || item.getType().equals(type)) && hasTags(item, tags)) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    private boolean hasTags(Item item, String... tags) {
+        for (String tag : tags) {
+            if (!item.hasTag(tag)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param groupName the name of the group
+     * @return the items that have the group name
+     */
+    public synchronized Collection<Item> getMembers(String groupName) {
+        return new ArrayList<>(itemsByGroup.getOrDefault(groupName, Map.of()).values());
+    }
+
+    /**
+     * Returns the items whose name matches a pattern, in which {@code ?} and {@code *} are wildcards for at most one
+     * and any number of characters. The rest of the pattern is a regular expression.
+     *
+     * @param pattern the pattern
+     * @return the matching items
+     * @throws java.util.regex.PatternSyntaxException if the pattern is not valid
+     */
+    public Collection<Item> getItems(String pattern) {
+        String regex = pattern.replace("?", ".?").replace("*", ".*?");
+        if (ITEM_NAME_CHARACTERS.matcher(regex).matches()) {
+            // a regular expression without meta characters only matches itself
+            synchronized (this) {
+                Item item = itemsBySortedName.get(regex);
+                return item == null ? new ArrayList<>() : new ArrayList<>(List.of(item));
+            }
+        }
+
+        Pattern compiledPattern = getPattern(regex);
+        String prefix = getLiteralPrefix(regex);
+        List<Item> items = new ArrayList<>();
+        synchronized (this) {
+            Map<String, Item> candidates = prefix.isEmpty() ? itemsBySortedName
+                    : itemsBySortedName.subMap(prefix, prefix + Character.MAX_VALUE);
+            for (Item item : candidates.values()) {
+                if (compiledPattern.matcher(item.getName()).matches()) {
+                    items.add(item);
+                }
+            }
+        }
+        return items;
+    }
+
+    private synchronized Pattern getPattern(String regex) {
+        Pattern pattern = patterns.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            patterns.put(regex, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Determines the characters all names matching a regular expression start with.
+     */
+    private static String getLiteralPrefix(String regex) {
+        if (regex.indexOf('|') >= 0) {
+            return "";
+        }
+        int end = 0;
+        while (end < regex.length() && isItemNameCharacter(regex.charAt(end))) {
+            end++;
+        }
+        if (end < regex.length() && end > 0 && "?*+{".indexOf(regex.charAt(end)) >= 0) {
+            // the last character is quantified
+            end--;
+        }
+        return regex.substring(0, end);
+    }
+
+    private static boolean isItemNameCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static String normalizeTag(String tag) {
+        return tag.toLowerCase(Locale.ROOT);
+    }
+
+    private static void addTo(Map<String, Map<String, Item>> index, String key, Item item) {
+        index.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(item.getName(), item);
+    }
+
+    private static void removeFrom(Map<String, Map<String, Item>> index, String key, String itemName) {
+        Map<String, Item> items = index.get(key);
+        if (items != null) {
+            items.remove(itemName);
+            if (items.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private record IndexedItem(String type, Set<String> tags, List<String> groupNames) {
+    }
+}
@@ -15,9 +15,11 @@ package org.openhab.core.internal.items;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.common.registry.AbstractRegistry;
 import org.openhab.core.common.registry.Provider;
 import org.openhab.core.common.registry.RegistryChangeListener;
@@ -42,7 +44,9 @@ import org.openhab.core.service.StateDescriptionService;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -60,10 +64,18 @@ import org.slf4j.LoggerFactory;
  * @author Laurent Garnier - handle new DefaultStateDescriptionFragmentProvider
  */
 @NonNullByDefault
-@Component(immediate = true)
+@Component(immediate = true, configurationPid = ItemRegistryImpl.CONFIGURATION_PID, configurationPolicy = ConfigurationPolicy.OPTIONAL)
 public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvider>
         implements ItemRegistry, RegistryChangeListener<Metadata> {
 
+    public static final String CONFIGURATION_PID = "org.openhab.items";
+
+    /**
+     * The window in milliseconds in which the member updates of a group are coalesced into one calculation of the
+     * group state, zero calculates the group state for every member update.
+     */
+    static final String CONFIG_GROUP_STATE_COALESCING_WINDOW = "groupStateCoalescingWindow";
+
     private final Logger logger = LoggerFactory.getLogger(ItemRegistryImpl.class);
 
     private @Nullable StateDescriptionService stateDescriptionService;
@@ -73,6 +85,11 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
 
     private @Nullable ItemStateConverter itemStateConverter;
 
+    private final ItemIndex itemIndex = new ItemIndex();
+
+    private final GroupStateCoalescerImpl groupStateCoalescer = new GroupStateCoalescerImpl(this::get,
+            ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON));
+
     @Activate
     public ItemRegistryImpl(final @Reference MetadataRegistry metadataRegistry,
             final @Reference DefaultStateDescriptionFragmentProvider defaultStateDescriptionFragmentProvider) {
@@ -82,15 +99,32 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
     }
 
     @Activate
-    protected void activate(final ComponentContext componentContext) {
+    protected void activate(final ComponentContext componentContext, Map<String, @Nullable Object> configuration) {
         super.activate(componentContext.getBundleContext());
         metadataRegistry.addRegistryChangeListener(this);
+        modified(configuration);
+    }
+
+    @Modified
+    protected void modified(Map<String, @Nullable Object> configuration) {
+        Object window = configuration.get(CONFIG_GROUP_STATE_COALESCING_WINDOW);
+        long windowMillis = 0;
+        if (window != null) {
+            try {
+                windowMillis = Long.parseLong(window.toString());
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring invalid configuration value '{}' for '{}'.", window,
+                        CONFIG_GROUP_STATE_COALESCING_WINDOW);
+            }
+        }
+        groupStateCoalescer.setWindow(windowMillis);
     }
 
     @Override
     @Deactivate
     protected void deactivate() {
         metadataRegistry.removeRegistryChangeListener(this);
+        groupStateCoalescer.dispose();
         super.deactivate();
     }
 
@@ -126,29 +160,12 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
 
     @Override
     public Collection<Item> getItemsOfType(String type) {
-        Collection<Item> matchedItems = new ArrayList<>();
-
-        for (Item item : getItems()) {
-            if (item.getType().equals(type)) {
-                matchedItems.add(item);
-            }
-        }
-
-        return matchedItems;
+        return itemIndex.getItemsOfType(type);
     }
 
     @Override
     public Collection<Item> getItems(String pattern) {
-        String regex = pattern.replace("?", ".?").replace("*", ".*?");
-        Collection<Item> matchedItems = new ArrayList<>();
-
-        for (Item item : getItems()) {
-            if (item.getName().matches(regex)) {
-                matchedItems.add(item);
-            }
-        }
-
-        return matchedItems;
+        return itemIndex.getItems(pattern);
     }
 
     private void addToGroupItems(Item item, List<String> groupItemNames) {
@@ -206,17 +223,17 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
             genericItem.setCommandDescriptionService(commandDescriptionService);
             genericItem.setItemStateConverter(itemStateConverter);
         }
+        if (item instanceof GroupItem groupItem) {
+            groupItem.setGroupStateCoalescer(groupStateCoalescer);
+        }
         if (item instanceof MetadataAwareItem metadataAwareItem) {
-            metadataRegistry.stream().filter(m -> m.getUID().getItemName().equals(item.getName()))
-                    .forEach(metadataAwareItem::addedMetadata);
+            metadataRegistry.getItemMetadata(item.getName()).forEach(metadataAwareItem::addedMetadata);
         }
     }
 
     private void addMembersToGroupItem(GroupItem groupItem) {
-        for (Item i : getItems()) {
-            if (i.getGroupNames().contains(groupItem.getName())) {
-                groupItem.addMember(i);
-            }
+        for (Item i : itemIndex.getMembers(groupItem.getName())) {
+            groupItem.addMember(i);
         }
     }
 
@@ -235,6 +252,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
     @Override
     protected void onAddElement(Item element) throws IllegalArgumentException {
         initializeItem(element);
+        itemIndex.add(element);
     }
 
     @Override
@@ -244,6 +262,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
         }
         removeFromGroupItems(element, element.getGroupNames());
         defaultStateDescriptionFragmentProvider.onItemRemoved(element);
+        itemIndex.remove(element.getName());
     }
 
     @Override
@@ -270,6 +289,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
 
         defaultStateDescriptionFragmentProvider.onItemRemoved(oldItem);
         defaultStateDescriptionFragmentProvider.onItemAdded(item);
+        itemIndex.add(item);
     }
 
     @Override
@@ -317,22 +337,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
 
     @Override
     public Collection<Item> getItemsByTag(String... tags) {
-        List<Item> filteredItems = new ArrayList<>();
-        for (Item item : getItems()) {
-            if (itemHasTags(item, tags)) {
-                filteredItems.add(item);
-            }
-        }
-        return filteredItems;
-    }
-
-    private boolean itemHasTags(Item item, String... tags) {
-        for (String tag : tags) {
-            if (!item.hasTag(tag)) {
-                return false;
-            }
-        }
-        return true;
+        return itemIndex.getItemsByTagAndType(null, tags);
     }
 
     @Override
@@ -351,13 +356,7 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
 
     @Override
     public Collection<Item> getItemsByTagAndType(String type, String... tags) {
-        List<Item> filteredItems = new ArrayList<>();
-        for (Item item : getItemsOfType(type)) {
-            if (itemHasTags(item, tags)) {
-                filteredItems.add(item);
-            }
-        }
-        return filteredItems;
+        return itemIndex.getItemsByTagAndType(type, tags);
     }
 
     @Override
@@ -467,6 +466,8 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String, ItemProvide
 
     @Override
     public void notifyListenersAboutItemExternalUpdate(Item oldItem, Item newItem) {
+        // the tags or groups of the item instance might have been changed
+        itemIndex.add(newItem);
         notifyListenersAboutUpdatedElement(oldItem, newItem);
     }
 }
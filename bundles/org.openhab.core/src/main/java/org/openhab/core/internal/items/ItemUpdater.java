@@ -12,7 +12,10 @@
  */
 package org.openhab.core.internal.items;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.Event;
 import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.GroupItem;
@@ -21,6 +24,7 @@ import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.events.AbstractItemEventSubscriber;
 import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemStateBatchEvent;
 import org.openhab.core.items.events.ItemStateEvent;
 import org.openhab.core.items.events.ItemTimeSeriesEvent;
 import org.openhab.core.types.State;
@@ -41,6 +45,10 @@ import org.slf4j.LoggerFactory;
 @Component(immediate = true, service = EventSubscriber.class)
 public class ItemUpdater extends AbstractItemEventSubscriber {
 
+    // state batches are handled in bulk instead of receiving their state events one by one
+    private static final Set<String> SUBSCRIBED_EVENT_TYPES = Set.of(ItemStateEvent.TYPE, ItemCommandEvent.TYPE,
+            ItemTimeSeriesEvent.TYPE, ItemStateBatchEvent.TYPE);
+
     private final Logger logger = LoggerFactory.getLogger(ItemUpdater.class);
 
     private final ItemRegistry itemRegistry;
@@ -50,6 +58,27 @@ public class ItemUpdater extends AbstractItemEventSubscriber {
         this.itemRegistry = itemRegistry;
     }
 
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return SUBSCRIBED_EVENT_TYPES;
+    }
+
+    @Override
+    public void receive(Event event) {
+        if (event instanceof ItemStateBatchEvent batchEvent) {
+            for (ItemStateEvent updateEvent : batchEvent.getEvents()) {
+                try {
+                    receiveUpdate(updateEvent);
+                } catch (RuntimeException e) {
+                    // the remaining updates of the batch must not be lost
+                    logger.warn("Failed to update item '{}': {}", updateEvent.getItemName(), e.getMessage(), e);
+                }
+            }
+        } else {
+            super.receive(event);
+        }
+    }
+
     @Override
     protected void receiveUpdate(ItemStateEvent updateEvent) {
         String itemName = updateEvent.getItemName();
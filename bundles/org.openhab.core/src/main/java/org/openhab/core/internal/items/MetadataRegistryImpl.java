@@ -12,8 +12,11 @@
  */
 package org.openhab.core.internal.items;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.stream.Collectors;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.common.registry.AbstractRegistry;
@@ -35,6 +38,9 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 /**
  * This is the main implementing class of the {@link MetadataRegistry} interface. It
  * keeps track of all declared metadata of all metadata providers.
+ * <p>
+ * The metadata is additionally indexed by the name of its item, so that the metadata of an item can be looked up
+ * without iterating over the metadata of all items.
  *
  * @author Kai Kreuzer - Initial contribution
  */
@@ -43,6 +49,9 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 public class MetadataRegistryImpl extends AbstractRegistry<Metadata, MetadataKey, MetadataProvider>
         implements MetadataRegistry {
 
+    // modified by the element callbacks while holding the write lock of the registry, read without locking
+    private final Map<String, Map<MetadataKey, Metadata>> itemMetadata = new ConcurrentHashMap<>();
+
     @Activate
     public MetadataRegistryImpl(final @Reference ReadyService readyService) {
         super(MetadataProvider.class);
@@ -73,8 +82,39 @@ public class MetadataRegistryImpl extends AbstractRegistry<Metadata, MetadataKey
      */
     @Override
     public Collection<String> getAllNamespaces(String itemname) {
-        return stream().map(Metadata::getUID).filter(key -> key.getItemName().equals(itemname))
-                .map(MetadataKey::getNamespace).collect(Collectors.toSet());
+        Collection<String> namespaces = new HashSet<>();
+        for (MetadataKey key : itemMetadata.getOrDefault(itemname, Map.of()).keySet()) {
+            namespaces.add(key.getNamespace());
+        }
+        return namespaces;
+    }
+
+    @Override
+    public Collection<Metadata> getItemMetadata(String itemname) {
+        return new ArrayList<>(itemMetadata.getOrDefault(itemname, Map.of()).values());
+    }
+
+    @Override
+    protected void onAddElement(Metadata element) throws IllegalArgumentException {
+        super.onAddElement(element);
+        itemMetadata.computeIfAbsent(element.getUID().getItemName(), itemName -> new ConcurrentHashMap<>())
+                .put(element.getUID(), element);
+    }
+
+    @Override
+    protected void onUpdateElement(Metadata oldElement, Metadata element) throws IllegalArgumentException {
+        super.onUpdateElement(oldElement, element);
+        itemMetadata.computeIfAbsent(element.getUID().getItemName(), itemName -> new ConcurrentHashMap<>())
+                .put(element.getUID(), element);
+    }
+
+    @Override
+    protected void onRemoveElement(Metadata element) {
+        super.onRemoveElement(element);
+        itemMetadata.computeIfPresent(element.getUID().getItemName(), (itemName, metadata) -> {
+            metadata.remove(element.getUID());
+            return metadata.isEmpty() ? null : metadata;
+        });
     }
 
     @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
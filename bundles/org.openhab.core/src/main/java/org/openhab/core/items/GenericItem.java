@@ -13,6 +13,7 @@
 package org.openhab.core.items;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -20,10 +21,11 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Queue;
 import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -62,6 +64,9 @@ public abstract class GenericItem implements ActiveItem {
 
     private static final String ITEM_THREADPOOLNAME = "items";
 
+    // the maximum number of notifications of an item handled by one task, before the thread is handed to other items
+    private static final int MAX_NOTIFICATIONS_PER_TASK = 64;
+
     protected @Nullable EventPublisher eventPublisher;
 
     protected Set<StateChangeListener> listeners = new CopyOnWriteArraySet<>(
@@ -94,6 +99,12 @@ public abstract class GenericItem implements ActiveItem {
 
     protected @Nullable ItemStateConverter itemStateConverter;
 
+    // the pending listener notifications, handled in order by at most one task at a time
+    private final Object notificationLock = new Object();
+    private @Nullable Queue<Runnable> pendingNotifications;
+    private boolean notificationTaskScheduled;
+    private final Runnable notificationTask = this::processNotifications;
+
     public GenericItem(String type, String name) {
         this.name = name;
         this.type = type;
@@ -314,17 +325,19 @@ public abstract class GenericItem implements ActiveItem {
      * @param timeSeries new time series of this item
      */
     protected final void applyTimeSeries(TimeSeries timeSeries) {
-        // notify listeners
-        Set<TimeSeriesListener> clonedListeners = new CopyOnWriteArraySet<>(timeSeriesListeners);
-        ExecutorService pool = ThreadPoolManager.getPool(ITEM_THREADPOOLNAME);
-        clonedListeners.forEach(listener -> pool.execute(() -> {
-            try {
-                listener.timeSeriesUpdated(GenericItem.this, timeSeries);
-            } catch (Exception e) {
-                logger.warn("failed notifying listener '{}' about timeseries update of item {}: {}", listener,
-                        GenericItem.this.getName(), e.getMessage(), e);
-            }
-        }));
+        // notify listeners, the copy-on-write set is iterated on a snapshot
+        if (!timeSeriesListeners.isEmpty()) {
+            scheduleNotification(() -> {
+                for (TimeSeriesListener listener : timeSeriesListeners) {
+                    try {
+                        listener.timeSeriesUpdated(GenericItem.this, timeSeries);
+                    } catch (Exception e) {
+                        logger.warn("failed notifying listener '{}' about timeseries update of item {}: {}", listener,
+                                GenericItem.this.getName(), e.getMessage(), e);
+                    }
+                }
+            });
+        }
 
         // send event
         EventPublisher eventPublisher1 = this.eventPublisher;
@@ -370,28 +383,84 @@ public abstract class GenericItem implements ActiveItem {
     }
 
     protected void notifyListeners(final State oldState, final State newState) {
+        if (listeners.isEmpty()) {
+            return;
+        }
         // if nothing has changed, we send update notifications
-        Set<StateChangeListener> clonedListeners = new CopyOnWriteArraySet<>(listeners);
-        ExecutorService pool = ThreadPoolManager.getPool(ITEM_THREADPOOLNAME);
         try {
             final boolean stateChanged = !newState.equals(oldState);
-            clonedListeners.forEach(listener -> pool.execute(() -> {
-                try {
-                    listener.stateUpdated(GenericItem.this, newState);
-                    if (stateChanged) {
-                        listener.stateChanged(GenericItem.this, oldState, newState);
+            // all listeners are notified by one task, the copy-on-write set is iterated on a snapshot
+            scheduleNotification(() -> {
+                for (StateChangeListener listener : listeners) {
+                    try {
+                        listener.stateUpdated(GenericItem.this, newState);
+                        if (stateChanged) {
+                            listener.stateChanged(GenericItem.this, oldState, newState);
+                        }
+                    } catch (Exception e) {
+                        logger.warn("failed notifying listener '{}' about state update of item {}: {}", listener,
+                                GenericItem.this.getName(), e.getMessage(), e);
                     }
-                } catch (Exception e) {
-                    logger.warn("failed notifying listener '{}' about state update of item {}: {}", listener,
-                            GenericItem.this.getName(), e.getMessage(), e);
                 }
-            }));
+            });
         } catch (IllegalArgumentException e) {
             logger.warn("failed comparing oldState '{}' to newState '{}' for item {}: {}", oldState, newState,
                     GenericItem.this.getName(), e.getMessage(), e);
         }
     }
 
+    /**
+     * Queues a notification of the listeners. The notifications of an item are executed in the order they have been
+     * queued, one after the other.
+     */
+    private void scheduleNotification(Runnable notification) {
+        synchronized (notificationLock) {
+            Queue<Runnable> pendingNotifications = this.pendingNotifications;
+            if (pendingNotifications == null) {
+                pendingNotifications = new ArrayDeque<>();
+                this.pendingNotifications = pendingNotifications;
+            }
+            pendingNotifications.add(notification);
+            if (notificationTaskScheduled) {
+                return;
+            }
+            notificationTaskScheduled = true;
+        }
+        executeNotificationTask();
+    }
+
+    private void executeNotificationTask() {
+        try {
+            ThreadPoolManager.getPool(ITEM_THREADPOOLNAME).execute(notificationTask);
+        } catch (RejectedExecutionException e) {
+            synchronized (notificationLock) {
+                notificationTaskScheduled = false;
+                Queue<Runnable> pendingNotifications = this.pendingNotifications;
+                if (pendingNotifications != null) {
+                    pendingNotifications.clear();
+                }
+            }
+            logger.warn("failed notifying listeners of item {}: {}", getName(), e.getMessage());
+        }
+    }
+
+    private void processNotifications() {
+        for (int i = 0; i < MAX_NOTIFICATIONS_PER_TASK; i++) {
+            Runnable notification;
+            synchronized (notificationLock) {
+                Queue<Runnable> pendingNotifications = this.pendingNotifications;
+                notification = pendingNotifications == null ? null : pendingNotifications.poll();
+                if (notification == null) {
+                    notificationTaskScheduled = false;
+                    return;
+                }
+            }
+            notification.run();
+        }
+        // continue later, so that a frequently updated item does not block the thread pool
+        executeNotificationTask();
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
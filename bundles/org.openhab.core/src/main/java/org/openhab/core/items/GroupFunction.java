@@ -80,7 +80,7 @@ public interface GroupFunction {
      *
      * @author Kai Kreuzer - Initial contribution
      */
-    class Equality implements GroupFunction {
+    class Equality implements IncrementalGroupFunction {
 
         @Override
         public State calculate(@Nullable Set<Item> items) {
@@ -98,6 +98,11 @@ public interface GroupFunction {
             }
         }
 
+        @Override
+        public Accumulator<?> createAccumulator() {
+            return new EqualityAccumulator();
+        }
+
         @Override
         public @Nullable <T extends State> T getStateAs(@Nullable Set<Item> items, Class<T> stateClass) {
             State state = calculate(items);
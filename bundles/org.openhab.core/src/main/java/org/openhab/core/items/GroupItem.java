@@ -50,6 +50,12 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
     protected @Nullable GroupFunction function;
     protected final CopyOnWriteArrayList<Item> members;
 
+    // the contributions of the members to the group state, if the function can be calculated incrementally
+    private final Object accumulatorLock = new Object();
+    private IncrementalGroupFunction.@Nullable Accumulator<?> accumulator;
+
+    private @Nullable GroupStateCoalescer groupStateCoalescer;
+
     /**
      * Creates a plain GroupItem
      *
@@ -184,6 +190,7 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
             genericItem.addGroupName(getName());
         }
         registerStateListener(item);
+        invalidateAccumulator();
     }
 
     private void registerStateListener(Item item) {
@@ -205,6 +212,7 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
             unregisterStateListener(old);
         }
         registerStateListener(newItem);
+        invalidateAccumulator();
     }
 
     /**
@@ -216,6 +224,7 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
     public void removeMember(Item item) {
         members.remove(item);
         unregisterStateListener(item);
+        invalidateAccumulator();
     }
 
     /**
@@ -226,6 +235,13 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
             unregisterStateListener(member);
         }
         members.clear();
+        invalidateAccumulator();
+    }
+
+    private void invalidateAccumulator() {
+        synchronized (accumulatorLock) {
+            accumulator = null;
+        }
     }
 
     /**
@@ -380,19 +396,39 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
 
     @Override
     public void stateUpdated(Item item, State state) {
+        GroupStateCoalescer groupStateCoalescer = this.groupStateCoalescer;
+        if (groupStateCoalescer != null && function != null && baseItem != null
+                && groupStateCoalescer.schedule(this, item)) {
+            return;
+        }
+        calculateState(List.of(item));
+    }
+
+    /**
+     * Calculates the state of this group after updates of its members and sends the group state events.
+     *
+     * This is done for every member update, unless the calculation is deferred by a {@link GroupStateCoalescer}.
+     *
+     * @param updatedMembers the updated members, the last one is reported as the member causing the update
+     */
+    public void calculateState(List<Item> updatedMembers) {
+        if (updatedMembers.isEmpty()) {
+            return;
+        }
+        String memberName = updatedMembers.getLast().getName();
         State oldState = this.state;
         State newState = oldState;
         ItemStateConverter itemStateConverter = this.itemStateConverter;
         ZonedDateTime lastStateUpdate = this.lastStateUpdate;
         ZonedDateTime lastStateChange = this.lastStateChange;
         if (function instanceof GroupFunction groupFunction && baseItem != null && itemStateConverter != null) {
-            State calculatedState = groupFunction.calculate(getStateMembers(getMembers()));
+            State calculatedState = calculateFunctionState(groupFunction, updatedMembers);
             newState = itemStateConverter.convertToAcceptedState(calculatedState, baseItem);
             setState(newState);
-            sendGroupStateUpdatedEvent(item.getName(), newState, lastStateUpdate);
+            sendGroupStateUpdatedEvent(memberName, newState, lastStateUpdate);
         }
         if (!oldState.equals(newState)) {
-            sendGroupStateChangedEvent(item.getName(), newState, oldState, lastStateUpdate, lastStateChange);
+            sendGroupStateChangedEvent(memberName, newState, oldState, lastStateUpdate, lastStateChange);
         }
     }
 
@@ -414,6 +450,15 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
         lastStateUpdate = now;
     }
 
+    /**
+     * Sets the {@link GroupStateCoalescer} which defers the calculation of the group state after member updates.
+     *
+     * @param groupStateCoalescer the coalescer or null to calculate the group state for every member update
+     */
+    public void setGroupStateCoalescer(@Nullable GroupStateCoalescer groupStateCoalescer) {
+        this.groupStateCoalescer = groupStateCoalescer;
+    }
+
     @Override
     public void setStateDescriptionService(@Nullable StateDescriptionService stateDescriptionService) {
         super.setStateDescriptionService(stateDescriptionService);
@@ -447,6 +492,49 @@ public class GroupItem extends GenericItem implements StateChangeListener, Metad
         }
     }
 
+    /**
+     * Calculates the group state after updates of members.
+     *
+     * If the function is an {@link IncrementalGroupFunction}, only the contributions of the updated members are
+     * replaced. The accumulated contributions are only used if all state members are direct members, because only
+     * direct members notify this group about their updates.
+     *
+     * @param groupFunction the function of this group
+     * @param updatedMembers the updated members
+     * @return the calculated state
+     */
+    private State calculateFunctionState(GroupFunction groupFunction, List<Item> updatedMembers) {
+        if (groupFunction instanceof IncrementalGroupFunction incrementalFunction) {
+            synchronized (accumulatorLock) {
+                IncrementalGroupFunction.Accumulator<?> accumulator = this.accumulator;
+                if (accumulator != null && updatedMembers.stream().allMatch(accumulator::contains)) {
+                    updatedMembers.forEach(accumulator::update);
+                    return accumulator.getState();
+                }
+                accumulator = createAccumulator(incrementalFunction);
+                this.accumulator = accumulator;
+                if (accumulator != null) {
+                    return accumulator.getState();
+                }
+            }
+        }
+        return groupFunction.calculate(getStateMembers(getMembers()));
+    }
+
+    private IncrementalGroupFunction.@Nullable Accumulator<?> createAccumulator(
+            IncrementalGroupFunction incrementalFunction) {
+        for (Item member : members) {
+            if (!(member instanceof GenericItem) || (member instanceof GroupItem group && !hasOwnState(group))) {
+                return null;
+            }
+        }
+        IncrementalGroupFunction.Accumulator<?> accumulator = incrementalFunction.createAccumulator();
+        if (accumulator != null) {
+            accumulator.reset(members);
+        }
+        return accumulator;
+    }
+
     private Set<Item> getStateMembers(Set<Item> items) {
         Set<Item> result = new HashSet<>();
         collectStateMembers(result, items);
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.items;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link GroupStateCoalescer} defers the calculation of group states after updates of their members.
+ * <p>
+ * Instead of calculating its state for every member update, a {@link GroupItem} hands the update over to the
+ * coalescer, which collects the updated members and calls {@link GroupItem#calculateState(java.util.List)} at most once
+ * per interval.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface GroupStateCoalescer {
+
+    /**
+     * Schedules the calculation of the state of a group after an update of one of its members.
+     *
+     * @param group the group
+     * @param member the updated member
+     * @return true if the calculation has been scheduled, false if the group has to calculate its state immediately
+     */
+    boolean schedule(GroupItem group, Item member);
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.items;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * An {@link IncrementalGroupFunction} is a {@link GroupFunction} whose result can be maintained incrementally.
+ * <p>
+ * Instead of calculating the group state over all members for every update of a member, a group item keeps an
+ * {@link Accumulator} with the contribution of every member and only replaces the contribution of the updated member.
+ * The state of the accumulator must always be equal to the result of {@link #calculate(java.util.Set)} for the same
+ * members.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface IncrementalGroupFunction extends GroupFunction {
+
+    /**
+     * Creates a new, empty accumulator for this function.
+     *
+     * @return the accumulator or null if the function cannot be calculated incrementally with its parameters
+     */
+    @Nullable
+    Accumulator<?> createAccumulator();
+
+    /**
+     * An {@link Accumulator} keeps the contributions of the members of a group to the result of a group function.
+     * <p>
+     * Accumulators are not thread-safe.
+     *
+     * @param <V> the type of the contribution of a member
+     */
+    abstract class Accumulator<V> {
+
+        private final Map<Item, @Nullable V> values = new HashMap<>();
+
+        /**
+         * Replaces all contributions by the contributions of the given items.
+         *
+         * @param items the members of the group
+         */
+        public void reset(Collection<Item> items) {
+            values.clear();
+            clear();
+            for (Item item : items) {
+                update(item);
+            }
+        }
+
+        /**
+         * Replaces the contribution of an item by the contribution of its current state.
+         *
+         * @param item the updated member
+         */
+        public void update(Item item) {
+            V oldValue = values.get(item);
+            if (oldValue != null) {
+                remove(oldValue);
+            }
+            V newValue = valueOf(item);
+            values.put(item, newValue);
+            if (newValue != null) {
+                add(newValue);
+            }
+        }
+
+        /**
+         * Checks if the accumulator contains the contribution of an item.
+         *
+         * @param item the item
+         * @return true if the item has been added by {@link #reset(Collection)} or {@link #update(Item)}
+         */
+        public boolean contains(Item item) {
+            return values.containsKey(item);
+        }
+
+        /**
+         * @return the number of items in the accumulator, including items that do not contribute to the result
+         */
+        public int size() {
+            return values.size();
+        }
+
+        /**
+         * Calculates the contribution of an item.
+         *
+         * @param item the item
+         * @return the contribution or null if the item does not contribute to the result
+         */
+        protected abstract @Nullable V valueOf(Item item);
+
+        protected abstract void add(V value);
+
+        protected abstract void remove(V value);
+
+        protected abstract void clear();
+
+        /**
+         * @return the result of the group function over all items
+         */
+        public abstract State getState();
+    }
+
+    /**
+     * Accumulates the sum and the number of numeric contributions.
+     * <p>
+     * The sum has the scale it would have if all current contributions had been added up, so that removed
+     * contributions with a larger scale do not change the representation of the result.
+     */
+    class SumAccumulator extends Accumulator<BigDecimal> {
+
+        private final Function<Item, @Nullable BigDecimal> valueFunction;
+        private final BiFunction<BigDecimal, Integer, State> resultFunction;
+        private final TreeMap<Integer, Integer> scales = new TreeMap<>();
+        private BigDecimal sum = BigDecimal.ZERO;
+        private int count;
+
+        /**
+         * @param valueFunction the numeric contribution of an item
+         * @param resultFunction the result for the sum and the number of contributions
+         */
+        public SumAccumulator(Function<Item, @Nullable BigDecimal> valueFunction,
+                BiFunction<BigDecimal, Integer, State> resultFunction) {
+            this.valueFunction = valueFunction;
+            this.resultFunction = resultFunction;
+        }
+
+        @Override
+        protected @Nullable BigDecimal valueOf(Item item) {
+            return valueFunction.apply(item);
+        }
+
+        @Override
+        protected void add(BigDecimal value) {
+            sum = sum.add(value);
+            scales.merge(value.scale(), 1, Integer::sum);
+            count++;
+        }
+
+        @Override
+        protected void remove(BigDecimal value) {
+            sum = sum.subtract(value);
+            scales.computeIfPresent(value.scale(), (key, scaleCount) -> scaleCount > 1 ? scaleCount - 1 : null);
+            count--;
+        }
+
+        @Override
+        protected void clear() {
+            sum = BigDecimal.ZERO;
+            scales.clear();
+            count = 0;
+        }
+
+        @Override
+        public State getState() {
+            int scale = scales.isEmpty() ? 0 : Math.max(0, scales.lastKey());
+            // exact, the digits beyond the largest scale of the contributions are zero
+            return resultFunction.apply(sum.setScale(scale), count);
+        }
+    }
+
+    /**
+     * Accumulates the minimum or maximum of numeric contributions.
+     */
+    class ExtremumAccumulator extends Accumulator<BigDecimal> {
+
+        private final Function<Item, @Nullable BigDecimal> valueFunction;
+        private final Function<BigDecimal, State> resultFunction;
+        private final boolean maximum;
+        // the number of contributions per value, so that removing the current extremum does not need a full scan
+        private final TreeMap<BigDecimal, Integer> counts = new TreeMap<>();
+
+        /**
+         * @param valueFunction the numeric contribution of an item
+         * @param resultFunction the result for the extremum
+         * @param maximum true for the maximum, false for the minimum
+         */
+        public ExtremumAccumulator(Function<Item, @Nullable BigDecimal> valueFunction,
+                Function<BigDecimal, State> resultFunction, boolean maximum) {
+            this.valueFunction = valueFunction;
+            this.resultFunction = resultFunction;
+            this.maximum = maximum;
+        }
+
+        @Override
+        protected @Nullable BigDecimal valueOf(Item item) {
+            return valueFunction.apply(item);
+        }
+
+        @Override
+        protected void add(BigDecimal value) {
+            counts.merge(value, 1, Integer::sum);
+        }
+
+        @Override
+        protected void remove(BigDecimal value) {
+            counts.computeIfPresent(value, (key, count) -> count > 1 ? count - 1 : null);
+        }
+
+        @Override
+        protected void clear() {
+            counts.clear();
+        }
+
+        @Override
+        public State getState() {
+            if (counts.isEmpty()) {
+                return UnDefType.UNDEF;
+            }
+            return resultFunction.apply(maximum ? counts.lastKey() : counts.firstKey());
+        }
+    }
+
+    /**
+     * Accumulates the number of items matching a condition.
+     */
+    class MatchAccumulator extends Accumulator<Boolean> {
+
+        private final Predicate<Item> condition;
+        private final BiFunction<Integer, Integer, State> resultFunction;
+        private int matches;
+
+        /**
+         * @param condition the condition for an item
+         * @param resultFunction the result for the number of matching items and the number of items
+         */
+        public MatchAccumulator(Predicate<Item> condition, BiFunction<Integer, Integer, State> resultFunction) {
+            this.condition = condition;
+            this.resultFunction = resultFunction;
+        }
+
+        @Override
+        protected Boolean valueOf(Item item) {
+            return condition.test(item);
+        }
+
+        @Override
+        protected void add(Boolean value) {
+            if (value) {
+                matches++;
+            }
+        }
+
+        @Override
+        protected void remove(Boolean value) {
+            if (value) {
+                matches--;
+            }
+        }
+
+        @Override
+        protected void clear() {
+            matches = 0;
+        }
+
+        @Override
+        public State getState() {
+            return resultFunction.apply(matches, size());
+        }
+    }
+
+    /**
+     * Accumulates the distinct states of the items.
+     * <p>
+     * The distinct states are compared by {@link State#equals(Object)} instead of being hashed, because equal
+     * states may have different hash codes, e.g. {@code 1 kW} and {@code 1000 W}.
+     */
+    class EqualityAccumulator extends Accumulator<State> {
+
+        private final List<StateCount> stateCounts = new ArrayList<>();
+
+        @Override
+        protected State valueOf(Item item) {
+            return item.getState();
+        }
+
+        @Override
+        protected void add(State value) {
+            for (StateCount stateCount : stateCounts) {
+                if (stateCount.state.equals(value)) {
+                    stateCount.count++;
+                    return;
+                }
+            }
+            stateCounts.add(new StateCount(value));
+        }
+
+        @Override
+        protected void remove(State value) {
+            Iterator<StateCount> iterator = stateCounts.iterator();
+            while (iterator.hasNext()) {
+                StateCount stateCount = iterator.next();
+                if (stateCount.state.equals(value)) {
+                    if (--stateCount.count == 0) {
+                        iterator.remove();
+                    }
+                    return;
+                }
+            }
+        }
+
+        @Override
+        protected void clear() {
+            stateCounts.clear();
+        }
+
+        @Override
+        public State getState() {
+            return stateCounts.size() == 1 ? stateCounts.getFirst().state : UnDefType.UNDEF;
+        }
+
+        private static class StateCount {
+            private final State state;
+            private int count = 1;
+
+            StateCount(State state) {
+                this.state = state;
+            }
+        }
+    }
+}
@@ -45,6 +45,14 @@ public interface MetadataRegistry extends Registry<Metadata, MetadataKey> {
      */
     Collection<String> getAllNamespaces(String itemname);
 
+    /**
+     * Provides the metadata of a particular item in all namespaces
+     *
+     * @param itemname the name of the item for which the metadata should be returned.
+     * @return the metadata of the item, an empty collection if the item has no metadata
+     */
+    Collection<Metadata> getItemMetadata(String itemname);
+
     /**
      * Remove all metadata of a given item
      *
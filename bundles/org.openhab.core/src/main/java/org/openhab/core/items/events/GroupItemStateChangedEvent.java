@@ -13,6 +13,7 @@
 package org.openhab.core.items.events;
 
 import java.time.ZonedDateTime;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -43,6 +44,13 @@ public class GroupItemStateChangedEvent extends ItemStateChangedEvent {
         this.memberName = memberName;
     }
 
+    protected GroupItemStateChangedEvent(String topic, Supplier<String> payloadSupplier, String itemName,
+            String memberName, State newItemState, State oldItemState, @Nullable ZonedDateTime lastStateUpdate,
+            @Nullable ZonedDateTime lastStateChange) {
+        super(topic, payloadSupplier, itemName, newItemState, oldItemState, lastStateUpdate, lastStateChange, null);
+        this.memberName = memberName;
+    }
+
     /**
      * @return the name of the changed group member
      */
@@ -12,13 +12,13 @@
  */
 package org.openhab.core.items.events;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -29,11 +29,9 @@ import org.openhab.core.items.Item;
 import org.openhab.core.items.dto.ItemDTO;
 import org.openhab.core.items.dto.ItemDTOMapper;
 import org.openhab.core.types.Command;
-import org.openhab.core.types.RefreshType;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TimeSeries;
 import org.openhab.core.types.Type;
-import org.openhab.core.types.UnDefType;
 import org.osgi.service.component.annotations.Component;
 
 /**
@@ -53,6 +51,8 @@ public class ItemEventFactory extends AbstractEventFactory {
 
     private static final String ITEM_STATE_EVENT_TOPIC = "openhab/items/{itemName}/state";
 
+    private static final String ITEM_STATE_BATCH_EVENT_TOPIC = "openhab/items/statebatch";
+
     private static final String ITEM_STATE_UPDATED_EVENT_TOPIC = "openhab/items/{itemName}/stateupdated";
     private static final String ITEM_TIME_SERIES_EVENT_TOPIC = "openhab/items/{itemName}/timeseries";
     private static final String ITEM_TIME_SERIES_UPDATED_EVENT_TOPIC = "openhab/items/{itemName}/timeseriesupdated";
@@ -78,7 +78,7 @@ public class ItemEventFactory extends AbstractEventFactory {
         super(Set.of(ItemCommandEvent.TYPE, ItemStateEvent.TYPE, ItemStatePredictedEvent.TYPE,
                 ItemStateUpdatedEvent.TYPE, ItemStateChangedEvent.TYPE, ItemAddedEvent.TYPE, ItemUpdatedEvent.TYPE,
                 ItemRemovedEvent.TYPE, GroupStateUpdatedEvent.TYPE, GroupItemStateChangedEvent.TYPE,
-                ItemTimeSeriesEvent.TYPE, ItemTimeSeriesUpdatedEvent.TYPE));
+                ItemTimeSeriesEvent.TYPE, ItemTimeSeriesUpdatedEvent.TYPE, ItemStateBatchEvent.TYPE));
     }
 
     @Override
@@ -88,6 +88,8 @@ public class ItemEventFactory extends AbstractEventFactory {
             return createCommandEvent(topic, payload, source);
         } else if (ItemStateEvent.TYPE.equals(eventType)) {
             return createStateEvent(topic, payload, source);
+        } else if (ItemStateBatchEvent.TYPE.equals(eventType)) {
+            return createStateBatchEvent(topic, payload, source);
         } else if (ItemStatePredictedEvent.TYPE.equals(eventType)) {
             return createStatePredictedEvent(topic, payload);
         } else if (ItemStateUpdatedEvent.TYPE.equals(eventType)) {
@@ -147,6 +149,16 @@ public class ItemEventFactory extends AbstractEventFactory {
         return new ItemStateEvent(topic, payload, itemName, state, source);
     }
 
+    private Event createStateBatchEvent(String topic, String payload, @Nullable String source) {
+        ItemStateBatchEventPayloadBean[] beans = deserializePayload(payload, ItemStateBatchEventPayloadBean[].class);
+        List<ItemStateEvent> stateEvents = new ArrayList<>(beans.length);
+        for (ItemStateBatchEventPayloadBean bean : beans) {
+            State state = getState(bean.getType(), bean.getValue());
+            stateEvents.add(createStateEvent(bean.getItemName(), state, bean.getSource()));
+        }
+        return new ItemStateBatchEvent(topic, payload, stateEvents, source);
+    }
+
     private Event createStatePredictedEvent(String topic, String payload) {
         String itemName = getItemName(topic);
         ItemStatePredictedEventPayloadBean bean = deserializePayload(payload, ItemStatePredictedEventPayloadBean.class);
@@ -208,43 +220,28 @@ public class ItemEventFactory extends AbstractEventFactory {
     }
 
     private static <T> T parseType(String typeName, String valueToParse, Class<T> desiredClass) {
-        Object parsedObject;
         String simpleClassName = typeName + TYPE_POSTFIX;
-        parsedObject = parseSimpleClassName(simpleClassName, valueToParse);
-
-        if (parsedObject == null || !desiredClass.isAssignableFrom(parsedObject.getClass())) {
-            String parsedObjectClassName = parsedObject != null ? parsedObject.getClass().getName() : "<undefined>";
-            throw new IllegalArgumentException("Error parsing simpleClasssName '" + simpleClassName + "' with value '"
-                    + valueToParse + "'. Desired type was '" + desiredClass.getName() + "' but got '"
-                    + parsedObjectClassName + "'.");
-        }
-
-        return desiredClass.cast(parsedObject);
-    }
-
-    private static @Nullable Object parseSimpleClassName(String simpleClassName, String valueToParse) {
-        if (simpleClassName.equals(UnDefType.class.getSimpleName())) {
-            return UnDefType.valueOf(valueToParse);
-        }
-        if (simpleClassName.equals(RefreshType.class.getSimpleName())) {
-            return RefreshType.valueOf(valueToParse);
+        Function<String, Object> parser = ItemEventTypeParser.getParser(typeName);
+        if (parser == null) {
+            throw new IllegalArgumentException("Error getting class for simple name: '" + simpleClassName
+                    + "' using package name '" + CORE_LIBRARY_PACKAGE + "'.");
         }
 
+        Object parsedObject;
         try {
-            Class<?> stateClass = Class.forName(CORE_LIBRARY_PACKAGE + simpleClassName);
-            Method valueOfMethod = stateClass.getMethod("valueOf", String.class);
-            return valueOfMethod.invoke(stateClass, valueToParse);
-        } catch (ClassNotFoundException e) {
-            throw new IllegalArgumentException("Error getting class for simple name: '" + simpleClassName
-                    + "' using package name '" + CORE_LIBRARY_PACKAGE + "'.", e);
-        } catch (NoSuchMethodException | SecurityException e) {
-            throw new IllegalStateException(
-                    "Error getting method #valueOf(String) of class '" + CORE_LIBRARY_PACKAGE + simpleClassName + "'.",
-                    e);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            parsedObject = parser.apply(valueToParse);
+        } catch (RuntimeException e) {
             throw new IllegalStateException("Error invoking #valueOf(String) on class '" + CORE_LIBRARY_PACKAGE
                     + simpleClassName + "' with value '" + valueToParse + "'.", e);
         }
+
+        if (!desiredClass.isAssignableFrom(parsedObject.getClass())) {
+            throw new IllegalArgumentException("Error parsing simpleClasssName '" + simpleClassName + "' with value '"
+                    + valueToParse + "'. Desired type was '" + desiredClass.getName() + "' but got '"
+                    + parsedObject.getClass().getName() + "'.");
+        }
+
+        return desiredClass.cast(parsedObject);
     }
 
     private Event createAddedEvent(String topic, String payload) {
@@ -278,8 +275,7 @@ public class ItemEventFactory extends AbstractEventFactory {
         assertValidArguments(itemName, command, "command");
         String topic = buildTopic(ITEM_COMAND_EVENT_TOPIC, itemName);
         ItemEventPayloadBean bean = new ItemEventPayloadBean(getCommandType(command), command.toString());
-        String payload = serializePayload(bean);
-        return new ItemCommandEvent(topic, payload, itemName, command, source);
+        return new ItemCommandEvent(topic, () -> serializePayload(bean), itemName, command, source);
     }
 
     /**
@@ -307,8 +303,7 @@ public class ItemEventFactory extends AbstractEventFactory {
         assertValidArguments(itemName, state, "state");
         String topic = buildTopic(ITEM_STATE_EVENT_TOPIC, itemName);
         ItemEventPayloadBean bean = new ItemEventPayloadBean(getStateType(state), state.toFullString());
-        String payload = serializePayload(bean);
-        return new ItemStateEvent(topic, payload, itemName, state, source);
+        return new ItemStateEvent(topic, () -> serializePayload(bean), itemName, state, source);
     }
 
     /**
@@ -323,6 +318,26 @@ public class ItemEventFactory extends AbstractEventFactory {
         return createStateEvent(itemName, state, null);
     }
 
+    /**
+     * Creates an item state batch event, which delivers several item state events at once.
+     *
+     * @param stateEvents the item state events, in the order they shall be handled
+     * @param source the name of the source identifying the sender (can be null)
+     * @return the created item state batch event
+     * @throws IllegalArgumentException if stateEvents is empty
+     */
+    public static ItemStateBatchEvent createStateBatchEvent(List<ItemStateEvent> stateEvents,
+            @Nullable String source) {
+        if (stateEvents.isEmpty()) {
+            throw new IllegalArgumentException("The argument 'stateEvents' must not be empty.");
+        }
+        List<ItemStateEvent> events = List.copyOf(stateEvents);
+        return new ItemStateBatchEvent(ITEM_STATE_BATCH_EVENT_TOPIC, () -> serializePayload(events.stream()
+                .map(event -> new ItemStateBatchEventPayloadBean(event.getItemName(),
+                        getStateType(event.getItemState()), event.getItemState().toFullString(), event.getSource()))
+                .toArray(ItemStateBatchEventPayloadBean[]::new)), events, source);
+    }
+
     /**
      * Creates an item state updated event.
      *
@@ -353,8 +368,7 @@ public class ItemEventFactory extends AbstractEventFactory {
         String topic = buildTopic(ITEM_STATE_UPDATED_EVENT_TOPIC, itemName);
         ItemStateUpdatedEventPayloadBean bean = new ItemStateUpdatedEventPayloadBean(getStateType(state),
                 state.toFullString(), lastStateUpdate);
-        String payload = serializePayload(bean);
-        return new ItemStateUpdatedEvent(topic, payload, itemName, state, lastStateUpdate, source);
+        return new ItemStateUpdatedEvent(topic, () -> serializePayload(bean), itemName, state, lastStateUpdate, source);
     }
 
     public static ItemTimeSeriesEvent createTimeSeriesEvent(String itemName, TimeSeries timeSeries,
@@ -390,8 +404,8 @@ public class ItemEventFactory extends AbstractEventFactory {
         String topic = buildGroupTopic(GROUP_STATE_EVENT_TOPIC, groupName, member);
         ItemStateUpdatedEventPayloadBean bean = new ItemStateUpdatedEventPayloadBean(getStateType(state),
                 state.toFullString(), lastStateUpdate);
-        String payload = serializePayload(bean);
-        return new GroupStateUpdatedEvent(topic, payload, groupName, member, state, lastStateUpdate, source);
+        return new GroupStateUpdatedEvent(topic, () -> serializePayload(bean), groupName, member, state,
+                lastStateUpdate, source);
     }
 
     /**
@@ -409,8 +423,7 @@ public class ItemEventFactory extends AbstractEventFactory {
         String topic = buildTopic(ITEM_STATE_PREDICTED_EVENT_TOPIC, itemName);
         ItemStatePredictedEventPayloadBean bean = new ItemStatePredictedEventPayloadBean(getStateType(state),
                 state.toFullString(), isConfirmation);
-        String payload = serializePayload(bean);
-        return new ItemStatePredictedEvent(topic, payload, itemName, state, isConfirmation);
+        return new ItemStatePredictedEvent(topic, () -> serializePayload(bean), itemName, state, isConfirmation);
     }
 
     /**
@@ -431,9 +444,8 @@ public class ItemEventFactory extends AbstractEventFactory {
         ItemStateChangedEventPayloadBean bean = new ItemStateChangedEventPayloadBean(getStateType(newState),
                 newState.toFullString(), getStateType(oldState), oldState.toFullString(), lastStateUpdate,
                 lastStateChange);
-        String payload = serializePayload(bean);
-        return new ItemStateChangedEvent(topic, payload, itemName, newState, oldState, lastStateUpdate, lastStateChange,
-                source);
+        return new ItemStateChangedEvent(topic, () -> serializePayload(bean), itemName, newState, oldState,
+                lastStateUpdate, lastStateChange, source);
     }
 
     /**
@@ -471,9 +483,8 @@ public class ItemEventFactory extends AbstractEventFactory {
         ItemStateChangedEventPayloadBean bean = new ItemStateChangedEventPayloadBean(getStateType(newState),
                 newState.toFullString(), getStateType(oldState), oldState.toFullString(), lastStateUpdate,
                 lastStateChange);
-        String payload = serializePayload(bean);
-        return new GroupItemStateChangedEvent(topic, payload, itemName, memberName, newState, oldState, lastStateUpdate,
-                lastStateChange);
+        return new GroupItemStateChangedEvent(topic, () -> serializePayload(bean), itemName, memberName, newState,
+                oldState, lastStateUpdate, lastStateChange);
     }
 
     /**
@@ -592,6 +603,46 @@ public class ItemEventFactory extends AbstractEventFactory {
         }
     }
 
+    /**
+     * This is a java bean that is used to serialize/deserialize the entries of the item state batch event payload.
+     */
+    private static class ItemStateBatchEventPayloadBean {
+        private @NonNullByDefault({}) String itemName;
+        private @NonNullByDefault({}) String type;
+        private @NonNullByDefault({}) String value;
+        private @Nullable String source;
+
+        /**
+         * Default constructor for deserialization e.g. by Gson.
+         */
+        @SuppressWarnings("unused")
+        protected ItemStateBatchEventPayloadBean() {
+        }
+
+        public ItemStateBatchEventPayloadBean(String itemName, String type, String value, @Nullable String source) {
+            this.itemName = itemName;
+            this.type = type;
+            this.value = value;
+            this.source = source;
+        }
+
+        public String getItemName() {
+            return itemName;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public @Nullable String getSource() {
+            return source;
+        }
+    }
+
     /**
      * This is a java bean that is used to serialize/deserialize item state updated event payload.
      */
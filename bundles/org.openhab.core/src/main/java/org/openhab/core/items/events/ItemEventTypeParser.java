@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.items.events;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.measure.Unit;
+import javax.measure.format.MeasurementParseException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.library.types.NextPreviousType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.PlayPauseType;
+import org.openhab.core.library.types.PointType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.RawType;
+import org.openhab.core.library.types.RewindFastforwardType;
+import org.openhab.core.library.types.StopMoveType;
+import org.openhab.core.library.types.StringListType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.types.RefreshType;
+import org.openhab.core.types.UnDefType;
+import org.openhab.core.types.util.UnitCache;
+
+/**
+ * The {@link ItemEventTypeParser} parses the states and commands of serialized item events.
+ * <p>
+ * The parsers are resolved once per type name instead of looking up the {@code valueOf} method by reflection for
+ * every event. Enum based types are looked up in a map of their constants. For {@link QuantityType}s of the form
+ * {@code <number> <unit>}, as written by {@link QuantityType#toFullString()}, the unit is taken from the
+ * {@link UnitCache}, so that the unit parser only runs once per unit, and the number is kept as a {@link BigDecimal}
+ * with its scale.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+final class ItemEventTypeParser {
+
+    private static final Map<String, Function<String, Object>> PARSERS = Map.ofEntries( //
+            Map.entry("Decimal", DecimalType::valueOf), //
+            Map.entry("Quantity", ItemEventTypeParser::parseQuantity), //
+            Map.entry("OnOff", enumParser(OnOffType.class)), //
+            Map.entry("OpenClosed", enumParser(OpenClosedType.class)), //
+            Map.entry("UnDef", enumParser(UnDefType.class)), //
+            Map.entry("Refresh", enumParser(RefreshType.class)), //
+            Map.entry("UpDown", enumParser(UpDownType.class)), //
+            Map.entry("StopMove", enumParser(StopMoveType.class)), //
+            Map.entry("IncreaseDecrease", enumParser(IncreaseDecreaseType.class)), //
+            Map.entry("NextPrevious", enumParser(NextPreviousType.class)), //
+            Map.entry("PlayPause", enumParser(PlayPauseType.class)), //
+            Map.entry("RewindFastforward", enumParser(RewindFastforwardType.class)), //
+            Map.entry("Percent", PercentType::valueOf), //
+            Map.entry("HSB", HSBType::valueOf), //
+            Map.entry("String", StringType::valueOf), //
+            Map.entry("StringList", StringListType::valueOf), //
+            Map.entry("DateTime", DateTimeType::valueOf), //
+            Map.entry("Point", PointType::valueOf), //
+            Map.entry("Raw", RawType::valueOf));
+
+    private ItemEventTypeParser() {
+    }
+
+    /**
+     * Gets the parser for the values of a type.
+     *
+     * @param typeName the type name without the {@code Type} postfix, e.g. {@code OnOff}
+     * @return the parser or null if the type is unknown
+     */
+    static @Nullable Function<String, Object> getParser(String typeName) {
+        return PARSERS.get(typeName);
+    }
+
+    private static <E extends Enum<E>> Function<String, Object> enumParser(Class<E> enumClass) {
+        Map<String, E> constants = new HashMap<>();
+        for (E constant : EnumSet.allOf(enumClass)) {
+            constants.put(constant.name(), constant);
+        }
+        return value -> {
+            E constant = constants.get(value);
+            return constant != null ? constant : Enum.valueOf(enumClass, value);
+        };
+    }
+
+    private static QuantityType<?> parseQuantity(String value) {
+        int separator = value.indexOf(' ');
+        if (separator > 0 && separator == value.lastIndexOf(' ') && isPlainDecimal(value, separator)) {
+            Unit<?> unit;
+            try {
+                unit = UnitCache.getUnit(value.substring(separator + 1));
+            } catch (MeasurementParseException e) {
+                // let the full parse report the invalid value
+                return QuantityType.valueOf(value);
+            }
+            return createQuantity(new BigDecimal(value.substring(0, separator)), unit);
+        }
+        return QuantityType.valueOf(value);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static QuantityType<?> createQuantity(BigDecimal number, Unit<?> unit) {
+        return new QuantityType(number, unit);
+    }
+
+    /**
+     * Checks if the value up to the end index is a plain decimal number, i.e. an optional minus sign, digits and an
+     * optional fraction, without exponent or grouping separators.
+     */
+    private static boolean isPlainDecimal(String value, int end) {
+        int index = value.charAt(0) == '-' ? 1 : 0;
+        boolean digits = false;
+        boolean point = false;
+        for (; index < end; index++) {
+            char c = value.charAt(index);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                return false;
+            }
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.items.events;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.AbstractEvent;
+import org.openhab.core.events.BatchEvent;
+
+/**
+ * {@link ItemStateBatchEvent}s deliver several {@link ItemStateEvent}s through the openHAB event bus at once, e.g.
+ * the states of all channels a binding has read from a single frame.
+ * Subscribers which do not subscribe to this event type receive the contained {@link ItemStateEvent}s one by one.
+ * State batch events must be created with the {@link ItemEventFactory}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ItemStateBatchEvent extends AbstractEvent implements BatchEvent {
+
+    /**
+     * The item state batch event type.
+     */
+    public static final String TYPE = ItemStateBatchEvent.class.getSimpleName();
+
+    private final List<ItemStateEvent> stateEvents;
+
+    /**
+     * Constructs a new item state batch event.
+     *
+     * @param topic the topic
+     * @param payload the payload
+     * @param stateEvents the item state events
+     * @param source the source, can be null
+     */
+    protected ItemStateBatchEvent(String topic, String payload, List<ItemStateEvent> stateEvents,
+            @Nullable String source) {
+        super(topic, payload, source);
+        this.stateEvents = List.copyOf(stateEvents);
+    }
+
+    /**
+     * Constructs a new item state batch event.
+     *
+     * @param topic the topic
+     * @param payloadSupplier the supplier of the lazily serialized payload
+     * @param stateEvents the item state events
+     * @param source the source, can be null
+     */
+    protected ItemStateBatchEvent(String topic, Supplier<String> payloadSupplier, List<ItemStateEvent> stateEvents,
+            @Nullable String source) {
+        super(topic, payloadSupplier, source);
+        this.stateEvents = List.copyOf(stateEvents);
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public List<ItemStateEvent> getEvents() {
+        return stateEvents;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d items shall update", stateEvents.size());
+    }
+}
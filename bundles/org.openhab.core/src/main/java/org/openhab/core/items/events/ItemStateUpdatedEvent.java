@@ -13,6 +13,7 @@
 package org.openhab.core.items.events;
 
 import java.time.ZonedDateTime;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -52,6 +53,23 @@ public class ItemStateUpdatedEvent extends ItemEvent {
         this.lastStateUpdate = lastStateUpdate;
     }
 
+    /**
+     * Constructs a new item state event.
+     *
+     * @param topic the topic
+     * @param payloadSupplier the supplier of the lazily serialized payload
+     * @param itemName the item name
+     * @param itemState the item state
+     * @param lastStateUpdate the last state update
+     * @param source the source, can be null
+     */
+    protected ItemStateUpdatedEvent(String topic, Supplier<String> payloadSupplier, String itemName, State itemState,
+            @Nullable ZonedDateTime lastStateUpdate, @Nullable String source) {
+        super(topic, payloadSupplier, itemName, source);
+        this.itemState = itemState;
+        this.lastStateUpdate = lastStateUpdate;
+    }
+
     @Override
     public String getType() {
         return TYPE;
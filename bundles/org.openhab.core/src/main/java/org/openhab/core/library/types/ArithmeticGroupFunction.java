@@ -23,6 +23,7 @@ import java.util.regex.Pattern;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.items.GroupFunction;
+import org.openhab.core.items.IncrementalGroupFunction;
 import org.openhab.core.items.Item;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
@@ -47,7 +48,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
      * Through the getStateAs() method, it can be determined, how many
      * items actually are not in the 'activeState'.
      */
-    class And implements GroupFunction {
+    class And implements IncrementalGroupFunction {
 
         protected final State activeState;
         protected final State passiveState;
@@ -75,6 +76,23 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             }
         }
 
+        @Override
+        public Accumulator<?> createAccumulator() {
+            return new MatchAccumulator(item -> activeState.equals(item.getStateAs(activeState.getClass())),
+                    this::calculate);
+        }
+
+        /**
+         * Determines the state from the number of items in the 'activeState'.
+         *
+         * @param activeCount the number of items in the 'activeState'
+         * @param count the number of items
+         * @return the calculated state
+         */
+        protected State calculate(int activeCount, int count) {
+            return count > 0 && activeCount == count ? activeState : passiveState;
+        }
+
         @Override
         public @Nullable <T extends State> T getStateAs(@Nullable Set<Item> items, Class<T> stateClass) {
             State state = calculate(items);
@@ -116,7 +134,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
      * Through the getStateAs() method, it can be determined, how many
      * items actually are in the 'activeState'.
      */
-    class Or implements GroupFunction {
+    class Or implements IncrementalGroupFunction {
 
         protected final State activeState;
         protected final State passiveState;
@@ -141,6 +159,23 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             return passiveState;
         }
 
+        @Override
+        public Accumulator<?> createAccumulator() {
+            return new MatchAccumulator(item -> activeState.equals(item.getStateAs(activeState.getClass())),
+                    this::calculate);
+        }
+
+        /**
+         * Determines the state from the number of items in the 'activeState'.
+         *
+         * @param activeCount the number of items in the 'activeState'
+         * @param count the number of items
+         * @return the calculated state
+         */
+        protected State calculate(int activeCount, int count) {
+            return activeCount > 0 ? activeState : passiveState;
+        }
+
         @Override
         public @Nullable <T extends State> T getStateAs(@Nullable Set<Item> items, Class<T> stateClass) {
             State state = calculate(items);
@@ -192,6 +227,12 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             State result = super.calculate(items);
             return activeState.equals(result) ? passiveState : activeState;
         }
+
+        @Override
+        protected State calculate(int activeCount, int count) {
+            State result = super.calculate(activeCount, count);
+            return activeState.equals(result) ? passiveState : activeState;
+        }
     }
 
     /**
@@ -211,6 +252,12 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             State result = super.calculate(items);
             return activeState.equals(result) ? passiveState : activeState;
         }
+
+        @Override
+        protected State calculate(int activeCount, int count) {
+            State result = super.calculate(activeCount, count);
+            return activeState.equals(result) ? passiveState : activeState;
+        }
     }
 
     /**
@@ -220,7 +267,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
      * Through the getStateAs() method, it can be determined, how many
      * items actually are in the 'activeState'.
      */
-    class Xor implements GroupFunction {
+    class Xor implements IncrementalGroupFunction {
 
         protected final State activeState;
         protected final State passiveState;
@@ -255,6 +302,12 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             return passiveState;
         }
 
+        @Override
+        public Accumulator<?> createAccumulator() {
+            return new MatchAccumulator(item -> activeState.equals(item.getStateAs(activeState.getClass())),
+                    (activeCount, count) -> activeCount == 1 ? activeState : passiveState);
+        }
+
         @Override
         public @Nullable <T extends State> T getStateAs(@Nullable Set<Item> items, Class<T> stateClass) {
             State state = calculate(items);
@@ -292,7 +345,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
     /**
      * This calculates the numeric average over all item states of decimal type.
      */
-    class Avg implements GroupFunction {
+    class Avg implements IncrementalGroupFunction {
 
         public Avg() {
         }
@@ -317,6 +370,14 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             }
         }
 
+        @Override
+        public Accumulator<?> createAccumulator() {
+            return new SumAccumulator(ArithmeticGroupFunction::toBigDecimal,
+                    (sum, count) -> count > 0
+                            ? new DecimalType(sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128))
+                            : UnDefType.UNDEF);
+        }
+
         @Override
         public @Nullable <T extends State> T getStateAs(@Nullable Set<Item> items, Class<T> stateClass) {
             State state = calculate(items);
@@ -373,7 +434,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
     /**
      * This calculates the numeric sum over all item states of decimal type.
      */
-    class Sum implements GroupFunction {
+    class Sum implements IncrementalGroupFunction {
 
         public Sum() {
         }
@@ -392,6 +453,11 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             return new DecimalType(sum);
         }
 
+        @Override
+        public Accumulator<?> createAccumulator() {
+            return new SumAccumulator(ArithmeticGroupFunction::toBigDecimal, (sum, count) -> new DecimalType(sum));
+        }
+
         @Override
         public @Nullable <T extends State> T getStateAs(@Nullable Set<Item> items, Class<T> stateClass) {
             State state = calculate(items);
@@ -411,7 +477,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
     /**
      * This calculates the minimum value of all item states of decimal type.
      */
-    class Min implements GroupFunction {
+    class Min implements IncrementalGroupFunction {
 
         public Min() {
         }
@@ -435,6 +501,11 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             return UnDefType.UNDEF;
         }
 
+        @Override
+        public Accumulator<?> createAccumulator() {
+            return new ExtremumAccumulator(ArithmeticGroupFunction::toBigDecimal, DecimalType::new, false);
+        }
+
         @Override
         public @Nullable <T extends State> T getStateAs(@Nullable Set<Item> items, Class<T> stateClass) {
             State state = calculate(items);
@@ -454,7 +525,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
     /**
      * This calculates the maximum value of all item states of decimal type.
      */
-    class Max implements GroupFunction {
+    class Max implements IncrementalGroupFunction {
 
         public Max() {
         }
@@ -478,6 +549,11 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             return UnDefType.UNDEF;
         }
 
+        @Override
+        public Accumulator<?> createAccumulator() {
+            return new ExtremumAccumulator(ArithmeticGroupFunction::toBigDecimal, DecimalType::new, true);
+        }
+
         @Override
         public @Nullable <T extends State> T getStateAs(@Nullable Set<Item> items, Class<T> stateClass) {
             State state = calculate(items);
@@ -501,7 +577,7 @@ public interface ArithmeticGroupFunction extends GroupFunction {
      * Group:Number:COUNT("[5-9]") will count all items having a string state between 5 and 9
      * ...
      */
-    class Count implements GroupFunction {
+    class Count implements IncrementalGroupFunction {
 
         protected final Pattern pattern;
 
@@ -526,6 +602,12 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             return new DecimalType(count);
         }
 
+        @Override
+        public Accumulator<?> createAccumulator() {
+            return new MatchAccumulator(item -> pattern.matcher(item.getState().toString()).matches(),
+                    (matches, count) -> new DecimalType(matches));
+        }
+
         @Override
         public @Nullable <T extends State> T getStateAs(@Nullable Set<Item> items, Class<T> stateClass) {
             State state = calculate(items);
@@ -541,4 +623,9 @@ public interface ArithmeticGroupFunction extends GroupFunction {
             return new State[] { new StringType(pattern.pattern()) };
         }
     }
+
+    private static @Nullable BigDecimal toBigDecimal(Item item) {
+        DecimalType itemState = item.getStateAs(DecimalType.class);
+        return itemState != null ? itemState.toBigDecimal() : null;
+    }
 }
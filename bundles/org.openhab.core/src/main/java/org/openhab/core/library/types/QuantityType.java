@@ -51,6 +51,7 @@ import org.openhab.core.library.unit.Units;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.PrimitiveType;
 import org.openhab.core.types.State;
+import org.openhab.core.types.util.UnitCache;
 import org.openhab.core.types.util.UnitUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +59,7 @@ import org.slf4j.LoggerFactory;
 import tech.units.indriya.AbstractUnit;
 import tech.units.indriya.format.NumberDelimiterQuantityFormat;
 import tech.units.indriya.format.SimpleUnitFormat;
+import tech.units.indriya.function.Calculus;
 import tech.units.indriya.quantity.Quantities;
 import tech.uom.lib.common.function.QuantityFunctions;
 
@@ -262,11 +264,9 @@ public class QuantityType<T extends Quantity<T>> extends Number
 
     private int internalCompareTo(QuantityType<?> o) {
         if (quantity.getUnit().isCompatible(o.quantity.getUnit())) {
-            QuantityType<T> v1 = this.toUnit(getUnit().getSystemUnit());
-            QuantityType<?> v2 = o.toUnit(o.getUnit().getSystemUnit());
-            if (v1 != null && v2 != null) {
-                return Double.compare(v1.doubleValue(), v2.doubleValue());
-            } else {
+            try {
+                return Double.compare(systemUnitDoubleValue(), o.systemUnitDoubleValue());
+            } catch (UnconvertibleException | IncommensurableException e) {
                 throw new IllegalArgumentException("Unable to convert to system unit during compare.");
             }
         } else {
@@ -274,6 +274,32 @@ public class QuantityType<T extends Quantity<T>> extends Number
         }
     }
 
+    /**
+     * Returns the value in the system unit as a double, like {@code toUnit(getUnit().getSystemUnit()).doubleValue()}
+     * but without creating intermediate {@link QuantityType}s.
+     */
+    private double systemUnitDoubleValue() throws UnconvertibleException, IncommensurableException {
+        UnitConverter converter = UnitCache.getSystemUnitConverter(getUnit()).orElse(null);
+        if (converter == null) {
+            return doubleValue();
+        }
+        Number value = converter.convert(quantity.getValue());
+        return (value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString())).doubleValue();
+    }
+
+    /**
+     * Checks whether this and the given quantity are in the same unit and that unit is its own system unit. The
+     * arithmetic of such quantities needs no conversion of the values.
+     */
+    private boolean hasSameSystemUnit(QuantityType<?> other) {
+        Unit<T> unit = getUnit();
+        try {
+            return unit.equals(other.getUnit()) && UnitCache.getSystemUnitConverter(unit).isEmpty();
+        } catch (UnconvertibleException | IncommensurableException e) {
+            return false;
+        }
+    }
+
     public Unit<T> getUnit() {
         return quantity.getUnit();
     }
@@ -292,7 +318,7 @@ public class QuantityType<T extends Quantity<T>> extends Number
     public @Nullable QuantityType<T> toUnit(Unit<?> targetUnit) {
         if (!targetUnit.equals(getUnit())) {
             try {
-                UnitConverter uc = getUnit().getConverterToAny(targetUnit);
+                UnitConverter uc = UnitCache.getConverter(getUnit(), targetUnit);
                 Quantity<?> result = Quantities.getQuantity(uc.convert(quantity.getValue()), targetUnit);
 
                 return new QuantityType<>(result.getValue(), (Unit<T>) targetUnit);
@@ -306,7 +332,7 @@ public class QuantityType<T extends Quantity<T>> extends Number
 
     @SuppressWarnings("unchecked")
     public @Nullable QuantityType<T> toUnit(String targetUnit) {
-        Unit<T> unit = (Unit<T>) AbstractUnit.parse(targetUnit);
+        Unit<T> unit = (Unit<T>) UnitCache.getUnit(targetUnit);
         if (unit != null) {
             return toUnit(unit);
         }
@@ -346,7 +372,7 @@ public class QuantityType<T extends Quantity<T>> extends Number
     }
 
     public @Nullable QuantityType<?> toInvertibleUnit(String targetUnit) {
-        Unit<?> unit = AbstractUnit.parse(targetUnit);
+        Unit<?> unit = UnitCache.getUnit(targetUnit);
         if (unit != null) {
             return toInvertibleUnit(unit);
         }
@@ -378,7 +404,7 @@ public class QuantityType<T extends Quantity<T>> extends Number
     }
 
     public @Nullable QuantityType<T> toUnitRelative(String targetUnit) {
-        Unit<T> unit = (Unit<T>) AbstractUnit.parse(targetUnit);
+        Unit<T> unit = (Unit<T>) UnitCache.getUnit(targetUnit);
         if (unit != null) {
             return toUnitRelative(unit);
         }
@@ -609,6 +635,11 @@ public class QuantityType<T extends Quantity<T>> extends Number
      * @return the sum of the given {@link QuantityType} with this QuantityType.
      */
     public QuantityType<T> add(QuantityType<T> state) {
+        if (hasSameSystemUnit(state)) {
+            // no conversion of the values is needed, which gives the same result as the quantity arithmetic
+            return new QuantityType<>(Quantities.getQuantity(
+                    Calculus.currentNumberSystem().add(quantity.getValue(), state.quantity.getValue()), getUnit()));
+        }
         Quantity<T> quantity = Quantities.getQuantity(this.quantity.getValue(), this.quantity.getUnit(),
                 Scale.ABSOLUTE);
         return new QuantityType<>(quantity.add(state.quantity));
@@ -642,6 +673,11 @@ public class QuantityType<T extends Quantity<T>> extends Number
      * @return the difference by subtracting the given {@link QuantityType} from this QuantityType.
      */
     public QuantityType<T> subtract(QuantityType<T> state) {
+        if (hasSameSystemUnit(state)) {
+            return new QuantityType<>(Quantities.getQuantity(
+                    Calculus.currentNumberSystem().add(quantity.getValue(), state.quantity.negate().getValue()),
+                    getUnit()));
+        }
         Quantity<T> quantity = Quantities.getQuantity(this.quantity.getValue(), this.quantity.getUnit(),
                 Scale.ABSOLUTE);
         return new QuantityType<>(quantity.subtract(state.quantity));
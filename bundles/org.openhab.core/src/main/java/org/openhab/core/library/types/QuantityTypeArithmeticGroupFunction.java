@@ -24,6 +24,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.items.GroupFunction;
 import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.IncrementalGroupFunction;
 import org.openhab.core.items.Item;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
@@ -96,12 +97,25 @@ public interface QuantityTypeArithmeticGroupFunction extends GroupFunction {
             return items.stream().map(i -> i.getState()).map(s -> toQuantityTypeOfUnit(s, unit))
                     .filter(Objects::nonNull).map(s -> (QuantityType) s).toList();
         }
+
+        /**
+         * Convert the {@link State} of the given {@link Item} to a {@link QuantityType} of the given {@link Unit} and
+         * return its value.
+         *
+         * @param item a group member
+         * @param unit the unit of the value
+         * @return the value or null if the state could not be converted
+         */
+        protected @Nullable BigDecimal toBigDecimalOfUnit(Item item, Unit<?> unit) {
+            QuantityType<?> quantity = toQuantityTypeOfUnit(item.getState(), unit);
+            return quantity != null ? quantity.toBigDecimal() : null;
+        }
     }
 
     /**
      * Calculates the average of a set of item states whose value could be converted to the 'referenceUnit'.
      */
-    class Avg extends DimensionalGroupFunction {
+    class Avg extends DimensionalGroupFunction implements IncrementalGroupFunction {
 
         public Avg(Unit<?> baseItemUnit) {
             super(baseItemUnit);
@@ -119,6 +133,13 @@ public interface QuantityTypeArithmeticGroupFunction extends GroupFunction {
             }
             return UnDefType.UNDEF;
         }
+
+        @Override
+        public Accumulator<?> createAccumulator() {
+            return new SumAccumulator(item -> toBigDecimalOfUnit(item, systemUnit),
+                    (sum, count) -> count > 0 ? new QuantityType<>(sum, systemUnit).divide(BigDecimal.valueOf(count))
+                            : UnDefType.UNDEF);
+        }
     }
 
     /**
@@ -152,7 +173,7 @@ public interface QuantityTypeArithmeticGroupFunction extends GroupFunction {
      * system unit" (e.g. °C, °F) in which case the result would be an incremental sum based on that unit.
      *
      */
-    class Sum extends DimensionalGroupFunction {
+    class Sum extends DimensionalGroupFunction implements IncrementalGroupFunction {
 
         public Sum(Unit<?> baseItemUnit) {
             super(baseItemUnit);
@@ -170,12 +191,22 @@ public interface QuantityTypeArithmeticGroupFunction extends GroupFunction {
             }
             return UnDefType.UNDEF;
         }
+
+        @Override
+        public @Nullable Accumulator<?> createAccumulator() {
+            if (!baseItemUnit.equals(systemUnit)) {
+                // the sum of non-system units like °C is not a plain sum of the values
+                return null;
+            }
+            return new SumAccumulator(item -> toBigDecimalOfUnit(item, baseItemUnit),
+                    (sum, count) -> count > 0 ? new QuantityType<>(sum, baseItemUnit) : UnDefType.UNDEF);
+        }
     }
 
     /**
      * Calculates the minimum of a set of item states whose value could be converted to the 'referenceUnit'.
      */
-    class Min extends DimensionalGroupFunction {
+    class Min extends DimensionalGroupFunction implements IncrementalGroupFunction {
 
         public Min(Unit<?> baseItemUnit) {
             super(baseItemUnit);
@@ -193,12 +224,18 @@ public interface QuantityTypeArithmeticGroupFunction extends GroupFunction {
             }
             return UnDefType.UNDEF;
         }
+
+        @Override
+        public Accumulator<?> createAccumulator() {
+            return new ExtremumAccumulator(item -> toBigDecimalOfUnit(item, systemUnit),
+                    min -> new QuantityType<>(min, systemUnit), false);
+        }
     }
 
     /**
      * Calculates the maximum of a set of item states whose value could be converted to the 'referenceUnit'.
      */
-    class Max extends DimensionalGroupFunction {
+    class Max extends DimensionalGroupFunction implements IncrementalGroupFunction {
 
         public Max(Unit<?> targetUnit) {
             super(targetUnit);
@@ -216,5 +253,11 @@ public interface QuantityTypeArithmeticGroupFunction extends GroupFunction {
             }
             return UnDefType.UNDEF;
         }
+
+        @Override
+        public Accumulator<?> createAccumulator() {
+            return new ExtremumAccumulator(item -> toBigDecimalOfUnit(item, systemUnit),
+                    max -> new QuantityType<>(max, systemUnit), true);
+        }
     }
 }
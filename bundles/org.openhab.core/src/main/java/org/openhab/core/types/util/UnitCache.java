@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.types.util;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.measure.IncommensurableException;
+import javax.measure.Quantity;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+import javax.measure.format.MeasurementParseException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.internal.library.unit.UnitInitializer;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * The {@link UnitCache} keeps the {@link UnitConverter}s between pairs of units and the units parsed from unit
+ * symbols. Units and converters are immutable and only a few dozen of them are in use, but resolving them is expensive
+ * and is done for every converted or parsed state.
+ * <p>
+ * Each cache is bounded. When it is full, further results are resolved on every request but not kept. Failed
+ * conversions and unknown unit symbols are not kept either, so they cannot fill the cache. The number of hits and
+ * misses is counted for monitoring.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public final class UnitCache {
+
+    static final int MAX_SIZE = 1000;
+
+    private static final Map<UnitPair, UnitConverter> CONVERTERS = new ConcurrentHashMap<>();
+    private static final Map<Unit<?>, Optional<UnitConverter>> SYSTEM_UNIT_CONVERTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Unit<?>> UNITS = new ConcurrentHashMap<>();
+    private static final Map<String, Unit<?>> QUANTITY_UNITS = new ConcurrentHashMap<>();
+
+    private static final LongAdder CONVERTER_HITS = new LongAdder();
+    private static final LongAdder CONVERTER_MISSES = new LongAdder();
+    private static final LongAdder UNIT_HITS = new LongAdder();
+    private static final LongAdder UNIT_MISSES = new LongAdder();
+
+    static {
+        UnitInitializer.init();
+    }
+
+    private UnitCache() {
+        // prevent instantiation
+    }
+
+    /**
+     * Returns the converter between two units, like {@link Unit#getConverterToAny(Unit)}.
+     *
+     * @param source the unit to convert from
+     * @param target the unit to convert to
+     * @return the converter
+     * @throws IncommensurableException if the units are not compatible
+     * @throws UnconvertibleException if the converter cannot be created
+     */
+    public static UnitConverter getConverter(Unit<?> source, Unit<?> target)
+            throws IncommensurableException, UnconvertibleException {
+        UnitPair key = new UnitPair(source, target);
+        UnitConverter converter = CONVERTERS.get(key);
+        if (converter != null) {
+            CONVERTER_HITS.increment();
+            return converter;
+        }
+        CONVERTER_MISSES.increment();
+        converter = source.getConverterToAny(target);
+        putBounded(CONVERTERS, key, converter);
+        return converter;
+    }
+
+    /**
+     * Returns the converter of a unit to its system unit.
+     *
+     * @param unit the unit to convert from
+     * @return the converter or an empty {@link Optional} if the unit is its own system unit
+     * @throws IncommensurableException if the unit is not compatible with its system unit
+     * @throws UnconvertibleException if the converter cannot be created
+     */
+    public static Optional<UnitConverter> getSystemUnitConverter(Unit<?> unit)
+            throws IncommensurableException, UnconvertibleException {
+        Optional<UnitConverter> converter = SYSTEM_UNIT_CONVERTERS.get(unit);
+        if (converter != null) {
+            CONVERTER_HITS.increment();
+            return converter;
+        }
+        CONVERTER_MISSES.increment();
+        Unit<?> systemUnit = unit.getSystemUnit();
+        converter = systemUnit.equals(unit) ? Optional.empty() : Optional.of(unit.getConverterToAny(systemUnit));
+        putBounded(SYSTEM_UNIT_CONVERTERS, unit, converter);
+        return converter;
+    }
+
+    /**
+     * Returns the unit of a unit symbol, like {@link AbstractUnit#parse(CharSequence)}.
+     *
+     * @param symbol the unit symbol
+     * @return the unit
+     * @throws MeasurementParseException if the symbol cannot be parsed
+     */
+    public static Unit<?> getUnit(String symbol) throws MeasurementParseException {
+        Unit<?> unit = UNITS.get(symbol);
+        if (unit != null) {
+            UNIT_HITS.increment();
+            return unit;
+        }
+        UNIT_MISSES.increment();
+        unit = AbstractUnit.parse(symbol);
+        putBounded(UNITS, symbol, unit);
+        return unit;
+    }
+
+    /**
+     * Returns the unit of a quantity of one with the given unit symbol, as used by
+     * {@link UnitUtils#parseUnit(String)}.
+     *
+     * @param symbol the unit symbol
+     * @return the unit or an empty {@link Optional} if the symbol is not a known unit
+     */
+    static Optional<Unit<?>> getQuantityUnit(String symbol) {
+        Unit<?> unit = QUANTITY_UNITS.get(symbol);
+        if (unit != null) {
+            UNIT_HITS.increment();
+            return Optional.of(unit);
+        }
+        UNIT_MISSES.increment();
+        try {
+            Quantity<?> quantity = Quantities.getQuantity("1 " + symbol);
+            unit = quantity.getUnit();
+        } catch (IllegalArgumentException | MeasurementParseException e) {
+            return Optional.empty();
+        }
+        putBounded(QUANTITY_UNITS, symbol, unit);
+        return Optional.of(unit);
+    }
+
+    /**
+     * @return the number of requested converters that were found in the cache
+     */
+    public static long getConverterHits() {
+        return CONVERTER_HITS.sum();
+    }
+
+    /**
+     * @return the number of requested converters that had to be resolved
+     */
+    public static long getConverterMisses() {
+        return CONVERTER_MISSES.sum();
+    }
+
+    /**
+     * @return the number of requested unit symbols that were found in the cache
+     */
+    public static long getUnitHits() {
+        return UNIT_HITS.sum();
+    }
+
+    /**
+     * @return the number of requested unit symbols that had to be parsed
+     */
+    public static long getUnitMisses() {
+        return UNIT_MISSES.sum();
+    }
+
+    /**
+     * @return the number of converters and units in the cache
+     */
+    public static int size() {
+        return CONVERTERS.size() + SYSTEM_UNIT_CONVERTERS.size() + UNITS.size() + QUANTITY_UNITS.size();
+    }
+
+    private static <K, V> void putBounded(Map<K, V> map, K key, V value) {
+        if (map.size() < MAX_SIZE) {
+            map.putIfAbsent(key, value);
+        }
+    }
+
+    private record UnitPair(Unit<?> source, Unit<?> target) {
+    }
+}
@@ -26,7 +26,6 @@ import javax.measure.MetricPrefix;
 import javax.measure.Quantity;
 import javax.measure.Unit;
 import javax.measure.UnitConverter;
-import javax.measure.format.MeasurementParseException;
 import javax.measure.spi.SystemOfUnits;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -40,7 +39,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import tech.units.indriya.function.MultiplyConverter;
-import tech.units.indriya.quantity.Quantities;
 import tech.units.indriya.unit.TransformedUnit;
 
 /**
@@ -169,13 +167,12 @@ public class UnitUtils {
             if (UNIT_PERCENT_FORMAT_STRING.equals(unitSymbol)) {
                 return Units.PERCENT;
             }
-            try {
-                Quantity<?> quantity = Quantities.getQuantity("1 " + unitSymbol);
-                return quantity.getUnit();
-            } catch (IllegalArgumentException | MeasurementParseException e) {
-                // we expect this exception in case the extracted string does not match any known unit
-                LOGGER.debug("Unknown unit from pattern: {}", unitSymbol);
+            Unit<?> unit = UnitCache.getQuantityUnit(unitSymbol).orElse(null);
+            if (unit != null) {
+                return unit;
             }
+            // we expect this in case the extracted string does not match any known unit
+            LOGGER.debug("Unknown unit from pattern: {}", unitSymbol);
         }
 
         return null;
@@ -20,13 +20,17 @@ import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RunnableFuture;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.AfterAll;
@@ -291,6 +295,153 @@ public class ThreadPoolManagerTest {
         checkScheduledPoolWorks("Test3");
     }
 
+    @Test
+    public void testGetVirtualPool() throws InterruptedException {
+        ThreadPoolManager tpm = new ThreadPoolManager();
+        tpm.modified(Map.of("test7", "virtual"));
+        ThreadPoolExecutor result = ThreadPoolManager.getPoolUnwrapped("test7");
+        assertEquals(ThreadPoolManager.VIRTUAL_THREAD_POOL_SIZE, result.getMaximumPoolSize());
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(20);
+        AtomicBoolean virtual = new AtomicBoolean(true);
+        ExecutorService threadPool = ThreadPoolManager.getPool("test7");
+        for (int i = 0; i < 20; i++) {
+            threadPool.execute(() -> {
+                Thread thread = Thread.currentThread();
+                if (!thread.isVirtual() || !thread.getName().startsWith("OH-test7-")) {
+                    virtual.set(false);
+                }
+                running.countDown();
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                }
+            });
+        }
+
+        // more blocking tasks than the default pool size run concurrently
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        blocked.countDown();
+        assertTrue(virtual.get());
+
+        threadPool.shutdownNow();
+        checkThreadPoolWorks("test7");
+    }
+
+    @Test
+    public void testGetVirtualScheduledPool() throws InterruptedException {
+        ThreadPoolManager tpm = new ThreadPoolManager();
+        tpm.modified(Map.of("test8", "virtual"));
+        ThreadPoolExecutor result = ThreadPoolManager.getScheduledPoolUnwrapped("test8");
+        // the single platform thread is only the timer
+        assertEquals(1, result.getCorePoolSize());
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(20);
+        AtomicBoolean virtual = new AtomicBoolean(true);
+        ScheduledExecutorService threadPool = ThreadPoolManager.getScheduledPool("test8");
+        for (int i = 0; i < 20; i++) {
+            threadPool.schedule(() -> {
+                Thread thread = Thread.currentThread();
+                if (!thread.isVirtual() || !thread.getName().startsWith("OH-test8-")) {
+                    virtual.set(false);
+                }
+                running.countDown();
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                }
+            }, 10, TimeUnit.MILLISECONDS);
+        }
+
+        // the blocking tasks neither block each other nor the timer
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        // the counts refer to the tasks on the virtual threads, not to the timer
+        assertEquals(20, result.getActiveCount());
+        assertEquals(20, result.getTaskCount());
+        blocked.countDown();
+        assertTrue(virtual.get());
+        assertEquals(1, result.getLargestPoolSize());
+        for (int i = 0; i < 50 && result.getCompletedTaskCount() < 20; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(20, result.getCompletedTaskCount());
+        assertEquals(0, result.getActiveCount());
+
+        threadPool.shutdown();
+        checkScheduledPoolWorks("test8");
+    }
+
+    @Test
+    public void testVirtualScheduledPoolRunsPeriodicTasksWithoutOverlap() throws Exception {
+        ThreadPoolManager tpm = new ThreadPoolManager();
+        tpm.modified(Map.of("test9", "virtual"));
+        ScheduledExecutorService threadPool = ThreadPoolManager.getScheduledPool("test9");
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        CountDownLatch runs = new CountDownLatch(5);
+        ScheduledFuture<?> future = threadPool.scheduleAtFixedRate(() -> {
+            if (running.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            try {
+                Thread.sleep(30);
+            } catch (InterruptedException e) {
+            }
+            running.decrementAndGet();
+            runs.countDown();
+        }, 0, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(runs.await(5, TimeUnit.SECONDS));
+        assertTrue(future.cancel(false));
+        assertFalse(overlapped.get());
+
+        // a failing task completes its future exceptionally
+        ScheduledFuture<?> failing = threadPool.schedule(() -> {
+            throw new IllegalStateException("expected");
+        }, 10, TimeUnit.MILLISECONDS);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void testVirtualSequentialExecutorService() throws InterruptedException {
+        ThreadPoolManager tpm = new ThreadPoolManager();
+        tpm.modified(Map.of("test10", "virtual"));
+        ScheduledExecutorService service = ThreadPoolManager.getPoolBasedSequentialScheduledExecutorService("test10",
+                "test10");
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean sequential = new AtomicBoolean(true);
+        AtomicBoolean virtual = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            service.schedule(() -> {
+                if (running.incrementAndGet() > 1) {
+                    sequential.set(false);
+                }
+                if (!Thread.currentThread().isVirtual()) {
+                    virtual.set(false);
+                }
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                }
+                running.decrementAndGet();
+                done.countDown();
+            }, 10, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(sequential.get());
+        assertTrue(virtual.get());
+        ScheduledThreadPoolExecutor pool = (ScheduledThreadPoolExecutor) ThreadPoolManager.pools.get("test10");
+        assertEquals(1, pool.getCorePoolSize());
+        service.shutdownNow();
+    }
+
     private void checkThreadPoolWorks(String poolName) throws InterruptedException {
         ExecutorService threadPool = ThreadPoolManager.getPool(poolName);
         CountDownLatch cdl = new CountDownLatch(1);
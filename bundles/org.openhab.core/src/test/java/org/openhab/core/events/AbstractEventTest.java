@@ -14,6 +14,9 @@ package org.openhab.core.events;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
 
@@ -44,4 +47,42 @@ public class AbstractEventTest {
                 "org.openhab.core.thing", "actor"),
                 "org.openhab.binding.matter$originalActor=>org.openhab.core.thing$actor");
     }
+
+    @Test
+    public void testLazyPayloadIsBuiltOnce() {
+        AtomicInteger invocations = new AtomicInteger();
+        TestEvent event = new TestEvent("openhab/test", () -> {
+            invocations.incrementAndGet();
+            return "{\"value\":\"ON\"}";
+        });
+        assertEquals(0, invocations.get());
+
+        assertEquals("{\"value\":\"ON\"}", event.getPayload());
+        assertEquals("{\"value\":\"ON\"}", event.getPayload());
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void testLazyPayloadEqualsEagerPayload() {
+        TestEvent lazyEvent = new TestEvent("openhab/test", () -> "{\"value\":\"ON\"}");
+        TestEvent eagerEvent = new TestEvent("openhab/test", "{\"value\":\"ON\"}");
+
+        assertEquals(eagerEvent, lazyEvent);
+        assertEquals(eagerEvent.hashCode(), lazyEvent.hashCode());
+    }
+
+    private static class TestEvent extends AbstractEvent {
+        TestEvent(String topic, String payload) {
+            super(topic, payload, null);
+        }
+
+        TestEvent(String topic, Supplier<String> payloadSupplier) {
+            super(topic, payloadSupplier, null);
+        }
+
+        @Override
+        public String getType() {
+            return "TestEvent";
+        }
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.JavaTest;
+
+/**
+ * Tests for {@link SafeCallManagerImpl}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SafeCallManagerImplTest extends JavaTest {
+
+    private static final long WAIT = 5000;
+
+    private @NonNullByDefault({}) ScheduledExecutorService watcher;
+    private @NonNullByDefault({}) ExecutorService scheduler;
+    private @NonNullByDefault({}) SafeCallManagerImpl manager;
+
+    @BeforeEach
+    public void setUp() {
+        watcher = Executors.newSingleThreadScheduledExecutor();
+        scheduler = Executors.newFixedThreadPool(2);
+        manager = new SafeCallManagerImpl(watcher, scheduler, true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+        watcher.shutdownNow();
+    }
+
+    @Test
+    public void testStateIsDroppedAfterSyncCall() {
+        AtomicInteger busyIdentifiers = new AtomicInteger();
+        create(() -> busyIdentifiers.set(manager.getBusyIdentifierCount())).build().run();
+
+        assertEquals(1, busyIdentifiers.get());
+        assertEquals(0, manager.getBusyIdentifierCount());
+    }
+
+    @Test
+    public void testStateIsDroppedAfterAsyncCalls() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            started.countDown();
+            await(release);
+        };
+        CountDownLatch done = new CountDownLatch(1);
+
+        create(blocking).withIdentifier("id").withAsync().build().run();
+        assertTrue(started.await(WAIT, TimeUnit.MILLISECONDS));
+        // queued while the first call is running
+        create(done::countDown).withIdentifier("id").withAsync().build().run();
+        assertEquals(1, manager.getBusyIdentifierCount());
+
+        release.countDown();
+        assertTrue(done.await(WAIT, TimeUnit.MILLISECONDS));
+        waitForAssert(() -> assertEquals(0, manager.getBusyIdentifierCount()));
+    }
+
+    @Test
+    public void testStatesOfDifferentIdentifiersAreDroppedIndependently() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            started.countDown();
+            await(release);
+        };
+
+        create(blocking).withIdentifier("blocked").withAsync().build().run();
+        assertTrue(started.await(WAIT, TimeUnit.MILLISECONDS));
+        create(() -> {
+        }).withIdentifier("other").build().run();
+        assertEquals(1, manager.getBusyIdentifierCount());
+
+        release.countDown();
+        waitForAssert(() -> assertEquals(0, manager.getBusyIdentifierCount()));
+    }
+
+    private SafeCallerBuilderImpl<Runnable> create(Runnable target) {
+        return new SafeCallerBuilderImpl<>(target, new Class<?>[] { Runnable.class }, manager);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(WAIT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
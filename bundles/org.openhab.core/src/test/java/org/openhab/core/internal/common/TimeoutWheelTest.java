@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TimeoutWheel}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TimeoutWheelTest {
+
+    private static final long TICK = 10;
+
+    // one revolution of the wheel takes 8 ticks
+    private static final int BUCKETS = 8;
+
+    private static final long WAIT = 5000;
+
+    private @NonNullByDefault({}) ScheduledExecutorService executor;
+    private @NonNullByDefault({}) TimeoutWheel wheel;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        wheel = new TimeoutWheel(executor, TICK, BUCKETS);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testTimeoutsRunInTheOrderOfTheirDeadlines() throws InterruptedException {
+        Queue<String> order = new ConcurrentLinkedQueue<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        wheel.schedule(() -> record(order, "second", latch), 5 * TICK);
+        wheel.schedule(() -> record(order, "third", latch), 9 * TICK);
+        wheel.schedule(() -> record(order, "first", latch), TICK);
+
+        assertTrue(latch.await(WAIT, TimeUnit.MILLISECONDS));
+        assertEquals(List.of("first", "second", "third"), List.copyOf(order));
+    }
+
+    @Test
+    public void testTimeoutMoreThanOneRevolutionAheadDoesNotRunEarly() throws InterruptedException {
+        long delay = 3 * BUCKETS * TICK + 5;
+        long start = System.nanoTime();
+        CountDownLatch latch = new CountDownLatch(1);
+        long[] elapsed = new long[1];
+        wheel.schedule(() -> {
+            elapsed[0] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            latch.countDown();
+        }, delay);
+
+        assertTrue(latch.await(WAIT, TimeUnit.MILLISECONDS));
+        assertTrue(elapsed[0] >= delay, "Timeout ran after " + elapsed[0] + "ms instead of " + delay + "ms");
+    }
+
+    @Test
+    public void testFailingTimeoutDoesNotStopTheWheel() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        wheel.schedule(() -> {
+            latch.countDown();
+            throw new IllegalStateException("expected");
+        }, TICK);
+        wheel.schedule(latch::countDown, 3 * TICK);
+
+        assertTrue(latch.await(WAIT, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testCancelledTimeoutDoesNotRun() throws InterruptedException {
+        Queue<String> order = new ConcurrentLinkedQueue<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        TimeoutWheel.Timeout queued = wheel.schedule(() -> record(order, "queued", latch), 2 * TICK);
+        queued.cancel();
+        TimeoutWheel.Timeout bucketed = wheel.schedule(() -> record(order, "bucketed", latch), 4 * TICK);
+        // let the wheel move the timeout into its bucket before it is cancelled
+        Thread.sleep(2 * TICK);
+        bucketed.cancel();
+        wheel.schedule(() -> record(order, "last", latch), 6 * TICK);
+
+        assertTrue(latch.await(WAIT, TimeUnit.MILLISECONDS));
+        assertEquals(List.of("last"), List.copyOf(order));
+    }
+
+    private void record(Queue<String> order, String name, CountDownLatch latch) {
+        order.add(name);
+        latch.countDown();
+    }
+}
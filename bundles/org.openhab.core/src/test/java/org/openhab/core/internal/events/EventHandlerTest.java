@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.internal.events.EventHandler.DispatchPolicy;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateBatchEvent;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.types.DecimalType;
+
+/**
+ * The {@link EventHandlerTest} tests the dispatch policies of the {@link EventHandler}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EventHandlerTest {
+
+    private final EventSubscriberIndex index = new EventSubscriberIndex();
+
+    @Test
+    public void testShardedSubscribersOfSameClassReceiveInParallel() throws InterruptedException {
+        CountDownLatch secondReceived = new CountDownLatch(1);
+        CountDownLatch firstReceived = new CountDownLatch(1);
+        index.add(new TestSubscriber(0, event -> {
+            try {
+                // blocks the first shard until the subscriber on the second shard got the event
+                if (secondReceived.await(5, TimeUnit.SECONDS)) {
+                    firstReceived.countDown();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        index.add(new TestSubscriber(1, event -> secondReceived.countDown()));
+
+        try (EventHandler eventHandler = new EventHandler(index, Map.of(), DispatchPolicy.SHARDED, 2)) {
+            eventHandler.handleEvent(ItemEventFactory.createStateEvent("Item", new DecimalType(1)));
+
+            assertTrue(firstReceived.await(10, TimeUnit.SECONDS));
+            assertThat(eventHandler.getQueueSizes().keySet(), containsInAnyOrder("eventshard-0", "eventshard-1"));
+        }
+    }
+
+    @Test
+    public void testShardedSubscriberReceivesEventsInOrder() throws InterruptedException {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch allReceived = new CountDownLatch(100);
+        index.add(new TestSubscriber(0, event -> {
+            received.add(((DecimalType) ((ItemStateEvent) event).getItemState()).intValue());
+            allReceived.countDown();
+        }));
+
+        try (EventHandler eventHandler = new EventHandler(index, Map.of(), DispatchPolicy.SHARDED, 4)) {
+            for (int i = 0; i < 100; i++) {
+                eventHandler.handleEvent(ItemEventFactory.createStateEvent("Item", new DecimalType(i)));
+            }
+
+            assertTrue(allReceived.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, received.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testClassPolicyUsesOneExecutorPerSubscriberClass() throws InterruptedException {
+        CountDownLatch allReceived = new CountDownLatch(2);
+        index.add(new TestSubscriber(0, event -> allReceived.countDown()));
+        index.add(new TestSubscriber(1, event -> allReceived.countDown()));
+
+        try (EventHandler eventHandler = new EventHandler(index, Map.of())) {
+            eventHandler.handleEvent(ItemEventFactory.createStateEvent("Item", new DecimalType(1)));
+
+            assertTrue(allReceived.await(10, TimeUnit.SECONDS));
+            assertThat(eventHandler.getQueueSizes().keySet(), contains("eventexecutor-0"));
+        }
+    }
+
+    @Test
+    public void testBatchIsUnpackedForSubscribersOfTheContainedEvents() throws InterruptedException {
+        List<Event> batchReceived = new CopyOnWriteArrayList<>();
+        List<Event> singleReceived = new CopyOnWriteArrayList<>();
+        CountDownLatch allReceived = new CountDownLatch(3);
+        index.add(new TestSubscriber(0, event -> {
+            batchReceived.add(event);
+            allReceived.countDown();
+        }, Set.of(ItemStateEvent.TYPE, ItemStateBatchEvent.TYPE)));
+        index.add(new TestSubscriber(1, event -> {
+            singleReceived.add(event);
+            allReceived.countDown();
+        }));
+
+        try (EventHandler eventHandler = new EventHandler(index, Map.of())) {
+            eventHandler.handleEvent(ItemEventFactory.createStateBatchEvent(
+                    List.of(ItemEventFactory.createStateEvent("Item1", new DecimalType(1), null),
+                            ItemEventFactory.createStateEvent("Item2", new DecimalType(2), null)),
+                    null));
+
+            assertTrue(allReceived.await(10, TimeUnit.SECONDS));
+            assertEquals(1, batchReceived.size());
+            assertThat(batchReceived.get(0), instanceOf(ItemStateBatchEvent.class));
+            assertEquals(2, singleReceived.size());
+            assertEquals("Item1", ((ItemStateEvent) singleReceived.get(0)).getItemName());
+            assertEquals("Item2", ((ItemStateEvent) singleReceived.get(1)).getItemName());
+        }
+    }
+
+    @Test
+    public void testBatchIsUnpackedForSubscribersWhoseFilterRejectsIt() throws InterruptedException {
+        List<Event> received = new CopyOnWriteArrayList<>();
+        CountDownLatch allReceived = new CountDownLatch(2);
+        index.add(new TestSubscriber(0, event -> {
+            received.add(event);
+            allReceived.countDown();
+        }, Set.of(ItemStateEvent.TYPE, ItemStateBatchEvent.TYPE), event -> !(event instanceof ItemStateBatchEvent)));
+
+        try (EventHandler eventHandler = new EventHandler(index, Map.of())) {
+            eventHandler.handleEvent(ItemEventFactory.createStateBatchEvent(
+                    List.of(ItemEventFactory.createStateEvent("Item1", new DecimalType(1), null),
+                            ItemEventFactory.createStateEvent("Item2", new DecimalType(2), null)),
+                    null));
+
+            assertTrue(allReceived.await(10, TimeUnit.SECONDS));
+            assertEquals(2, received.size());
+            assertEquals("Item1", ((ItemStateEvent) received.get(0)).getItemName());
+            assertEquals("Item2", ((ItemStateEvent) received.get(1)).getItemName());
+        }
+    }
+
+    @Test
+    public void testSerializedBatchIsUnpackedWithoutBatchSubscribers() throws InterruptedException {
+        List<Event> received = new CopyOnWriteArrayList<>();
+        CountDownLatch allReceived = new CountDownLatch(2);
+        index.add(new TestSubscriber(0, event -> {
+            received.add(event);
+            allReceived.countDown();
+        }));
+
+        ItemStateBatchEvent batchEvent = ItemEventFactory.createStateBatchEvent(
+                List.of(ItemEventFactory.createStateEvent("Item1", new DecimalType(1), null),
+                        ItemEventFactory.createStateEvent("Item2", new DecimalType(2), null)),
+                null);
+        try (EventHandler eventHandler = new EventHandler(index,
+                Map.of(ItemStateBatchEvent.TYPE, new ItemEventFactory()))) {
+            // the batch has been posted by another process, so it has to be created from its payload
+            eventHandler.handleEvent(new org.osgi.service.event.Event("openhab",
+                    Map.of(OSGiEventPublisher.TYPE, batchEvent.getType(), OSGiEventPublisher.PAYLOAD,
+                            batchEvent.getPayload(), OSGiEventPublisher.TOPIC, batchEvent.getTopic())));
+
+            assertTrue(allReceived.await(10, TimeUnit.SECONDS));
+            assertEquals("Item1", ((ItemStateEvent) received.get(0)).getItemName());
+            assertEquals("Item2", ((ItemStateEvent) received.get(1)).getItemName());
+        }
+    }
+
+    private static class TestSubscriber implements EventSubscriber {
+        private final Object orderingKey;
+        private final Consumer<Event> consumer;
+        private final Set<String> subscribedEventTypes;
+        private final @Nullable EventFilter eventFilter;
+
+        TestSubscriber(Object orderingKey, Consumer<Event> consumer) {
+            this(orderingKey, consumer, Set.of(ItemStateEvent.TYPE));
+        }
+
+        TestSubscriber(Object orderingKey, Consumer<Event> consumer, Set<String> subscribedEventTypes) {
+            this(orderingKey, consumer, subscribedEventTypes, null);
+        }
+
+        TestSubscriber(Object orderingKey, Consumer<Event> consumer, Set<String> subscribedEventTypes,
+                @Nullable EventFilter eventFilter) {
+            this.orderingKey = orderingKey;
+            this.consumer = consumer;
+            this.subscribedEventTypes = subscribedEventTypes;
+            this.eventFilter = eventFilter;
+        }
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return subscribedEventTypes;
+        }
+
+        @Override
+        public @Nullable EventFilter getEventFilter() {
+            return eventFilter;
+        }
+
+        @Override
+        public Object getOrderingKey() {
+            return orderingKey;
+        }
+
+        @Override
+        public void receive(Event event) {
+            consumer.accept(event);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.internal.events.EventIngestQueue.OverflowPolicy;
+import org.openhab.core.internal.events.EventIngestQueue.QueuedEvent;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.osgi.service.event.Event;
+
+/**
+ * The {@link EventIngestQueueTest} tests the overflow policies and batching of the {@link EventIngestQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EventIngestQueueTest {
+
+    @Test
+    public void testDrainInBatches() throws InterruptedException {
+        EventIngestQueue queue = new EventIngestQueue(10, OverflowPolicy.BLOCK);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(queue.offer(stateEvent("Item" + i)));
+        }
+
+        List<QueuedEvent> batch = new ArrayList<>();
+        assertEquals(3, queue.drainTo(batch, 3, 0, TimeUnit.SECONDS));
+        assertEquals(2, queue.drainTo(batch, 3, 0, TimeUnit.SECONDS));
+        assertEquals(0, queue.drainTo(batch, 3, 0, TimeUnit.SECONDS));
+
+        assertThat(batch.stream().map(e -> e.getEvent().getProperty(OSGiEventPublisher.TOPIC)).toList(),
+                contains(topic("Item0"), topic("Item1"), topic("Item2"), topic("Item3"), topic("Item4")));
+        assertEquals(2, queue.getDrainedBatches());
+        assertEquals(5, queue.getDrainedEvents());
+    }
+
+    @Test
+    public void testRejectWhenFull() throws InterruptedException {
+        EventIngestQueue queue = new EventIngestQueue(2, OverflowPolicy.REJECT);
+
+        assertTrue(queue.offer(stateEvent("Item1")));
+        assertTrue(queue.offer(stateEvent("Item2")));
+        assertFalse(queue.offer(stateEvent("Item3")));
+
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.getRejectedEvents());
+    }
+
+    @Test
+    public void testDropOldestStateUpdateOfSameItem() throws InterruptedException {
+        EventIngestQueue queue = new EventIngestQueue(3, OverflowPolicy.DROP_OLDEST_STATE_UPDATE);
+        Event oldest = stateEvent("Item1");
+        Event newest = stateEvent("Item1");
+        queue.offer(oldest);
+        queue.offer(stateEvent("Item2"));
+        queue.offer(stateEvent("Item1"));
+
+        assertTrue(queue.offer(newest));
+
+        List<QueuedEvent> batch = new ArrayList<>();
+        queue.drainTo(batch, 10, 0, TimeUnit.SECONDS);
+        List<Event> events = batch.stream().map(QueuedEvent::getEvent).toList();
+        assertThat(events, hasSize(3));
+        assertThat(events, not(hasItem(oldest)));
+        assertThat(events.get(2), is(newest));
+        assertEquals(1, queue.getDroppedEvents());
+    }
+
+    @Test
+    public void testDropOldestStateUpdateBlocksOtherEvents() throws Exception {
+        EventIngestQueue queue = new EventIngestQueue(1, OverflowPolicy.DROP_OLDEST_STATE_UPDATE);
+        queue.offer(stateEvent("Item1"));
+
+        CompletableFuture<Boolean> offered = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.offer(new Event("openhab", Map.of(OSGiEventPublisher.TYPE, ItemCommandEvent.TYPE,
+                        OSGiEventPublisher.TOPIC, "openhab/items/Item1/command")));
+            } catch (InterruptedException e) {
+                return false;
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(offered.isDone());
+
+        queue.drainTo(new ArrayList<>(), 1, 0, TimeUnit.SECONDS);
+        assertTrue(offered.get(5, TimeUnit.SECONDS));
+        assertEquals(0, queue.getDroppedEvents());
+    }
+
+    @Test
+    public void testCloseReleasesBlockedProducer() throws Exception {
+        EventIngestQueue queue = new EventIngestQueue(1, OverflowPolicy.BLOCK);
+        queue.offer(stateEvent("Item1"));
+
+        CompletableFuture<Boolean> offered = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.offer(stateEvent("Item2"));
+            } catch (InterruptedException e) {
+                return true;
+            }
+        });
+        queue.close();
+
+        assertFalse(offered.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testBlockIsBoundedByMaxBlockTime() throws InterruptedException {
+        EventIngestQueue queue = new EventIngestQueue(1, OverflowPolicy.BLOCK, 100);
+        queue.offer(stateEvent("Item1"));
+
+        long start = System.nanoTime();
+        assertFalse(queue.offer(stateEvent("Item2")));
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), is(greaterThanOrEqualTo(100L)));
+        assertEquals(1, queue.size());
+        assertEquals(1, queue.getRejectedEvents());
+    }
+
+    @Test
+    public void testDropOldestStateUpdateKeepsLatestStateOfEachItem() throws InterruptedException {
+        EventIngestQueue queue = new EventIngestQueue(10, OverflowPolicy.DROP_OLDEST_STATE_UPDATE, 0);
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 10; i++) {
+                assertTrue(queue.offer(stateEvent("Item" + i)));
+            }
+        }
+        assertFalse(queue.offer(new Event("openhab", Map.of(OSGiEventPublisher.TYPE, ItemCommandEvent.TYPE,
+                OSGiEventPublisher.TOPIC, "openhab/items/Item1/command"))));
+
+        assertEquals(10, queue.size());
+        assertEquals(990, queue.getDroppedEvents());
+        assertEquals(1, queue.getRejectedEvents());
+
+        List<QueuedEvent> batch = new ArrayList<>();
+        assertEquals(10, queue.drainTo(batch, 100, 0, TimeUnit.SECONDS));
+        assertThat(batch.stream().map(e -> e.getEvent().getProperty(OSGiEventPublisher.TOPIC)).toList(),
+                contains(topic("Item0"), topic("Item1"), topic("Item2"), topic("Item3"), topic("Item4"),
+                        topic("Item5"), topic("Item6"), topic("Item7"), topic("Item8"), topic("Item9")));
+        assertEquals(0, queue.size());
+        assertEquals(0, queue.drainTo(batch, 100, 0, TimeUnit.SECONDS));
+    }
+
+    private static String topic(String itemName) {
+        return "openhab/items/" + itemName + "/state";
+    }
+
+    private static Event stateEvent(String itemName) {
+        return new Event("openhab",
+                Map.of(OSGiEventPublisher.TYPE, ItemStateEvent.TYPE, OSGiEventPublisher.TOPIC, topic(itemName)));
+    }
+}
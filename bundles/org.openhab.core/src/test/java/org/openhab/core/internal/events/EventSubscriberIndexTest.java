@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.events.TopicEventFilter;
+import org.openhab.core.events.TopicPrefixEventFilter;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateChangedEvent;
+import org.openhab.core.library.types.OnOffType;
+
+/**
+ * The {@link EventSubscriberIndexTest} tests the {@link EventSubscriberIndex}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class EventSubscriberIndexTest {
+
+    private static final Event ITEM_A_CHANGED = ItemEventFactory.createStateChangedEvent("ItemA", OnOffType.ON,
+            OnOffType.OFF, null, null);
+    private static final Event ITEM_B_CHANGED = ItemEventFactory.createStateChangedEvent("ItemB", OnOffType.ON,
+            OnOffType.OFF, null, null);
+
+    private final EventSubscriberIndex index = new EventSubscriberIndex();
+
+    @Test
+    public void testPrefixSubscribersAreOnlyReturnedForMatchingTopics() {
+        EventSubscriber itemA = new TestSubscriber(Set.of(ItemStateChangedEvent.TYPE),
+                new TopicPrefixEventFilter("openhab/items/ItemA/"));
+        EventSubscriber itemB = new TestSubscriber(Set.of(ItemStateChangedEvent.TYPE),
+                new TopicPrefixEventFilter("openhab/items/ItemB/"));
+        EventSubscriber allItems = new TestSubscriber(Set.of(ItemStateChangedEvent.TYPE),
+                new TopicPrefixEventFilter("openhab/items/"));
+        index.add(itemA);
+        index.add(itemB);
+        index.add(allItems);
+
+        assertThat(index.getSubscribers(ITEM_A_CHANGED), containsInAnyOrder(itemA, allItems));
+        assertThat(index.getSubscribers(ITEM_B_CHANGED), containsInAnyOrder(itemB, allItems));
+    }
+
+    @Test
+    public void testNonIndexableSubscribersAreAlwaysReturned() {
+        EventSubscriber noFilter = new TestSubscriber(Set.of(ItemStateChangedEvent.TYPE), null);
+        EventSubscriber regexFilter = new TestSubscriber(Set.of(ItemStateChangedEvent.TYPE),
+                new TopicEventFilter("^openhab/items/Item.*/statechanged$"));
+        EventSubscriber partialPrefix = new TestSubscriber(Set.of(ItemStateChangedEvent.TYPE),
+                new TopicPrefixEventFilter("openhab/items/Item"));
+        index.add(noFilter);
+        index.add(regexFilter);
+        index.add(partialPrefix);
+
+        assertThat(index.getSubscribers(ITEM_A_CHANGED), containsInAnyOrder(noFilter, regexFilter, partialPrefix));
+    }
+
+    @Test
+    public void testSubscribersAreReturnedOnceForTypeAndAllTypes() {
+        EventSubscriber typed = new TestSubscriber(Set.of(ItemStateChangedEvent.TYPE), null);
+        EventSubscriber all = new TestSubscriber(Set.of(EventSubscriber.ALL_EVENT_TYPES), null);
+        EventSubscriber both = new TestSubscriber(Set.of(ItemStateChangedEvent.TYPE, EventSubscriber.ALL_EVENT_TYPES),
+                null);
+        index.add(typed);
+        index.add(all);
+        index.add(both);
+
+        assertThat(index.getSubscribers(ITEM_A_CHANGED), containsInAnyOrder(typed, all, both));
+        assertThat(index.getSubscribers(ItemEventFactory.createCommandEvent("ItemA", OnOffType.ON)),
+                containsInAnyOrder(all, both));
+    }
+
+    @Test
+    public void testRemove() {
+        EventSubscriber itemA = new TestSubscriber(Set.of(ItemStateChangedEvent.TYPE, ItemCommandEvent.TYPE),
+                new TopicPrefixEventFilter("openhab/items/ItemA/"));
+        index.add(itemA);
+        assertTrue(index.hasSubscribers(ItemStateChangedEvent.TYPE));
+
+        index.remove(itemA);
+        assertFalse(index.hasSubscribers(ItemStateChangedEvent.TYPE));
+        assertFalse(index.hasSubscribers(ItemCommandEvent.TYPE));
+        assertThat(index.getSubscribers(ITEM_A_CHANGED), is(empty()));
+    }
+
+    private static class TestSubscriber implements EventSubscriber {
+        private final Set<String> subscribedEventTypes;
+        private final @Nullable EventFilter eventFilter;
+
+        TestSubscriber(Set<String> subscribedEventTypes, @Nullable EventFilter eventFilter) {
+            this.subscribedEventTypes = subscribedEventTypes;
+            this.eventFilter = eventFilter;
+        }
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return subscribedEventTypes;
+        }
+
+        @Override
+        public @Nullable EventFilter getEventFilter() {
+            return eventFilter;
+        }
+
+        @Override
+        public void receive(Event event) {
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemStateConverter;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.ArithmeticGroupFunction;
+import org.openhab.core.library.types.DecimalType;
+
+/**
+ * The {@link GroupStateCoalescerImplTest} contains tests for the {@link GroupStateCoalescerImpl}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class GroupStateCoalescerImplTest {
+
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService schedulerMock;
+    private @Mock @NonNullByDefault({}) ItemStateConverter itemStateConverterMock;
+
+    private final Map<String, Item> items = new HashMap<>();
+    private @NonNullByDefault({}) GroupStateCoalescerImpl coalescer;
+    private @NonNullByDefault({}) NumberItem member1;
+    private @NonNullByDefault({}) NumberItem member2;
+    private @NonNullByDefault({}) GroupItem room;
+    private @NonNullByDefault({}) GroupItem floor;
+
+    @BeforeEach
+    public void setup() {
+        when(itemStateConverterMock.convertToAcceptedState(any(), any())).thenAnswer(i -> i.getArgument(0));
+        coalescer = new GroupStateCoalescerImpl(items::get, schedulerMock);
+        coalescer.setWindow(100);
+
+        member1 = new NumberItem("member1");
+        member1.setState(new DecimalType(1));
+        member2 = new NumberItem("member2");
+        member2.setState(new DecimalType(2));
+        room = createGroup("room");
+        floor = createGroup("floor");
+        room.addMember(member1);
+        room.addMember(member2);
+        floor.addMember(room);
+    }
+
+    private GroupItem createGroup(String name) {
+        GroupItem group = new GroupItem(name, new NumberItem(name + "Base"), new ArithmeticGroupFunction.Sum());
+        group.setItemStateConverter(itemStateConverterMock);
+        items.put(name, group);
+        return group;
+    }
+
+    @Test
+    public void testUpdatesAreCoalescedIntoOneCalculation() {
+        assertTrue(coalescer.schedule(room, member1));
+        assertTrue(coalescer.schedule(room, member2));
+        assertTrue(coalescer.schedule(room, member1));
+
+        verify(schedulerMock, times(1)).schedule(any(Runnable.class), eq(100L), eq(TimeUnit.MILLISECONDS));
+        assertEquals(1, coalescer.getDirtyGroupCount());
+
+        coalescer.flush();
+
+        assertEquals(0, coalescer.getDirtyGroupCount());
+        assertEquals(new DecimalType(3), room.getState());
+    }
+
+    @Test
+    public void testAncestorsAreCalculatedAfterTheirMembers() {
+        coalescer.schedule(floor, room);
+        coalescer.schedule(room, member1);
+
+        coalescer.flush();
+
+        assertEquals(new DecimalType(3), room.getState());
+        assertEquals(new DecimalType(3), floor.getState());
+
+        // the notification of the floor about the calculated room state does not schedule the floor again
+        assertTrue(coalescer.schedule(floor, room));
+        assertEquals(0, coalescer.getDirtyGroupCount());
+    }
+
+    @Test
+    public void testAncestorIsScheduledIfTheMemberGroupStateChanged() {
+        coalescer.schedule(room, member1);
+        coalescer.flush();
+
+        room.setState(new DecimalType(10));
+
+        assertTrue(coalescer.schedule(floor, room));
+        assertEquals(1, coalescer.getDirtyGroupCount());
+    }
+
+    @Test
+    public void testNothingIsScheduledIfDisabled() {
+        coalescer.setWindow(0);
+
+        assertFalse(coalescer.schedule(room, member1));
+        assertEquals(0, coalescer.getDirtyGroupCount());
+        verifyNoInteractions(schedulerMock);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.items;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.SwitchItem;
+
+/**
+ * The {@link ItemIndexTest} contains tests for the {@link ItemIndex}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ItemIndexTest {
+
+    private final ItemIndex index = new ItemIndex();
+
+    private @NonNullByDefault({}) SwitchItem livingLight;
+    private @NonNullByDefault({}) SwitchItem kitchenLight;
+    private @NonNullByDefault({}) NumberItem livingTemperature;
+    private @NonNullByDefault({}) GroupItem living;
+
+    @BeforeEach
+    public void setup() {
+        livingLight = new SwitchItem("Living_Light");
+        livingLight.addTag("Lighting");
+        livingLight.addTag("täg");
+        livingLight.addGroupName("Living");
+        kitchenLight = new SwitchItem("Kitchen_Light");
+        kitchenLight.addTag("lighting");
+        livingTemperature = new NumberItem("Living_Temperature");
+        livingTemperature.addTag("Measurement");
+        livingTemperature.addGroupName("Living");
+        living = new GroupItem("Living");
+
+        List.of(livingLight, kitchenLight, livingTemperature, living).forEach(index::add);
+    }
+
+    @Test
+    public void testItemsOfType() {
+        assertThat(index.getItemsOfType("Switch"), containsInAnyOrder(livingLight, kitchenLight));
+        assertThat(index.getItemsOfType("Group"), contains(living));
+        assertThat(index.getItemsOfType("Color"), is(empty()));
+    }
+
+    @Test
+    public void testItemsByTagAreMatchedCaseInsensitive() {
+        assertThat(index.getItemsByTagAndType(null, "LIGHTING"), containsInAnyOrder(livingLight, kitchenLight));
+        assertThat(index.getItemsByTagAndType(null, "lighting", "TÄG"), contains(livingLight));
+        assertThat(index.getItemsByTagAndType(null, "lighting", "unknown"), is(empty()));
+        assertThat(index.getItemsByTagAndType(null), hasSize(4));
+    }
+
+    @Test
+    public void testItemsByTagAndType() {
+        assertThat(index.getItemsByTagAndType("Switch", "Lighting"), containsInAnyOrder(livingLight, kitchenLight));
+        assertThat(index.getItemsByTagAndType("Number", "Lighting"), is(empty()));
+        assertThat(index.getItemsByTagAndType("Number"), contains(livingTemperature));
+    }
+
+    @Test
+    public void testMembers() {
+        assertThat(index.getMembers("Living"), containsInAnyOrder(livingLight, livingTemperature));
+        assertThat(index.getMembers("Kitchen"), is(empty()));
+    }
+
+    @Test
+    public void testItemsByPattern() {
+        assertThat(index.getItems("Living_Light"), contains(livingLight));
+        assertThat(index.getItems("Living_Ligh"), is(empty()));
+        assertThat(index.getItems("Living*"), containsInAnyOrder(livingLight, livingTemperature, living));
+        assertThat(index.getItems("*_Light"), containsInAnyOrder(livingLight, kitchenLight));
+        assertThat(index.getItems("Livin?_Light"), contains(livingLight));
+        assertThat(index.getItems("Livings*"), is(empty()));
+        assertThat(index.getItems("Kitchen_Light|Living"), containsInAnyOrder(kitchenLight, living));
+        assertThat(index.getItems("Livingx?_Light"), is(empty()));
+        assertThat(index.getItems("Living_L+ight"), contains(livingLight));
+    }
+
+    @Test
+    public void testUpdateUsesTheIndexedTagsAndGroups() {
+        // the registered instance is changed before it is updated
+        livingLight.removeTag("Lighting");
+        livingLight.removeGroupName("Living");
+        livingLight.addTag("Switch");
+        index.add(livingLight);
+
+        assertThat(index.getItemsByTagAndType(null, "Lighting"), contains(kitchenLight));
+        assertThat(index.getItemsByTagAndType(null, "Switch"), contains(livingLight));
+        assertThat(index.getMembers("Living"), contains(livingTemperature));
+    }
+
+    @Test
+    public void testRemove() {
+        index.remove("Living_Light");
+        index.remove("Unknown");
+
+        Collection<Item> items = index.getItemsByTagAndType(null);
+        assertThat(items, containsInAnyOrder(kitchenLight, livingTemperature, living));
+        assertThat(index.getItems("Living_Light"), is(empty()));
+        assertThat(index.getItemsByTagAndType(null, "täg"), is(empty()));
+        assertThat(index.getMembers("Living"), contains(livingTemperature));
+    }
+}
@@ -15,7 +15,9 @@ package org.openhab.core.internal.items;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
@@ -87,6 +89,33 @@ public class MetadataRegistryImplTest {
         assertEquals("itemName", res.getUID().getItemName());
     }
 
+    @Test
+    public void testGetItemMetadata() {
+        Metadata metadata = new Metadata(new MetadataKey("namespace", "itemName"), "value", Map.of());
+        Metadata otherNamespace = new Metadata(new MetadataKey("other", "itemName"), "other", Map.of());
+        registry.added(managedProviderMock, metadata);
+        registry.added(managedProviderMock, otherNamespace);
+        registry.added(managedProviderMock, new Metadata(new MetadataKey("namespace", "other"), "other", Map.of()));
+
+        assertEquals(Set.of(metadata, otherNamespace), Set.copyOf(registry.getItemMetadata("itemName")));
+        assertEquals(Set.of("namespace", "other"), Set.copyOf(registry.getAllNamespaces("itemName")));
+        assertTrue(registry.getItemMetadata("unknown").isEmpty());
+
+        Metadata updated = new Metadata(new MetadataKey("namespace", "itemName"), "updated", Map.of());
+        registry.updated(managedProviderMock, metadata, updated);
+        registry.removed(managedProviderMock, otherNamespace);
+
+        Collection<Metadata> itemMetadata = registry.getItemMetadata("itemName");
+        assertEquals(1, itemMetadata.size());
+        assertEquals("updated", itemMetadata.iterator().next().getValue());
+        assertEquals(Set.of("namespace"), Set.copyOf(registry.getAllNamespaces("itemName")));
+
+        registry.removed(managedProviderMock, updated);
+
+        assertTrue(registry.getItemMetadata("itemName").isEmpty());
+        assertTrue(registry.getAllNamespaces("itemName").isEmpty());
+    }
+
     @Test
     public void testRemoveItemMetadata() {
         ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
@@ -20,16 +20,20 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.openhab.core.JavaTest;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.items.events.ItemEvent;
 import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.items.events.ItemStateUpdatedEvent;
+import org.openhab.core.library.items.StringItem;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.RawType;
@@ -51,7 +55,7 @@ import org.openhab.core.types.UnDefType;
  */
 @NonNullByDefault
 @SuppressWarnings("null")
-public class GenericItemTest {
+public class GenericItemTest extends JavaTest {
 
     @Test
     public void testItemPostsEventsCorrectly() {
@@ -270,6 +274,33 @@ public class GenericItemTest {
         assertThat(item.getCommandDescription().getCommandOptions(), hasSize(2));
     }
 
+    @Test
+    public void testListenersAreNotifiedInOrderOfTheUpdates() {
+        StringItem item = new StringItem("test");
+        List<String> notifications = Collections.synchronizedList(new ArrayList<>());
+        for (String listenerName : List.of("first", "second")) {
+            item.addStateChangeListener(new StateChangeListener() {
+                @Override
+                public void stateChanged(Item item, State oldState, State newState) {
+                }
+
+                @Override
+                public void stateUpdated(Item item, State state) {
+                    notifications.add(listenerName + ":" + state);
+                }
+            });
+        }
+
+        List<String> expectedNotifications = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            item.setState(new StringType(String.valueOf(i)));
+            expectedNotifications.add("first:" + i);
+            expectedNotifications.add("second:" + i);
+        }
+
+        waitForAssert(() -> assertEquals(expectedNotifications, List.copyOf(notifications)));
+    }
+
     /**
      * Fooling the null-analysis tooling
      *
@@ -12,8 +12,10 @@
  */
 package org.openhab.core.items;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.*;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
@@ -22,7 +24,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.openhab.core.JavaTest;
 import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.ArithmeticGroupFunction;
+import org.openhab.core.library.types.DecimalType;
 
 /**
  * The {@link GroupItemTest} contains tests for {@link GroupItem}
@@ -32,10 +37,11 @@ import org.openhab.core.library.items.NumberItem;
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 @NonNullByDefault
-public class GroupItemTest {
+public class GroupItemTest extends JavaTest {
     private static final String ITEM_NAME = "test";
 
     private @Mock @NonNullByDefault({}) NumberItem baseItemMock;
+    private @Mock @NonNullByDefault({}) ItemStateConverter itemStateConverterMock;
 
     @Test
     public void testMetadataIsPropagatedToBaseItem() {
@@ -53,4 +59,34 @@ public class GroupItemTest {
         groupItem.removedMetadata(updatedMetadata);
         verify(baseItemMock).removedMetadata(eq(updatedMetadata));
     }
+
+    @Test
+    public void testGroupStateFollowsMemberUpdatesAndMembershipChanges() {
+        when(itemStateConverterMock.convertToAcceptedState(any(), any())).thenAnswer(i -> i.getArgument(0));
+        GroupItem groupItem = new GroupItem(ITEM_NAME, new NumberItem("base"), new ArithmeticGroupFunction.Sum());
+        groupItem.setItemStateConverter(itemStateConverterMock);
+
+        TestItem member1 = new TestItem("member1");
+        member1.setState(new DecimalType(1));
+        TestItem member2 = new TestItem("member2");
+        member2.setState(new DecimalType(2));
+        groupItem.addMember(member1);
+        groupItem.addMember(member2);
+
+        member1.setState(new DecimalType(5));
+        waitForAssert(() -> assertEquals(new DecimalType(7), groupItem.getState()));
+
+        member2.setState(new DecimalType(3));
+        waitForAssert(() -> assertEquals(new DecimalType(8), groupItem.getState()));
+
+        TestItem member3 = new TestItem("member3");
+        member3.setState(new DecimalType(10));
+        groupItem.addMember(member3);
+        member3.setState(new DecimalType(20));
+        waitForAssert(() -> assertEquals(new DecimalType(28), groupItem.getState()));
+
+        groupItem.removeMember(member2);
+        member1.setState(new DecimalType(6));
+        waitForAssert(() -> assertEquals(new DecimalType(26), groupItem.getState()));
+    }
 }
@@ -17,6 +17,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
@@ -25,12 +26,17 @@ import org.openhab.core.items.Item;
 import org.openhab.core.items.dto.ItemDTOMapper;
 import org.openhab.core.library.CoreItemFactory;
 import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.RawType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.library.unit.Units;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.core.types.util.UnitCache;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonParser;
@@ -199,6 +205,27 @@ public class ItemEventFactoryTest {
         assertThat(event.getItemState(), is(ITEM_STATE));
     }
 
+    @Test
+    public void testCreateEventItemStateBatchEvent() throws Exception {
+        ItemStateBatchEvent batchEvent = ItemEventFactory.createStateBatchEvent(
+                List.of(ItemEventFactory.createStateEvent(ITEM_NAME, ITEM_STATE, SOURCE),
+                        ItemEventFactory.createStateEvent("ItemB", new DecimalType(21.5), null)),
+                null);
+
+        Event event = factory.createEvent(ItemStateBatchEvent.TYPE, batchEvent.getTopic(), batchEvent.getPayload(),
+                null);
+
+        assertEquals(ItemStateBatchEvent.class, event.getClass());
+        List<ItemStateEvent> stateEvents = ((ItemStateBatchEvent) event).getEvents();
+        assertEquals(2, stateEvents.size());
+        assertThat(stateEvents.get(0).getTopic(), is(ITEM_STATE_EVENT_TOPIC));
+        assertThat(stateEvents.get(0).getItemState(), is(ITEM_STATE));
+        assertThat(stateEvents.get(0).getSource(), is(SOURCE));
+        assertThat(stateEvents.get(1).getItemName(), is("ItemB"));
+        assertThat(stateEvents.get(1).getItemState(), is(new DecimalType(21.5)));
+        assertNull(stateEvents.get(1).getSource());
+    }
+
     @Test
     public void testCreateEventItemAddedEvent() throws Exception {
         Event event = factory.createEvent(ITEM_ADDED_EVENT_TYPE, ITEM_ADDED_EVENT_TOPIC, ITEM_ADDED_EVENT_PAYLOAD,
@@ -249,4 +276,70 @@ public class ItemEventFactoryTest {
         assertEquals(lastStateUpdate, groupItemStateChangedEvent.getLastStateUpdate());
         assertEquals(lastStateChange, groupItemStateChangedEvent.getLastStateChange());
     }
+
+    @Test
+    public void testCreateStateEventWithQuantityUsesCachedUnit() throws Exception {
+        String payload = "{\"type\":\"Quantity\",\"value\":\"21.50 °C\"}";
+
+        ItemStateEvent first = (ItemStateEvent) factory.createEvent(ITEM_STATE_EVENT_TYPE, ITEM_STATE_EVENT_TOPIC,
+                payload, null);
+        long unitHits = UnitCache.getUnitHits();
+        ItemStateEvent second = (ItemStateEvent) factory.createEvent(ITEM_STATE_EVENT_TYPE, ITEM_STATE_EVENT_TOPIC,
+                payload, null);
+
+        assertEquals(new QuantityType<>("21.50 °C"), first.getItemState());
+        assertEquals("21.50 °C", first.getItemState().toFullString());
+        assertEquals("21.50 °C", second.getItemState().toFullString());
+        assertEquals(SIUnits.CELSIUS, ((QuantityType<?>) second.getItemState()).getUnit());
+        assertEquals(unitHits + 1, UnitCache.getUnitHits());
+    }
+
+    @Test
+    public void testCreateStateEventWithQuantityKeepsPrecisionOfFirstParse() throws Exception {
+        String payload = "{\"type\":\"Quantity\",\"value\":\"1234567890123456789.120 mbar\"}";
+
+        ItemStateEvent first = (ItemStateEvent) factory.createEvent(ITEM_STATE_EVENT_TYPE, ITEM_STATE_EVENT_TOPIC,
+                payload, null);
+        ItemStateEvent second = (ItemStateEvent) factory.createEvent(ITEM_STATE_EVENT_TYPE, ITEM_STATE_EVENT_TOPIC,
+                payload, null);
+
+        assertEquals("1234567890123456789.120 mbar", first.getItemState().toFullString());
+        assertEquals("1234567890123456789.120 mbar", second.getItemState().toFullString());
+    }
+
+    @Test
+    public void testCreateStateEventWithQuantityWithoutSeparator() throws Exception {
+        String payload = "{\"type\":\"Quantity\",\"value\":\"1500W\"}";
+
+        ItemStateEvent event = (ItemStateEvent) factory.createEvent(ITEM_STATE_EVENT_TYPE, ITEM_STATE_EVENT_TOPIC,
+                payload, null);
+
+        assertEquals(new QuantityType<>(1500, Units.WATT), event.getItemState());
+    }
+
+    @Test
+    public void testCreateStateEventWithDecimal() throws Exception {
+        String payload = "{\"type\":\"Decimal\",\"value\":\"-12.5\"}";
+
+        ItemStateEvent event = (ItemStateEvent) factory.createEvent(ITEM_STATE_EVENT_TYPE, ITEM_STATE_EVENT_TOPIC,
+                payload, null);
+
+        assertEquals(new DecimalType(-12.5), event.getItemState());
+    }
+
+    @Test
+    public void testCreateStateEventWithUnknownTypeFails() {
+        String payload = "{\"type\":\"Unknown\",\"value\":\"ON\"}";
+
+        assertThrows(IllegalArgumentException.class,
+                () -> factory.createEvent(ITEM_STATE_EVENT_TYPE, ITEM_STATE_EVENT_TOPIC, payload, null));
+    }
+
+    @Test
+    public void testCreateStateEventWithInvalidEnumValueFails() {
+        String payload = "{\"type\":\"OnOff\",\"value\":\"DIMMED\"}";
+
+        assertThrows(IllegalStateException.class,
+                () -> factory.createEvent(ITEM_STATE_EVENT_TYPE, ITEM_STATE_EVENT_TOPIC, payload, null));
+    }
 }
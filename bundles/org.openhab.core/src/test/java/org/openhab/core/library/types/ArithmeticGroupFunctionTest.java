@@ -20,6 +20,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -32,6 +33,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.GroupFunction;
+import org.openhab.core.items.IncrementalGroupFunction;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.items.DimmerItem;
 import org.openhab.core.library.items.SwitchItem;
@@ -370,6 +372,55 @@ public class ArithmeticGroupFunctionTest {
         assertEquals(new DecimalType("2"), state);
     }
 
+    static Stream<Arguments> incrementalFunctions() {
+        return Stream.of( //
+                arguments(new GroupFunction.Equality()), //
+                arguments(new ArithmeticGroupFunction.And(OnOffType.ON, OnOffType.OFF)), //
+                arguments(new ArithmeticGroupFunction.Or(OnOffType.ON, OnOffType.OFF)), //
+                arguments(new ArithmeticGroupFunction.NAnd(OnOffType.ON, OnOffType.OFF)), //
+                arguments(new ArithmeticGroupFunction.NOr(OnOffType.ON, OnOffType.OFF)), //
+                arguments(new ArithmeticGroupFunction.Xor(OnOffType.ON, OnOffType.OFF)), //
+                arguments(new ArithmeticGroupFunction.Avg()), //
+                arguments(new ArithmeticGroupFunction.Sum()), //
+                arguments(new ArithmeticGroupFunction.Min()), //
+                arguments(new ArithmeticGroupFunction.Max()), //
+                arguments(new ArithmeticGroupFunction.Count(new StringType("[1-5]"))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("incrementalFunctions")
+    public void testAccumulatorMatchesCalculation(IncrementalGroupFunction function) {
+        List<State> states = List.of(OnOffType.ON, OnOffType.OFF, new DecimalType("3"), new DecimalType("1"),
+                new DecimalType("-7.5"), new DecimalType("3"), UnDefType.UNDEF, UnDefType.NULL);
+        List<TestItem> testItems = List.of(new TestItem("TestItem1", UnDefType.NULL),
+                new TestItem("TestItem2", OnOffType.ON), new TestItem("TestItem3", new DecimalType("3")),
+                new TestItem("TestItem4", OnOffType.ON));
+        Set<Item> items = new HashSet<>(testItems);
+
+        IncrementalGroupFunction.Accumulator<?> accumulator = Objects.requireNonNull(function.createAccumulator());
+        accumulator.reset(Set.of());
+        assertEquals(function.calculate(Set.of()), accumulator.getState());
+
+        accumulator.reset(items);
+        assertEquals(function.calculate(items), accumulator.getState());
+
+        // update every item to every state, so that extrema and matches are added and removed
+        for (State state : states) {
+            for (TestItem item : testItems) {
+                item.setState(state);
+                accumulator.update(item);
+                // compare the string representations, equal decimals may still differ in their scale
+                assertEquals(function.calculate(items).toFullString(), accumulator.getState().toFullString(),
+                        item.getName() + " -> " + state);
+            }
+        }
+    }
+
+    @Test
+    public void testMedianFunctionIsNotIncremental() {
+        assertThat(new ArithmeticGroupFunction.Median(), not(instanceOf(IncrementalGroupFunction.class)));
+    }
+
     private static class TestItem extends GenericItem {
 
         public TestItem(String name, State state) {
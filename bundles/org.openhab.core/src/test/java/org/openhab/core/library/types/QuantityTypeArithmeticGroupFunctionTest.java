@@ -21,6 +21,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -43,6 +44,7 @@ import org.openhab.core.i18n.UnitProvider;
 import org.openhab.core.internal.i18n.TestUnitProvider;
 import org.openhab.core.items.GroupFunction;
 import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.IncrementalGroupFunction;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.CoreItemFactory;
 import org.openhab.core.library.items.NumberItem;
@@ -572,4 +574,49 @@ public class QuantityTypeArithmeticGroupFunctionTest {
 
         assertEquals(new QuantityType<>("4 W"), state);
     }
+
+    static Stream<Arguments> incrementalFunctions() {
+        return Stream.of( //
+                arguments(new QuantityTypeArithmeticGroupFunction.Avg(Units.WATT)), //
+                arguments(new QuantityTypeArithmeticGroupFunction.Sum(Units.WATT)), //
+                arguments(new QuantityTypeArithmeticGroupFunction.Min(Units.WATT)), //
+                arguments(new QuantityTypeArithmeticGroupFunction.Max(Units.WATT)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("incrementalFunctions")
+    public void testAccumulatorMatchesCalculation(IncrementalGroupFunction function) {
+        Set<Item> items = new LinkedHashSet<>();
+        NumberItem item1 = createNumberItem("TestItem1", Power.class, new QuantityType<>("1 W"));
+        NumberItem item2 = createNumberItem("TestItem2", Power.class, UnDefType.NULL);
+        NumberItem item3 = createNumberItem("TestItem3", Power.class, new QuantityType<>("3000 mW"));
+        items.add(item1);
+        items.add(item2);
+        items.add(item3);
+
+        IncrementalGroupFunction.Accumulator<?> accumulator = Objects.requireNonNull(function.createAccumulator());
+        accumulator.reset(items);
+        assertEquals(function.calculate(items), accumulator.getState());
+
+        item2.setState(new QuantityType<>("0.5 kW"));
+        accumulator.update(item2);
+        assertEquals(function.calculate(items), accumulator.getState());
+
+        item3.setState(UnDefType.UNDEF);
+        accumulator.update(item3);
+        assertEquals(function.calculate(items), accumulator.getState());
+
+        item1.setState(new QuantityType<>("-2 W"));
+        accumulator.update(item1);
+        assertEquals(function.calculate(items), accumulator.getState());
+    }
+
+    @ParameterizedTest
+    @MethodSource("locales")
+    public void testSumFunctionIsNotIncrementalForNonSystemUnit(Locale locale) {
+        Locale.setDefault(locale);
+
+        assertNull(new QuantityTypeArithmeticGroupFunction.Sum(SIUnits.CELSIUS).createAccumulator());
+        assertNotNull(new QuantityTypeArithmeticGroupFunction.Sum(Units.WATT).createAccumulator());
+    }
 }
@@ -24,6 +24,9 @@ import java.text.DecimalFormatSymbols;
 import java.util.Locale;
 import java.util.stream.Stream;
 
+import javax.measure.Quantity;
+import javax.measure.Quantity.Scale;
+import javax.measure.Unit;
 import javax.measure.quantity.Dimensionless;
 import javax.measure.quantity.Energy;
 import javax.measure.quantity.Length;
@@ -47,6 +50,7 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
 import org.openhab.core.types.util.UnitUtils;
 
+import tech.units.indriya.quantity.Quantities;
 import tech.units.indriya.unit.UnitDimension;
 
 /**
@@ -392,6 +396,40 @@ public class QuantityTypeTest {
         assertThat(new QuantityType<>("65 kWh").add(new QuantityType<>("1 kJ")), is(new QuantityType<>("234001 kJ")));
     }
 
+    @Test
+    public void testArithmeticAndComparisonInSystemUnit() {
+        assertThat(new QuantityType<>("1.50 W").add(new QuantityType<>("2.25 W")), is(new QuantityType<>("3.75 W")));
+        assertThat(new QuantityType<>("1.50 W").subtract(new QuantityType<>("2.25 W")),
+                is(new QuantityType<>("-0.75 W")));
+        assertThat(new QuantityType<>("20 K").add(new QuantityType<>("30 K")), is(new QuantityType<>("50 K")));
+
+        // the results are identical to the ones of the quantity arithmetic, not only equal
+        assertSameAsQuantityArithmetic(new QuantityType<>("1.50 W").add(new QuantityType<>("2.25 W")),
+                quantity("1.50", Units.WATT, Scale.ABSOLUTE).add(quantity("2.25", Units.WATT, Scale.RELATIVE)));
+        assertSameAsQuantityArithmetic(new QuantityType<>("1.50 W").subtract(new QuantityType<>("2.250 W")),
+                quantity("1.50", Units.WATT, Scale.ABSOLUTE).subtract(quantity("2.250", Units.WATT, Scale.RELATIVE)));
+        assertSameAsQuantityArithmetic(new QuantityType<>("20 K").add(new QuantityType<>("30.5 K")),
+                quantity("20", Units.KELVIN, Scale.ABSOLUTE).add(quantity("30.5", Units.KELVIN, Scale.RELATIVE)));
+
+        // the converters to the system unit are reused by repeated comparisons
+        for (int i = 0; i < 2; i++) {
+            assertEquals(1, new QuantityType<>("1 kW").compareTo(new QuantityType<>("999 W")));
+            assertEquals(-1, new QuantityType<>("999 W").compareTo(new QuantityType<>("1 kW")));
+            assertEquals(0, new QuantityType<>("0 °C").compareTo(new QuantityType<>("273.15 K")));
+        }
+    }
+
+    private static <T extends Quantity<T>> Quantity<T> quantity(String value, Unit<T> unit, Scale scale) {
+        return Quantities.getQuantity(new BigDecimal(value), unit, scale);
+    }
+
+    private static void assertSameAsQuantityArithmetic(QuantityType<?> actual, Quantity<?> expectedQuantity) {
+        QuantityType<?> expected = new QuantityType<>(expectedQuantity.getValue(), expectedQuantity.getUnit());
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.getUnit(), actual.getUnit());
+        assertEquals(expected.toBigDecimal().scale(), actual.toBigDecimal().scale());
+    }
+
     @Test
     public void testNegate() {
         assertThat(new QuantityType<>("20 °C").negate(), is(new QuantityType<>("-20 °C")));
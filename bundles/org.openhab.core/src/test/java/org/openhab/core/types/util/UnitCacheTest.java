@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.types.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.measure.IncommensurableException;
+import javax.measure.UnitConverter;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.unit.ImperialUnits;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.library.unit.Units;
+
+/**
+ * Tests for {@link UnitCache}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class UnitCacheTest {
+
+    @Test
+    public void testConverterIsResolvedOnce() throws IncommensurableException {
+        UnitConverter converter = UnitCache.getConverter(SIUnits.CELSIUS, ImperialUnits.FAHRENHEIT);
+        long hits = UnitCache.getConverterHits();
+
+        assertSame(converter, UnitCache.getConverter(SIUnits.CELSIUS, ImperialUnits.FAHRENHEIT));
+        assertEquals(hits + 1, UnitCache.getConverterHits());
+        assertEquals(212.0, converter.convert(100).doubleValue(), 1e-9);
+    }
+
+    @Test
+    public void testSystemUnitConverter() throws IncommensurableException {
+        assertTrue(UnitCache.getSystemUnitConverter(Units.WATT).isEmpty());
+        assertTrue(UnitCache.getSystemUnitConverter(Units.KILOWATT_HOUR).isPresent());
+        assertThrows(IncommensurableException.class, () -> UnitCache.getConverter(Units.WATT, SIUnits.METRE));
+    }
+
+    @Test
+    public void testUnitIsParsedOnce() {
+        assertEquals(Units.KILOWATT_HOUR, UnitCache.getUnit("kWh"));
+        long hits = UnitCache.getUnitHits();
+        long misses = UnitCache.getUnitMisses();
+
+        assertEquals(Units.KILOWATT_HOUR, UnitCache.getUnit("kWh"));
+        assertEquals(hits + 1, UnitCache.getUnitHits());
+        assertEquals(misses, UnitCache.getUnitMisses());
+    }
+
+    @Test
+    public void testUnknownUnitSymbolIsNotCached() {
+        assertTrue(UnitCache.getQuantityUnit("unknownUnit").isEmpty());
+        int size = UnitCache.size();
+        long misses = UnitCache.getUnitMisses();
+
+        assertTrue(UnitCache.getQuantityUnit("unknownUnit").isEmpty());
+        assertNull(UnitUtils.parseUnit("%.1f unknownUnit"));
+        assertEquals(misses + 2, UnitCache.getUnitMisses());
+        assertEquals(size, UnitCache.size());
+    }
+}
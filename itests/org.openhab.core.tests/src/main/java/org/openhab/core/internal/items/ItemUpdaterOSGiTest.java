@@ -15,11 +15,13 @@ package org.openhab.core.internal.items;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +37,7 @@ import org.openhab.core.items.events.ItemTimeSeriesUpdatedEvent;
 import org.openhab.core.library.items.SwitchItem;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.test.java.JavaOSGiTest;
+import org.openhab.core.types.State;
 import org.openhab.core.types.TimeSeries;
 import org.openhab.core.types.UnDefType;
 
@@ -164,6 +167,37 @@ public class ItemUpdaterOSGiTest extends JavaOSGiTest {
         assertTrue(receivedEvents.isEmpty());
     }
 
+    @Test
+    public void testItemUpdaterAppliesAllUpdatesOfABatchEvenIfOneFails() {
+        SwitchItem brokenItem = new SwitchItem("broken") {
+            @Override
+            public void setState(State state, @Nullable String source) {
+                throw new IllegalStateException("broken item");
+            }
+        };
+        itemRegistry.add(brokenItem);
+        SwitchItem otherSwitchItem = new SwitchItem("otherSwitch");
+        itemRegistry.add(otherSwitchItem);
+
+        try {
+            eventPublisher.post(ItemEventFactory.createStateBatchEvent(
+                    List.of(ItemEventFactory.createStateEvent("switch", OnOffType.ON),
+                            ItemEventFactory.createStateEvent("broken", OnOffType.ON),
+                            ItemEventFactory.createStateEvent("otherSwitch", OnOffType.OFF)),
+                    null));
+
+            Item switchItem = itemRegistry.get("switch");
+            Item otherItem = itemRegistry.get("otherSwitch");
+            waitForAssert(() -> {
+                assertEquals(OnOffType.ON, switchItem.getState());
+                assertEquals(OnOffType.OFF, otherItem.getState());
+            });
+        } finally {
+            itemRegistry.remove(brokenItem.getName());
+            itemRegistry.remove(otherSwitchItem.getName());
+        }
+    }
+
     @Test
     public void testItemUpdaterSetsTimeSeries() throws InterruptedException {
         TimeSeries timeSeries = new TimeSeries(TimeSeries.Policy.ADD);
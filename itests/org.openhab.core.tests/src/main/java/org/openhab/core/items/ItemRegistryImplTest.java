@@ -418,4 +418,63 @@ public class ItemRegistryImplTest extends JavaTest {
         ((ItemRegistryImpl) itemRegistry).unsetCommandDescriptionService(commandDescriptionService);
         verify(item).setCommandDescriptionService(null);
     }
+
+    @Test
+    public void assertItemsAddedAtOnceAreWiredAndAnnouncedPerItem() throws ItemNotFoundException {
+        ItemRegistryChangeListener itemRegistryChangeListener = mock(ItemRegistryChangeListener.class);
+        @SuppressWarnings("unchecked")
+        RegistryChangeListener<Item> registryChangeListener = mock(RegistryChangeListener.class);
+        itemRegistry.addRegistryChangeListener(itemRegistryChangeListener);
+        itemRegistry.addRegistryChangeListener(registryChangeListener);
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            SwitchItem member = new SwitchItem("member" + i);
+            member.addGroupName("bulkGroup");
+            items.add(member);
+        }
+        items.add(new GroupItem("bulkGroup"));
+
+        ((ItemRegistryImpl) itemRegistry).addedAll(itemProvider, items);
+
+        GroupItem groupItem = (GroupItem) itemRegistry.getItem("bulkGroup");
+        assertThat(groupItem.getMembers(), hasSize(5));
+        verify(itemRegistryChangeListener, times(6)).added(any());
+        verify(itemRegistryChangeListener, never()).allItemsChanged(any());
+        verify(registryChangeListener, times(6)).added(any());
+        verify(eventPublisherMock, times(6)).post(org.mockito.ArgumentMatchers.isA(ItemAddedEvent.class));
+    }
+
+    @Test
+    public void assertFewItemsAddedAtOnceAreAnnouncedOneByOne() {
+        ItemRegistryChangeListener itemRegistryChangeListener = mock(ItemRegistryChangeListener.class);
+        itemRegistry.addRegistryChangeListener(itemRegistryChangeListener);
+
+        Item item1 = new SwitchItem("switch1");
+        Item item2 = new SwitchItem("switch2");
+        ((ItemRegistryImpl) itemRegistry).addedAll(itemProvider, List.of(item1, item2));
+
+        verify(itemRegistryChangeListener).added(item1);
+        verify(itemRegistryChangeListener).added(item2);
+        verify(itemRegistryChangeListener, never()).allItemsChanged(any());
+    }
+
+    @Test
+    public void assertItemsUpdatedAtOnceAreAnnouncedPerItem() {
+        Item item1 = new SwitchItem("switch1");
+        Item item2 = new SwitchItem("switch2");
+        ((ItemRegistryImpl) itemRegistry).addedAll(itemProvider, List.of(item1, item2));
+
+        ItemRegistryChangeListener itemRegistryChangeListener = mock(ItemRegistryChangeListener.class);
+        itemRegistry.addRegistryChangeListener(itemRegistryChangeListener);
+
+        Item updatedItem1 = new SwitchItem("switch1");
+        Item updatedItem2 = new SwitchItem("switch2");
+        ((ItemRegistryImpl) itemRegistry).updatedAll(itemProvider, List.of(item1, item2),
+                List.of(updatedItem1, updatedItem2));
+
+        verify(itemRegistryChangeListener).updated(item1, updatedItem1);
+        verify(itemRegistryChangeListener).updated(item2, updatedItem2);
+        verify(itemRegistryChangeListener, never()).allItemsChanged(any());
+    }
 }
@@ -16,7 +16,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 import javax.measure.quantity.Temperature;
 
@@ -24,6 +30,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -31,6 +38,8 @@ import org.mockito.quality.Strictness;
 import org.openhab.core.common.SafeCaller;
 import org.openhab.core.common.registry.Provider;
 import org.openhab.core.common.registry.ProviderChangeListener;
+import org.openhab.core.common.registry.RegistryChangeListener;
+import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.i18n.UnitProvider;
 import org.openhab.core.items.Item;
@@ -41,6 +50,8 @@ import org.openhab.core.items.Metadata;
 import org.openhab.core.items.MetadataKey;
 import org.openhab.core.items.events.ItemCommandEvent;
 import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateBatchEvent;
+import org.openhab.core.items.events.ItemStateEvent;
 import org.openhab.core.library.CoreItemFactory;
 import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.library.items.SwitchItem;
@@ -72,12 +83,14 @@ import org.openhab.core.thing.profiles.ProfileContext;
 import org.openhab.core.thing.profiles.ProfileFactory;
 import org.openhab.core.thing.profiles.ProfileTypeProvider;
 import org.openhab.core.thing.profiles.ProfileTypeUID;
+import org.openhab.core.thing.profiles.StateProfile;
 import org.openhab.core.thing.profiles.TimeSeriesProfile;
 import org.openhab.core.thing.profiles.TriggerProfile;
 import org.openhab.core.thing.type.ChannelKind;
 import org.openhab.core.thing.type.ChannelType;
 import org.openhab.core.thing.type.ChannelTypeUID;
 import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
 import org.openhab.core.types.TimeSeries;
 import org.osgi.framework.BundleContext;
 
@@ -256,6 +269,77 @@ public class CommunicationManagerOSGiTest extends JavaOSGiTest {
         verifyNoMoreInteractions(triggerProfileMock);
     }
 
+    @Test
+    public void testStateUpdatesOfSeveralChannelsArePostedAsOneBatch() {
+        useForwardingStateProfiles((callback, state) -> callback.sendUpdate(state));
+
+        manager.stateUpdated(Map.of(STATE_CHANNEL_UID_1, OnOffType.ON, STATE_CHANNEL_UID_2, OnOffType.OFF));
+
+        List<Event> events = capturePostedEvents(1);
+        ItemStateBatchEvent batchEvent = assertInstanceOf(ItemStateBatchEvent.class, events.getFirst());
+        assertEquals(Set.of(ITEM_NAME_1 + "=ON", ITEM_NAME_1 + "=OFF", ITEM_NAME_2 + "=OFF"),
+                batchEvent.getEvents().stream().map(event -> event.getItemName() + "=" + event.getItemState())
+                        .collect(Collectors.toSet()));
+        assertEquals(3, batchEvent.getEvents().size());
+    }
+
+    @Test
+    public void testSingleStateUpdateOfABatchIsPostedUnwrapped() {
+        useForwardingStateProfiles((callback, state) -> callback.sendUpdate(state));
+
+        manager.stateUpdated(Map.of(STATE_CHANNEL_UID_1, OnOffType.ON));
+
+        List<Event> events = capturePostedEvents(1);
+        ItemStateEvent stateEvent = assertInstanceOf(ItemStateEvent.class, events.getFirst());
+        assertEquals(ITEM_NAME_1, stateEvent.getItemName());
+        assertEquals(OnOffType.ON, stateEvent.getItemState());
+    }
+
+    @Test
+    public void testNestedBatchIsMergedIntoTheOuterBatch() {
+        useForwardingStateProfiles((callback, state) -> {
+            callback.sendUpdate(state);
+            if (OnOffType.ON.equals(state)) {
+                manager.stateUpdated(Map.of(STATE_CHANNEL_UID_2, OnOffType.OFF));
+            }
+        });
+
+        manager.stateUpdated(Map.of(STATE_CHANNEL_UID_1, OnOffType.ON));
+
+        List<Event> events = capturePostedEvents(1);
+        ItemStateBatchEvent batchEvent = assertInstanceOf(ItemStateBatchEvent.class, events.getFirst());
+        assertEquals(ITEM_NAME_1, batchEvent.getEvents().getFirst().getItemName());
+        assertEquals(OnOffType.ON, batchEvent.getEvents().getFirst().getItemState());
+        assertEquals(3, batchEvent.getEvents().size());
+    }
+
+    @Test
+    public void testCommandOfAProfileIsPostedAfterTheStateUpdatesBeforeIt() {
+        // numbers are sent as commands, all other states as updates
+        useForwardingStateProfiles((callback, state) -> {
+            if (state instanceof DecimalType decimalType) {
+                callback.sendCommand(decimalType);
+            } else {
+                callback.sendUpdate(state);
+            }
+        });
+
+        Map<ChannelUID, State> states = new LinkedHashMap<>();
+        states.put(STATE_CHANNEL_UID_1, OnOffType.ON);
+        states.put(STATE_CHANNEL_UID_4, new DecimalType(5));
+        states.put(STATE_CHANNEL_UID_2, OnOffType.OFF);
+        manager.stateUpdated(states);
+
+        List<Event> events = capturePostedEvents(3);
+        ItemStateEvent stateEvent = assertInstanceOf(ItemStateEvent.class, events.get(0));
+        assertEquals(ITEM_NAME_1, stateEvent.getItemName());
+        assertEquals(OnOffType.ON, stateEvent.getItemState());
+        ItemCommandEvent commandEvent = assertInstanceOf(ItemCommandEvent.class, events.get(1));
+        assertEquals(ITEM_NAME_4, commandEvent.getItemName());
+        ItemStateBatchEvent batchEvent = assertInstanceOf(ItemStateBatchEvent.class, events.get(2));
+        assertEquals(2, batchEvent.getEvents().size());
+    }
+
     @Test
     public void testPostCommandSingleLink() {
         manager.postCommand(STATE_CHANNEL_UID_1, OnOffType.ON);
@@ -578,6 +662,161 @@ public class CommunicationManagerOSGiTest extends JavaOSGiTest {
         verifyNoMoreInteractions(profileAdvisorMock);
     }
 
+    @Test
+    public void testRoutesAreRebuiltAfterLinkChanges() {
+        List<ProviderChangeListener<ItemChannelLink>> listeners = new CopyOnWriteArrayList<>();
+        ItemChannelLinkProvider provider = new ItemChannelLinkProvider() {
+            @Override
+            public void addProviderChangeListener(ProviderChangeListener<ItemChannelLink> listener) {
+                listeners.add(listener);
+            }
+
+            @Override
+            public void removeProviderChangeListener(ProviderChangeListener<ItemChannelLink> listener) {
+                listeners.remove(listener);
+            }
+
+            @Override
+            public Collection<ItemChannelLink> getAll() {
+                return List.of();
+            }
+        };
+        iclRegistry.addProvider(provider);
+        ItemChannelLink link = new ItemChannelLink(ITEM_NAME_3, STATE_CHANNEL_UID_4);
+        DecimalType command = new DecimalType(20);
+
+        manager.receive(ItemEventFactory.createCommandEvent(ITEM_NAME_3, command));
+        waitForAssert(() -> verify(stateProfileMock).onCommandFromItem(eq(command), isNull()));
+
+        listeners.forEach(listener -> listener.added(provider, link));
+        manager.receive(ItemEventFactory.createCommandEvent(ITEM_NAME_3, command));
+        waitForAssert(() -> verify(stateProfileMock, times(3)).onCommandFromItem(eq(command), isNull()));
+        manager.stateUpdated(STATE_CHANNEL_UID_4, command);
+        verify(stateProfileMock, times(2)).onStateUpdateFromHandler(eq(command));
+
+        listeners.forEach(listener -> listener.updated(provider, link, link));
+        manager.receive(ItemEventFactory.createCommandEvent(ITEM_NAME_3, command));
+        waitForAssert(() -> verify(stateProfileMock, times(5)).onCommandFromItem(eq(command), isNull()));
+        // besides the profiles of the three links, the profile of the updated link is created again
+        verify(profileFactoryMock, times(4)).createProfile(eq(new ProfileTypeUID("test:state")),
+                isA(ProfileCallback.class), isA(ProfileContext.class));
+
+        listeners.forEach(listener -> listener.removed(provider, link));
+        manager.receive(ItemEventFactory.createCommandEvent(ITEM_NAME_3, command));
+        waitForAssert(() -> verify(stateProfileMock, times(6)).onCommandFromItem(eq(command), isNull()));
+        manager.stateUpdated(STATE_CHANNEL_UID_4, command);
+        verify(stateProfileMock, times(3)).onStateUpdateFromHandler(eq(command));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRoutesAreRebuiltAfterItemUpdate() {
+        ArgumentCaptor<RegistryChangeListener<Item>> listenerCaptor = ArgumentCaptor
+                .forClass(RegistryChangeListener.class);
+        verify(itemRegistryMock, atLeastOnce()).addRegistryChangeListener(listenerCaptor.capture());
+
+        manager.receive(ItemEventFactory.createCommandEvent(ITEM_NAME_3, DecimalType.valueOf("20")));
+        waitForAssert(() -> verify(stateProfileMock).onCommandFromItem(eq(DecimalType.valueOf("20")), isNull()));
+
+        // the channel of the link accepts temperatures, so the unit of the new item is added to the command
+        NumberItem item3 = new NumberItem("Number:Temperature", ITEM_NAME_3, UNIT_PROVIDER_MOCK);
+        when(itemRegistryMock.get(eq(ITEM_NAME_3))).thenReturn(item3);
+        listenerCaptor.getAllValues().stream().filter(listener -> listener != iclRegistry)
+                .forEach(listener -> listener.updated(ITEM_3, item3));
+
+        manager.receive(ItemEventFactory.createCommandEvent(ITEM_NAME_3, DecimalType.valueOf("20")));
+        waitForAssert(() -> verify(stateProfileMock).onCommandFromItem(eq(QuantityType.valueOf("20 °C")), isNull()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRoutesAreRebuiltAfterThingUpdate() {
+        ArgumentCaptor<RegistryChangeListener<Thing>> listenerCaptor = ArgumentCaptor
+                .forClass(RegistryChangeListener.class);
+        verify(thingRegistryMock).addRegistryChangeListener(listenerCaptor.capture());
+
+        manager.receive(ItemEventFactory.createCommandEvent(ITEM_NAME_5, DecimalType.valueOf("20")));
+        waitForAssert(() -> verify(stateProfileMock).onCommandFromItem(eq(QuantityType.valueOf("20 °C")), isNull()));
+
+        // the channel accepts plain numbers now, so the command is not converted anymore
+        Thing thing = ThingBuilder.create(THING_TYPE_UID, THING_UID)
+                .withChannels(ChannelBuilder.create(STATE_CHANNEL_UID_5, CoreItemFactory.NUMBER)
+                        .withKind(ChannelKind.STATE).build())
+                .build();
+        thing.setHandler(thingHandlerMock);
+        when(thingRegistryMock.get(eq(THING_UID))).thenReturn(thing);
+        listenerCaptor.getValue().updated(THING, thing);
+
+        manager.receive(ItemEventFactory.createCommandEvent(ITEM_NAME_5, DecimalType.valueOf("20")));
+        waitForAssert(() -> verify(stateProfileMock).onCommandFromItem(eq(DecimalType.valueOf("20")), isNull()));
+    }
+
+    @Test
+    public void testRoutesAreRebuiltAfterProfileFactoryRemoval() {
+        manager.receive(ItemEventFactory.createCommandEvent(ITEM_NAME_3, DecimalType.valueOf("20")));
+        waitForAssert(() -> verify(stateProfileMock).onCommandFromItem(eq(DecimalType.valueOf("20")), isNull()));
+
+        manager.removeProfileFactory(profileFactoryMock);
+        manager.addProfileFactory(profileFactoryMock);
+
+        manager.receive(ItemEventFactory.createCommandEvent(ITEM_NAME_3, DecimalType.valueOf("20")));
+        waitForAssert(() -> verify(stateProfileMock, times(2)).onCommandFromItem(eq(DecimalType.valueOf("20")),
+                isNull()));
+        verify(profileFactoryMock, times(2)).createProfile(eq(new ProfileTypeUID("test:state")),
+                isA(ProfileCallback.class), isA(ProfileContext.class));
+    }
+
+    private void useForwardingStateProfiles(BiConsumer<ProfileCallback, State> handlerStateAction) {
+        when(itemStateConverterMock.convertToAcceptedState(any(), any())).thenAnswer(invocation -> {
+            return invocation.getArgument(0);
+        });
+        doAnswer(invocation -> {
+            return new ForwardingStateProfile(invocation.getArgument(1), handlerStateAction);
+        }).when(profileFactoryMock).createProfile(eq(new ProfileTypeUID("test:state")), isA(ProfileCallback.class),
+                isA(ProfileContext.class));
+    }
+
+    private List<Event> capturePostedEvents(int count) {
+        ArgumentCaptor<Event> eventCaptor = ArgumentCaptor.forClass(Event.class);
+        verify(eventPublisherMock, times(count)).post(eventCaptor.capture());
+        return eventCaptor.getAllValues();
+    }
+
+    /**
+     * A state profile that hands the states from the handler to an action, which uses its callback.
+     */
+    private static class ForwardingStateProfile implements StateProfile {
+        private final ProfileCallback callback;
+        private final BiConsumer<ProfileCallback, State> handlerStateAction;
+
+        ForwardingStateProfile(ProfileCallback callback, BiConsumer<ProfileCallback, State> handlerStateAction) {
+            this.callback = callback;
+            this.handlerStateAction = handlerStateAction;
+        }
+
+        @Override
+        public ProfileTypeUID getProfileTypeUID() {
+            return new ProfileTypeUID("test:state");
+        }
+
+        @Override
+        public void onStateUpdateFromItem(State state) {
+        }
+
+        @Override
+        public void onCommandFromItem(Command command) {
+        }
+
+        @Override
+        public void onCommandFromHandler(Command command) {
+        }
+
+        @Override
+        public void onStateUpdateFromHandler(State state) {
+            handlerStateAction.accept(callback, state);
+        }
+    }
+
     @Test
     public void testItemCommandTypeDowncast() {
         Thing thing = ThingBuilder
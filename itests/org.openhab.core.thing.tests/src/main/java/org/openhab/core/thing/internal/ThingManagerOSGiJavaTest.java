@@ -24,7 +24,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -244,6 +248,112 @@ public class ThingManagerOSGiJavaTest extends JavaOSGiTest {
         managedThingProvider.remove(thing.getUID());
     }
 
+    @Test
+    public void testThingsOfAddedFactoryAreInitializedInParallelAndBridgesFirst() {
+        // the things are added before their handler factory, the child before its bridge
+        Thing child = ThingBuilder.create(THING_WITH_BRIDGE_TYPE_UID, THING_UID).withBridge(BRIDGE_UID).build();
+        Bridge bridge = BridgeBuilder.create(BRIDGE_TYPE_UID, BRIDGE_UID).build();
+        Thing thing1 = ThingBuilder.create(THING_TYPE_UID, new ThingUID(THING_TYPE_UID, "thing1")).build();
+        Thing thing2 = ThingBuilder.create(THING_TYPE_UID, new ThingUID(THING_TYPE_UID, "thing2")).build();
+        managedThingProvider.add(child);
+        managedThingProvider.add(bridge);
+        managedThingProvider.add(thing1);
+        managedThingProvider.add(thing2);
+
+        CountDownLatch bothInitializing = new CountDownLatch(2);
+        List<ThingUID> initializedThings = new CopyOnWriteArrayList<>();
+        registerThingHandlerFactory(Set.of(THING_TYPE_UID, THING_WITH_BRIDGE_TYPE_UID, BRIDGE_TYPE_UID), thing -> {
+            if (thing instanceof Bridge b) {
+                return new BaseBridgeHandler(b) {
+                    @Override
+                    public void handleCommand(ChannelUID channelUID, Command command) {
+                    }
+
+                    @Override
+                    public void initialize() {
+                        initializedThings.add(getThing().getUID());
+                        updateStatus(ThingStatus.ONLINE);
+                    }
+                };
+            }
+            return new BaseThingHandler(thing) {
+                @Override
+                public void handleCommand(ChannelUID channelUID, Command command) {
+                }
+
+                @Override
+                public void initialize() {
+                    if (getThing().getBridgeUID() != null) {
+                        initializedThings.add(getThing().getUID());
+                        updateStatus(ThingStatus.ONLINE);
+                        return;
+                    }
+                    // only gets ONLINE if both things without a bridge are initialized at the same time
+                    bothInitializing.countDown();
+                    try {
+                        updateStatus(bothInitializing.await(5, TimeUnit.SECONDS) ? ThingStatus.ONLINE
+                                : ThingStatus.OFFLINE);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+        });
+
+        waitForAssert(() -> {
+            assertEquals(ThingStatus.ONLINE, thing1.getStatus());
+            assertEquals(ThingStatus.ONLINE, thing2.getStatus());
+            assertEquals(ThingStatus.ONLINE, bridge.getStatus());
+            assertEquals(ThingStatus.ONLINE, child.getStatus());
+        });
+        assertEquals(List.of(BRIDGE_UID, THING_UID), initializedThings);
+    }
+
+    @Test
+    public void testHandlerIsDisposedIfFactoryIsRemovedDuringInitialization() throws InterruptedException {
+        Thing thing = ThingBuilder.create(THING_TYPE_UID, THING_UID).build();
+        managedThingProvider.add(thing);
+
+        CountDownLatch initializing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean disposed = new AtomicBoolean();
+        registerThingHandlerFactory(THING_TYPE_UID, t -> new BaseThingHandler(t) {
+            @Override
+            public void handleCommand(ChannelUID channelUID, Command command) {
+            }
+
+            @Override
+            public void initialize() {
+                initializing.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                updateStatus(ThingStatus.ONLINE);
+            }
+
+            @Override
+            public void dispose() {
+                disposed.set(true);
+            }
+        });
+        assertTrue(initializing.await(5, TimeUnit.SECONDS));
+
+        // the removal waits for the initialization, which holds the lock of the thing
+        Thread removal = new Thread(() -> unregisterService(ThingHandlerFactory.class.getName()));
+        removal.start();
+        release.countDown();
+        removal.join(10000);
+
+        waitForAssert(() -> {
+            assertTrue(disposed.get());
+            assertNull(thing.getHandler());
+            assertEquals(ThingStatus.UNINITIALIZED, thing.getStatus());
+            assertEquals(ThingStatusDetail.HANDLER_MISSING_ERROR, thing.getStatusInfo().getStatusDetail());
+        });
+    }
+
     @Test
     public void testInitializeCallsThingUpdated() {
         AtomicReference<ThingHandlerCallback> thc = new AtomicReference<>();
@@ -1038,10 +1148,15 @@ public class ThingManagerOSGiJavaTest extends JavaOSGiTest {
 
     private void registerThingHandlerFactory(ThingTypeUID thingTypeUID,
             Function<Thing, ThingHandler> thingHandlerProducer) {
+        registerThingHandlerFactory(Set.of(thingTypeUID), thingHandlerProducer);
+    }
+
+    private void registerThingHandlerFactory(Set<ThingTypeUID> thingTypeUIDs,
+            Function<Thing, ThingHandler> thingHandlerProducer) {
         ComponentContext context = mock(ComponentContext.class);
         when(context.getBundleContext()).thenReturn(bundleContext);
 
-        TestThingHandlerFactory mockThingHandlerFactory = new TestThingHandlerFactory(thingTypeUID,
+        TestThingHandlerFactory mockThingHandlerFactory = new TestThingHandlerFactory(thingTypeUIDs,
                 thingHandlerProducer);
         mockThingHandlerFactory.activate(context);
         registerService(mockThingHandlerFactory, ThingHandlerFactory.class.getName());
@@ -1093,11 +1208,12 @@ public class ThingManagerOSGiJavaTest extends JavaOSGiTest {
 
     private static class TestThingHandlerFactory extends BaseThingHandlerFactory {
 
-        private final ThingTypeUID thingTypeUID;
+        private final Set<ThingTypeUID> thingTypeUIDs;
         private final Function<Thing, ThingHandler> thingHandlerProducer;
 
-        public TestThingHandlerFactory(ThingTypeUID thingTypeUID, Function<Thing, ThingHandler> thingHandlerProducer) {
-            this.thingTypeUID = thingTypeUID;
+        public TestThingHandlerFactory(Set<ThingTypeUID> thingTypeUIDs,
+                Function<Thing, ThingHandler> thingHandlerProducer) {
+            this.thingTypeUIDs = thingTypeUIDs;
             this.thingHandlerProducer = thingHandlerProducer;
         }
 
@@ -1108,7 +1224,7 @@ public class ThingManagerOSGiJavaTest extends JavaOSGiTest {
 
         @Override
         public boolean supportsThingType(ThingTypeUID thingTypeUID) {
-            return this.thingTypeUID.equals(thingTypeUID);
+            return thingTypeUIDs.contains(thingTypeUID);
         }
 
         @Override
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.items.GroupFunction;
+import org.openhab.core.items.IncrementalGroupFunction;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.ArithmeticGroupFunction;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.types.State;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link ArithmeticGroupFunctionBenchmark} measures the aggregation of the member states of a group, which is
+ * computed by the {@link org.openhab.core.items.GroupItem} on every state update of one of its members.
+ * <p>
+ * The {@code Incremental} benchmarks replace the contribution of a single member in an
+ * {@link IncrementalGroupFunction.Accumulator}, as done by the group item for incremental functions.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArithmeticGroupFunctionBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int memberCount;
+
+    private final IncrementalGroupFunction sum = new ArithmeticGroupFunction.Sum();
+    private final IncrementalGroupFunction avg = new ArithmeticGroupFunction.Avg();
+    private final IncrementalGroupFunction max = new ArithmeticGroupFunction.Max();
+    private final GroupFunction or = new ArithmeticGroupFunction.Or(OnOffType.ON, OnOffType.OFF);
+
+    private final Set<Item> numberItems = new HashSet<>();
+    private final Set<Item> switchItems = new HashSet<>();
+    private final List<Item> updatedItems = new ArrayList<>();
+    private @NonNullByDefault({}) IncrementalGroupFunction.Accumulator<?> sumAccumulator;
+    private @NonNullByDefault({}) IncrementalGroupFunction.Accumulator<?> maxAccumulator;
+    private int updatedIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < memberCount; i++) {
+            NumberItem numberItem = new NumberItem("Number" + i);
+            numberItem.setState(new DecimalType(i * 0.5));
+            numberItems.add(numberItem);
+            SwitchItem switchItem = new SwitchItem("Switch" + i);
+            // all switches off, so that OR has to check every member
+            switchItem.setState(OnOffType.OFF);
+            switchItems.add(switchItem);
+        }
+        updatedItems.addAll(numberItems);
+        sumAccumulator = Objects.requireNonNull(sum.createAccumulator());
+        sumAccumulator.reset(numberItems);
+        maxAccumulator = Objects.requireNonNull(max.createAccumulator());
+        maxAccumulator.reset(numberItems);
+    }
+
+    @Benchmark
+    public State sum() {
+        return sum.calculate(numberItems);
+    }
+
+    @Benchmark
+    public State avg() {
+        return avg.calculate(numberItems);
+    }
+
+    @Benchmark
+    public State max() {
+        return max.calculate(numberItems);
+    }
+
+    @Benchmark
+    public State or() {
+        return or.calculate(switchItems);
+    }
+
+    @Benchmark
+    public State sumIncremental() {
+        sumAccumulator.update(nextUpdatedItem());
+        return sumAccumulator.getState();
+    }
+
+    @Benchmark
+    public State maxIncremental() {
+        maxAccumulator.update(nextUpdatedItem());
+        return maxAccumulator.getState();
+    }
+
+    private Item nextUpdatedItem() {
+        updatedIndex = (updatedIndex + 1) % updatedItems.size();
+        return updatedItems.get(updatedIndex);
+    }
+}
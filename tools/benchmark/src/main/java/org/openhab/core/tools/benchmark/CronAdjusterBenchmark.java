@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmark;
+import java.time.ZonedDateTime;
+import java.time.temporal.Temporal;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.scheduler.CronAdjuster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link CronAdjusterBenchmark} measures the computation of the next fire time of a cron expression, which is
+ * done by the cron scheduler every time a job has run.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CronAdjusterBenchmark {
+
+    private static final ZonedDateTime START = ZonedDateTime.parse("2025-01-01T00:00:00+01:00[Europe/Berlin]");
+
+    @Param({ "0/10 * * * * *", "0 0 12 ? * MON-FRI", "0 15 10 L * ?", "0 0 0 29 2 ? *" })
+    public @NonNullByDefault({}) String expression;
+
+    private @NonNullByDefault({}) CronAdjuster cronAdjuster;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cronAdjuster = new CronAdjuster(expression);
+    }
+
+    @Benchmark
+    public CronAdjuster parse() {
+        return new CronAdjuster(expression);
+    }
+
+    @Benchmark
+    public Temporal nextFireTime() {
+        return cronAdjuster.adjustInto(START);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmark;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFactory;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.internal.events.EventHandler;
+import org.openhab.core.internal.events.EventSubscriberIndex;
+import org.openhab.core.internal.events.OSGiEventPublisher;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.osgi.service.event.EventAdmin;
+
+/**
+ * The {@link EventBusBenchmark} measures the round trip of an item state event from
+ * {@link OSGiEventPublisher#post(Event)} to a subscriber, comparing the serialized delivery (payload built on
+ * publishing, event re-created by the {@link ItemEventFactory}) with the in-process typed delivery.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBusBenchmark {
+
+    private static final String ITEM_NAME = "Livingroom_Temperature";
+    private static final State DECIMAL_STATE = new DecimalType(21.5);
+    private static final State QUANTITY_STATE = new QuantityType<>("21.5 °C");
+
+    @Param({ "false", "true" })
+    public boolean typedDelivery;
+
+    @Param({ "false", "true" })
+    public boolean readPayload;
+
+    private @NonNullByDefault({}) EventHandler eventHandler;
+    private @NonNullByDefault({}) OSGiEventPublisher eventPublisher;
+    private @NonNullByDefault({}) CountingSubscriber subscriber;
+    private long posted;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        subscriber = new CountingSubscriber(readPayload);
+        EventSubscriberIndex eventSubscriberIndex = new EventSubscriberIndex();
+        eventSubscriberIndex.add(subscriber);
+        Map<String, EventFactory> typedEventFactories = new ConcurrentHashMap<>();
+        ItemEventFactory itemEventFactory = new ItemEventFactory();
+        itemEventFactory.getSupportedEventTypes().forEach(type -> typedEventFactories.put(type, itemEventFactory));
+
+        eventHandler = new EventHandler(eventSubscriberIndex, typedEventFactories);
+        Map<String, Object> configuration = Map.of("typedDelivery", String.valueOf(typedDelivery));
+        eventPublisher = new OSGiEventPublisher(configuration, new DirectEventAdmin(eventHandler));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        eventHandler.close();
+    }
+
+    @Benchmark
+    public long postDecimalStateEvent() {
+        return postAndAwait(ItemEventFactory.createStateEvent(ITEM_NAME, DECIMAL_STATE, null));
+    }
+
+    @Benchmark
+    public long postQuantityStateEvent() {
+        return postAndAwait(ItemEventFactory.createStateEvent(ITEM_NAME, QUANTITY_STATE, null));
+    }
+
+    private long postAndAwait(Event event) {
+        long expected = ++posted;
+        eventPublisher.post(event);
+        while (subscriber.received.get() < expected) {
+            Thread.onSpinWait();
+        }
+        return expected;
+    }
+
+    /**
+     * Hands the OSGi events synchronously to the {@link EventHandler}, as the OSGi event admin would do on its own
+     * thread.
+     */
+    private static class DirectEventAdmin implements EventAdmin {
+        private final EventHandler eventHandler;
+
+        DirectEventAdmin(EventHandler eventHandler) {
+            this.eventHandler = eventHandler;
+        }
+
+        @Override
+        public void postEvent(org.osgi.service.event.Event event) {
+            eventHandler.handleEvent(event);
+        }
+
+        @Override
+        public void sendEvent(org.osgi.service.event.Event event) {
+            eventHandler.handleEvent(event);
+        }
+    }
+
+    private static class CountingSubscriber implements EventSubscriber {
+        private final AtomicLong received = new AtomicLong();
+        private final boolean readPayload;
+        private volatile int payloadLength;
+
+        CountingSubscriber(boolean readPayload) {
+            this.readPayload = readPayload;
+        }
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return Set.of(ItemStateEvent.TYPE);
+        }
+
+        @Override
+        public void receive(Event event) {
+            if (readPayload) {
+                payloadLength = event.getPayload().length();
+            }
+            received.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.events.TopicPrefixEventFilter;
+import org.openhab.core.internal.events.EventSubscriberIndex;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateChangedEvent;
+import org.openhab.core.library.types.OnOffType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The {@link EventDispatchBenchmark} measures how the subscribers of an item event are resolved when every
+ * subscriber is an item trigger with a {@link TopicPrefixEventFilter}, as registered by the rule engine.
+ * <p>
+ * {@code linearScan} applies the filter of every subscriber of the event type, {@code indexed} uses the
+ * {@link EventSubscriberIndex}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventDispatchBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    public int subscriberCount;
+
+    private final List<EventSubscriber> subscribers = new ArrayList<>();
+    private final EventSubscriberIndex eventSubscriberIndex = new EventSubscriberIndex();
+    private @NonNullByDefault({}) Event event;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (int i = 0; i < subscriberCount; i++) {
+            EventSubscriber subscriber = new ItemTriggerSubscriber("Item" + i);
+            subscribers.add(subscriber);
+            eventSubscriberIndex.add(subscriber);
+        }
+        event = ItemEventFactory.createStateChangedEvent("Item" + (subscriberCount / 2), OnOffType.ON, OnOffType.OFF,
+                null, null);
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        for (EventSubscriber subscriber : subscribers) {
+            EventFilter filter = subscriber.getEventFilter();
+            if (filter == null || filter.apply(event)) {
+                blackhole.consume(subscriber);
+            }
+        }
+    }
+
+    @Benchmark
+    public void indexed(Blackhole blackhole) {
+        for (EventSubscriber subscriber : eventSubscriberIndex.getSubscribers(event)) {
+            EventFilter filter = subscriber.getEventFilter();
+            if (filter == null || filter.apply(event)) {
+                blackhole.consume(subscriber);
+            }
+        }
+    }
+
+    private static class ItemTriggerSubscriber implements EventSubscriber {
+        private final EventFilter eventFilter;
+
+        ItemTriggerSubscriber(String itemName) {
+            eventFilter = new TopicPrefixEventFilter("openhab/items/" + itemName + "/");
+        }
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return Set.of(ItemStateChangedEvent.TYPE);
+        }
+
+        @Override
+        public @Nullable EventFilter getEventFilter() {
+            return eventFilter;
+        }
+
+        @Override
+        public void receive(Event event) {
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.StateChangeListener;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The {@link GenericItemBenchmark} measures {@link org.openhab.core.items.GenericItem#setState(State)} with a number of
+ * registered {@link StateChangeListener}s, e.g. the groups the item is a member of.
+ * <p>
+ * Run with {@code -prof gc} to see the bytes allocated per update in {@code gc.alloc.rate.norm}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenericItemBenchmark {
+
+    private static final State[] STATES = { new DecimalType(21.5), new DecimalType(22) };
+
+    @Param({ "0", "1", "10" })
+    public int listenerCount;
+
+    private @NonNullByDefault({}) NumberItem item;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        item = new NumberItem("Livingroom_Temperature");
+        for (int i = 0; i < listenerCount; i++) {
+            item.addStateChangeListener(new ConsumingListener(blackhole));
+        }
+    }
+
+    @Benchmark
+    public void setChangedState() {
+        index ^= 1;
+        item.setState(STATES[index]);
+    }
+
+    @Benchmark
+    public void setUnchangedState() {
+        item.setState(STATES[0]);
+    }
+
+    private static class ConsumingListener implements StateChangeListener {
+        private final Blackhole blackhole;
+
+        ConsumingListener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void stateChanged(Item item, State oldState, State newState) {
+            blackhole.consume(newState);
+        }
+
+        @Override
+        public void stateUpdated(Item item, State state) {
+            blackhole.consume(state);
+        }
+    }
+}
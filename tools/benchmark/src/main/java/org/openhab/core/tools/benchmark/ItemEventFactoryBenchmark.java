@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.Event;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateChangedEvent;
+import org.openhab.core.items.events.ItemStateEvent;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link ItemEventFactoryBenchmark} measures the creation of item events, the serialization of their payload and
+ * the re-creation of an event from a serialized payload, as done for every event received by the event manager.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemEventFactoryBenchmark {
+
+    private static final String ITEM_NAME = "Livingroom_Temperature";
+    private static final State DECIMAL_STATE = new DecimalType(21.5);
+    private static final State QUANTITY_STATE = new QuantityType<>("21.5 °C");
+
+    private final ItemEventFactory itemEventFactory = new ItemEventFactory();
+    private @NonNullByDefault({}) String stateEventTopic;
+    private @NonNullByDefault({}) String stateEventPayload;
+    private @NonNullByDefault({}) String stateChangedEventTopic;
+    private @NonNullByDefault({}) String stateChangedEventPayload;
+    private @NonNullByDefault({}) String commandEventTopic;
+    private @NonNullByDefault({}) String commandEventPayload;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Event stateEvent = ItemEventFactory.createStateEvent(ITEM_NAME, QUANTITY_STATE, null);
+        stateEventTopic = stateEvent.getTopic();
+        stateEventPayload = stateEvent.getPayload();
+        Event stateChangedEvent = ItemEventFactory.createStateChangedEvent(ITEM_NAME, QUANTITY_STATE, DECIMAL_STATE,
+                null, null);
+        stateChangedEventTopic = stateChangedEvent.getTopic();
+        stateChangedEventPayload = stateChangedEvent.getPayload();
+        Event commandEvent = ItemEventFactory.createCommandEvent(ITEM_NAME, OnOffType.ON, null);
+        commandEventTopic = commandEvent.getTopic();
+        commandEventPayload = commandEvent.getPayload();
+    }
+
+    @Benchmark
+    public String serializeDecimalStateEvent() {
+        return ItemEventFactory.createStateEvent(ITEM_NAME, DECIMAL_STATE, null).getPayload();
+    }
+
+    @Benchmark
+    public String serializeQuantityStateEvent() {
+        return ItemEventFactory.createStateEvent(ITEM_NAME, QUANTITY_STATE, null).getPayload();
+    }
+
+    @Benchmark
+    public String serializeStateChangedEvent() {
+        return ItemEventFactory.createStateChangedEvent(ITEM_NAME, QUANTITY_STATE, DECIMAL_STATE, null, null)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Event deserializeStateEvent() throws Exception {
+        return itemEventFactory.createEvent(ItemStateEvent.TYPE, stateEventTopic, stateEventPayload, null);
+    }
+
+    @Benchmark
+    public Event deserializeCommandEvent() throws Exception {
+        return itemEventFactory.createEvent(ItemCommandEvent.TYPE, commandEventTopic, commandEventPayload, null);
+    }
+
+    @Benchmark
+    public Event deserializeStateChangedEvent() throws Exception {
+        return itemEventFactory.createEvent(ItemStateChangedEvent.TYPE, stateChangedEventTopic,
+                stateChangedEventPayload, null);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmark;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.storage.json.internal.JsonStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link JsonStorageBenchmark} measures reading and writing single entries of a {@link JsonStorage}, as done by
+ * the managed providers, writing the whole database file and loading it again.
+ * <p>
+ * The write delay is set high enough that no commit is scheduled in the background while measuring. With
+ * {@code sharedCache} all entries are kept in the decoded-object cache. With {@code journal}, a flush of a single
+ * changed entry is appended to the journal instead of rewriting the database file.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonStorageBenchmark {
+
+    private static final int WRITE_DELAY = (int) TimeUnit.HOURS.toMillis(1);
+
+    @Param({ "100", "1000", "10000" })
+    public int entryCount;
+
+    @Param({ "false", "true" })
+    public boolean sharedCache;
+
+    @Param({ "false", "true" })
+    public boolean journal;
+
+    private @NonNullByDefault({}) Path directory;
+    private @NonNullByDefault({}) JsonStorage<Entry> storage;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("jsonstorage-benchmark");
+        storage = new JsonStorage<>(new File(directory.toFile(), "benchmark.json"), getClass().getClassLoader(), 2,
+                WRITE_DELAY, WRITE_DELAY, List.of(), sharedCache ? entryCount : 0, JsonStorage.CacheMode.SHARED,
+                journal ? 16L * 1024 * 1024 : 0);
+        for (int i = 0; i < entryCount; i++) {
+            storage.put(key(i), new Entry(i));
+        }
+        storage.compact();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public @Nullable Entry get() {
+        index = (index + 1) % entryCount;
+        return storage.get(key(index));
+    }
+
+    @Benchmark
+    public @Nullable Entry put() {
+        index = (index + 1) % entryCount;
+        return storage.put(key(index), new Entry(index));
+    }
+
+    @Benchmark
+    public void flush() {
+        // mark the storage as dirty, otherwise nothing is written
+        storage.deferredCommit();
+        storage.flush();
+    }
+
+    @Benchmark
+    public void putAndFlush() {
+        index = (index + 1) % entryCount;
+        storage.put(key(index), new Entry(index));
+        storage.flush();
+    }
+
+    @Benchmark
+    public JsonStorage<Entry> load() {
+        return new JsonStorage<>(new File(directory.toFile(), "benchmark.json"), getClass().getClassLoader(), 2,
+                WRITE_DELAY, WRITE_DELAY, List.of());
+    }
+
+    private static String key(int i) {
+        return "Item" + i;
+    }
+
+    /**
+     * A value resembling the persisted items and metadata.
+     */
+    public static class Entry {
+        public String itemType = "Number:Temperature";
+        public @Nullable String label;
+        public List<String> groupNames = List.of("Livingroom", "Temperatures");
+        public Map<String, Object> configuration;
+
+        public Entry(int i) {
+            label = "Temperature " + i;
+            configuration = Map.of("index", i, "unit", "°C");
+        }
+    }
+}
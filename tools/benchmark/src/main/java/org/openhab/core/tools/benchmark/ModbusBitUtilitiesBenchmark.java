@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmark;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.library.types.DecimalType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link ModbusBitUtilitiesBenchmark} measures decoding a value of a polled block of Modbus registers, which is
+ * done for every data thing on every poll.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModbusBitUtilitiesBenchmark {
+
+    private static final ModbusRegisterArray REGISTERS = new ModbusRegisterArray(0x4148, 0xf5c3, 0x0102, 0x0304,
+            0xfffe, 0x0506, 0x0708, 0x090a);
+
+    @Param({ "INT16", "UINT32", "FLOAT32", "INT64_SWAP", "UINT64" })
+    public @NonNullByDefault({}) ValueType valueType;
+
+    @Benchmark
+    public Optional<DecimalType> extractStateFromRegisters() {
+        return ModbusBitUtilities.extractStateFromRegisters(REGISTERS, 2, valueType);
+    }
+
+    @Benchmark
+    public float extractFloat32() {
+        return ModbusBitUtilities.extractFloat32(REGISTERS.getBytes(), 0);
+    }
+}
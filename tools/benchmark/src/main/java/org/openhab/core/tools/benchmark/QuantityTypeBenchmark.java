@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import javax.measure.quantity.Energy;
+import javax.measure.quantity.Power;
+import javax.measure.quantity.Temperature;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.ImperialUnits;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.library.unit.Units;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link QuantityTypeBenchmark} measures parsing a {@link QuantityType} from a string, as done for every command
+ * or state received from a UI or a binding, the conversion to another unit and the arithmetic of group functions and
+ * persistence extensions.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuantityTypeBenchmark {
+
+    private static final QuantityType<Temperature> CELSIUS = new QuantityType<>(21.5, SIUnits.CELSIUS);
+    private static final QuantityType<Energy> KILOWATT_HOUR = new QuantityType<>(1.5, Units.KILOWATT_HOUR);
+
+    private static final List<QuantityType<Power>> POWER_VALUES = IntStream.range(0, 100)
+            .mapToObj(i -> new QuantityType<>(BigDecimal.valueOf(i * 25 + 3, 1), Units.WATT)).toList();
+    private static final List<QuantityType<Temperature>> TEMPERATURE_VALUES = IntStream.range(0, 100)
+            .mapToObj(i -> new QuantityType<>(BigDecimal.valueOf(i * 3 + 150, 1), SIUnits.CELSIUS)).toList();
+
+    @Benchmark
+    public QuantityType<?> parseTemperature() {
+        return new QuantityType<>("21.5 °C");
+    }
+
+    @Benchmark
+    public QuantityType<?> parsePrefixedUnit() {
+        return new QuantityType<>("1234.5 kWh");
+    }
+
+    @Benchmark
+    public QuantityType<?> parseCompoundUnit() {
+        return new QuantityType<>("12.3 m/s");
+    }
+
+    @Benchmark
+    public @Nullable QuantityType<Temperature> celsiusToFahrenheit() {
+        return CELSIUS.toUnit(ImperialUnits.FAHRENHEIT);
+    }
+
+    @Benchmark
+    public @Nullable QuantityType<Energy> kilowattHourToJoule() {
+        return KILOWATT_HOUR.toUnit(Units.JOULE);
+    }
+
+    @Benchmark
+    public @Nullable QuantityType<Energy> kilowattHourToJouleBySymbol() {
+        return KILOWATT_HOUR.toUnit("J");
+    }
+
+    /**
+     * Sums the values like the SUM group function does for a group of items in a system unit.
+     */
+    @Benchmark
+    public QuantityType<Power> sumOfPower() {
+        return POWER_VALUES.stream().reduce(new QuantityType<>(0, Units.WATT), QuantityType::add);
+    }
+
+    /**
+     * Compares the values like the MAX group function and the maximum persistence extension do.
+     */
+    @Benchmark
+    public @Nullable QuantityType<Temperature> maximumOfTemperature() {
+        return TEMPERATURE_VALUES.stream().max(QuantityType::compareTo).orElse(null);
+    }
+
+    /**
+     * Converts the values to the system unit, sums and divides them like the AVG group function does.
+     */
+    @Benchmark
+    public QuantityType<?> averageOfTemperature() {
+        QuantityType<Temperature> sum = new QuantityType<>(0, Units.KELVIN);
+        for (QuantityType<Temperature> value : TEMPERATURE_VALUES) {
+            QuantityType<Temperature> converted = value.toUnit(Units.KELVIN);
+            if (converted != null) {
+                sum = sum.add(converted);
+            }
+        }
+        return sum.divide(BigDecimal.valueOf(TEMPERATURE_VALUES.size()));
+    }
+}
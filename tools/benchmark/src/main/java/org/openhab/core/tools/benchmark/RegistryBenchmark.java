@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.registry.AbstractRegistry;
+import org.openhab.core.common.registry.Provider;
+import org.openhab.core.common.registry.ProviderChangeListener;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemProvider;
+import org.openhab.core.library.items.SwitchItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link RegistryBenchmark} measures concurrent lookups of elements by their key, as done for every link of every
+ * event by the communication manager.
+ * <p>
+ * {@code get} uses the {@link AbstractRegistry}, {@code readWriteLockedGet} a {@link HashMap} guarded by a
+ * {@link ReentrantReadWriteLock} as a reference for the previous implementation. Run with {@code -t} to change the
+ * number of reader threads.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class RegistryBenchmark {
+
+    private static final int ITEM_COUNT = 5000;
+
+    private final BenchmarkRegistry registry = new BenchmarkRegistry();
+    private final Map<String, Item> lockedItems = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<String> itemNames = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            Item item = new SwitchItem("Item" + i);
+            items.add(item);
+            lockedItems.put(item.getName(), item);
+            itemNames.add(item.getName());
+        }
+        registry.addProvider(new StaticItemProvider(items));
+    }
+
+    @Benchmark
+    public @Nullable Item get() {
+        return registry.get(nextItemName());
+    }
+
+    @Benchmark
+    public @Nullable Item readWriteLockedGet() {
+        String itemName = nextItemName();
+        lock.readLock().lock();
+        try {
+            return lockedItems.get(itemName);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private String nextItemName() {
+        return itemNames.get(ThreadLocalRandom.current().nextInt(ITEM_COUNT));
+    }
+
+    private static class BenchmarkRegistry extends AbstractRegistry<Item, String, ItemProvider> {
+
+        BenchmarkRegistry() {
+            super(null);
+        }
+
+        @Override
+        public void addProvider(Provider<Item> provider) {
+            super.addProvider(provider);
+        }
+    }
+
+    private static class StaticItemProvider implements ItemProvider {
+        private final Collection<Item> items;
+
+        StaticItemProvider(Collection<Item> items) {
+            this.items = items;
+        }
+
+        @Override
+        public Collection<Item> getAll() {
+            return items;
+        }
+
+        @Override
+        public void addProviderChangeListener(ProviderChangeListener<Item> listener) {
+        }
+
+        @Override
+        public void removeProviderChangeListener(ProviderChangeListener<Item> listener) {
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.tools.benchmark;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.internal.common.SafeCallManagerImpl;
+import org.openhab.core.internal.common.SafeCallerBuilderImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link SafeCallerBenchmark} measures concurrent safe-calls to many things, as done by the communication manager
+ * for every profile invocation.
+ * <p>
+ * {@code asyncCall} queues asynchronous calls to random things and waits until a batch of them is done,
+ * {@code syncCall} makes synchronous calls to random things. The identifiers are shared by all threads, so calls from
+ * different threads to the same thing are serialized. Run with {@code -t} to change the number of calling threads and
+ * compare the results with those of an earlier build.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class SafeCallerBenchmark {
+
+    private static final int THING_COUNT = 500;
+    private static final int POOL_SIZE = 8;
+    private static final int BATCH_SIZE = 100;
+    private static final long TIMEOUT = 5000;
+
+    @State(Scope.Benchmark)
+    public static class Manager {
+        private final Object[] things = new Object[THING_COUNT];
+        private @NonNullByDefault({}) ScheduledExecutorService watcher;
+        private @NonNullByDefault({}) ExecutorService scheduler;
+        private @NonNullByDefault({}) SafeCallManagerImpl manager;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            for (int i = 0; i < THING_COUNT; i++) {
+                things[i] = new Object();
+            }
+            watcher = Executors.newSingleThreadScheduledExecutor();
+            scheduler = Executors.newFixedThreadPool(POOL_SIZE);
+            manager = new SafeCallManagerImpl(watcher, scheduler, false);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            scheduler.shutdownNow();
+            watcher.shutdownNow();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+        private final AtomicInteger done = new AtomicInteger();
+        private final Runnable[] asyncProxies = new Runnable[THING_COUNT];
+        @SuppressWarnings("unchecked")
+        private final Supplier<Integer>[] syncProxies = new Supplier[THING_COUNT];
+
+        @Setup(Level.Trial)
+        public void setup(Manager manager) {
+            Runnable target = done::incrementAndGet;
+            Supplier<Integer> supplier = done::incrementAndGet;
+            for (int i = 0; i < THING_COUNT; i++) {
+                asyncProxies[i] = new SafeCallerBuilderImpl<>(target, new Class<?>[] { Runnable.class },
+                        manager.manager).withAsync().withIdentifier(manager.things[i]).withTimeout(TIMEOUT).build();
+                syncProxies[i] = new SafeCallerBuilderImpl<>(supplier, new Class<?>[] { Supplier.class },
+                        manager.manager).withIdentifier(manager.things[i]).withTimeout(TIMEOUT).build();
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int asyncCall(Caller caller) {
+        int expected = caller.done.get() + BATCH_SIZE;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            caller.asyncProxies[random.nextInt(THING_COUNT)].run();
+        }
+        while (caller.done.get() < expected) {
+            Thread.onSpinWait();
+        }
+        return expected;
+    }
+
+    @Benchmark
+    public Integer syncCall(Caller caller) {
+        return caller.syncProxies[ThreadLocalRandom.current().nextInt(THING_COUNT)].get();
+    }
+}